@@ -0,0 +1,25 @@
+package com.projuris.gamescatalog.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO com as contagens por faceta para um conjunto de filtros
+ * Gênero, desenvolvedora e publicadora vêm ordenados pela contagem (maior
+ * primeiro); anos em ordem crescente e faixas de preço na ordem das faixas.
+ * Valores sem games não são incluídos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetsDTO {
+    private long total;
+    private Map<String, Long> genres;
+    private Map<String, Long> developers;
+    private Map<String, Long> publishers;
+    private Map<Integer, Long> releaseYears;
+    private Map<String, Long> priceRanges;
+}
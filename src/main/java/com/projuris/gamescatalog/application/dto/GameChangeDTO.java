@@ -0,0 +1,26 @@
+package com.projuris.gamescatalog.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de uma alteração do catálogo publicada no feed de mudanças (SSE)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameChangeDTO {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    // Sequência monotônica do feed, enviada também como id do evento SSE
+    private long sequence;
+    private Type type;
+    private Long gameId;
+    private String title;
+    private String genre;
+    private LocalDateTime occurredAt;
+}
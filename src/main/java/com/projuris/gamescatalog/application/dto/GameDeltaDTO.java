@@ -0,0 +1,27 @@
+package com.projuris.gamescatalog.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de uma página da sincronização incremental (GET /api/games/delta)
+ * As alterações e deleções vêm em ordem de versão; o cliente aplica as duas
+ * listas e pede a próxima página com since=nextSince enquanto hasMore for
+ * true. Com resyncRequired o cliente deve recarregar o catálogo inteiro e
+ * continuar de currentVersion.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameDeltaDTO {
+    private long since;
+    private long nextSince;
+    private long currentVersion;
+    private boolean hasMore;
+    private boolean resyncRequired;
+    private List<GameDeltaEntryDTO> changed;
+    private List<GameTombstoneDTO> deleted;
+}
@@ -0,0 +1,16 @@
+package com.projuris.gamescatalog.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de um game criado ou atualizado na sincronização incremental
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameDeltaEntryDTO {
+    private long version;
+    private GameResponseDTO game;
+}
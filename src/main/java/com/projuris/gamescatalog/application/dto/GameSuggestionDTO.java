@@ -0,0 +1,18 @@
+package com.projuris.gamescatalog.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de sugestão de título (autocomplete)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameSuggestionDTO {
+    private Long id;
+    private String title;
+    private String genre;
+    private Integer releaseYear;
+}
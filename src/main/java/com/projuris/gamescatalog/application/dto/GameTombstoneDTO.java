@@ -0,0 +1,19 @@
+package com.projuris.gamescatalog.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de um game deletado na sincronização incremental
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameTombstoneDTO {
+    private Long id;
+    private long version;
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,18 @@
+package com.projuris.gamescatalog.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO com os erros de uma linha da importação NDJSON
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportLineErrorDTO {
+    private long line;
+    private List<String> messages;
+}
@@ -0,0 +1,22 @@
+package com.projuris.gamescatalog.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO com o resultado de uma importação NDJSON
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportDTO {
+    private long totalLines;
+    private long imported;
+    private long failed;
+    private List<ImportLineErrorDTO> errors;
+    // Indica que existem mais erros do que os listados em 'errors'
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,25 @@
+package com.projuris.gamescatalog.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de um bucket (folha) da árvore de Merkle do catálogo
+ * Lista o hash de cada game da faixa [firstId, lastId] em ordem de ID; a
+ * réplica compara com os próprios e busca apenas os games divergentes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MerkleBucketDTO {
+    private String algorithm;
+    private int bucketSize;
+    private long bucket;
+    private long firstId;
+    private long lastId;
+    private String hash;
+    private List<MerkleEntryDTO> entries;
+}
@@ -0,0 +1,16 @@
+package com.projuris.gamescatalog.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO do hash de conteúdo de um game dentro de um bucket da árvore de Merkle
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MerkleEntryDTO {
+    private Long id;
+    private String hash;
+}
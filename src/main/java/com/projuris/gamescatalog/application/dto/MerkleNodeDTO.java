@@ -0,0 +1,32 @@
+package com.projuris.gamescatalog.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de um nó da árvore de Merkle do catálogo (GET /api/games/merkle)
+ * O nó cobre os IDs [firstId, lastId]; children traz os hashes dos fanOut
+ * filhos (nível level + 1, índices index * fanOut em diante) e é nulo nas
+ * folhas (level = depth), que correspondem aos buckets. A réplica desce só
+ * pelos filhos cujo hash difere do seu. Réplicas só são comparáveis com o
+ * mesmo algorithm, bucketSize, fanOut e depth.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MerkleNodeDTO {
+    private String algorithm;
+    private int bucketSize;
+    private int fanOut;
+    private int depth;
+    private int level;
+    private long index;
+    private String hash;
+    private long firstId;
+    private long lastId;
+    private long gameCount;
+    private List<String> children;
+}
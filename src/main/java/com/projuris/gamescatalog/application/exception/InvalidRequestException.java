@@ -0,0 +1,18 @@
+package com.projuris.gamescatalog.application.exception;
+
+/**
+ * Parâmetros da requisição inválidos (respondido com 400)
+ * Lançada pelos use cases e pela validação das consultas; qualquer outra
+ * exceção, inclusive IllegalArgumentException de bibliotecas ou do próprio
+ * código, é tratada como erro interno.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
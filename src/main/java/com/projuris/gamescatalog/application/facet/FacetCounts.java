@@ -0,0 +1,92 @@
+package com.projuris.gamescatalog.application.facet;
+
+import com.projuris.gamescatalog.application.dto.FacetsDTO;
+import com.projuris.gamescatalog.domain.model.Game;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Acumulador de contagens por faceta, convertido em FacetsDTO ao final
+ */
+public class FacetCounts {
+
+    private long total;
+    private final Map<String, Long> genres = new HashMap<>();
+    private final Map<String, Long> developers = new HashMap<>();
+    private final Map<String, Long> publishers = new HashMap<>();
+    private final Map<Integer, Long> releaseYears = new TreeMap<>();
+    private final long[] priceRanges = new long[PriceRanges.count()];
+
+    /**
+     * Conta um game em todas as facetas
+     */
+    public void add(Game game) {
+        total++;
+        addGenre(game.getGenre(), 1);
+        addDeveloper(game.getDeveloper(), 1);
+        addPublisher(game.getPublisher(), 1);
+        if (game.getReleaseYear() != null) {
+            addReleaseYear(game.getReleaseYear(), 1);
+        }
+        int range = PriceRanges.of(game.getPrice());
+        if (range != PriceRanges.NONE) {
+            addPriceRange(range, 1);
+        }
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public void addGenre(String genre, long count) {
+        increment(genres, genre, count);
+    }
+
+    public void addDeveloper(String developer, long count) {
+        increment(developers, developer, count);
+    }
+
+    public void addPublisher(String publisher, long count) {
+        increment(publishers, publisher, count);
+    }
+
+    public void addReleaseYear(int year, long count) {
+        if (count > 0) {
+            releaseYears.merge(year, count, Long::sum);
+        }
+    }
+
+    public void addPriceRange(int range, long count) {
+        priceRanges[range] += count;
+    }
+
+    public FacetsDTO toDTO() {
+        Map<String, Long> prices = new LinkedHashMap<>();
+        for (int range = 0; range < priceRanges.length; range++) {
+            if (priceRanges[range] > 0) {
+                prices.put(PriceRanges.label(range), priceRanges[range]);
+            }
+        }
+        return new FacetsDTO(total, byCountDesc(genres), byCountDesc(developers), byCountDesc(publishers),
+                new LinkedHashMap<>(releaseYears), prices);
+    }
+
+    private static void increment(Map<String, Long> counts, String value, long count) {
+        if (value != null && count > 0) {
+            counts.merge(value, count, Long::sum);
+        }
+    }
+
+    private static Map<String, Long> byCountDesc(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+}
@@ -0,0 +1,46 @@
+package com.projuris.gamescatalog.application.facet;
+
+/**
+ * Faixas de preço usadas na faceta de preço
+ * Cada faixa inclui o limite inferior e exclui o superior; a última é aberta.
+ */
+public final class PriceRanges {
+
+    private static final double[] UPPER_BOUNDS = {50, 100, 150, 200};
+    private static final String[] LABELS = {"0-50", "50-100", "100-150", "150-200", "200+"};
+
+    public static final int NONE = -1;
+
+    private PriceRanges() {
+    }
+
+    public static int count() {
+        return LABELS.length;
+    }
+
+    /**
+     * Limites superiores (exclusivos) das faixas, exceto a última
+     */
+    public static double[] upperBounds() {
+        return UPPER_BOUNDS.clone();
+    }
+
+    /**
+     * Índice da faixa do preço (NONE quando não há preço)
+     */
+    public static int of(Double price) {
+        if (price == null) {
+            return NONE;
+        }
+        for (int range = 0; range < UPPER_BOUNDS.length; range++) {
+            if (price < UPPER_BOUNDS[range]) {
+                return range;
+            }
+        }
+        return UPPER_BOUNDS.length;
+    }
+
+    public static String label(int range) {
+        return LABELS[range];
+    }
+}
@@ -1,6 +1,7 @@
 package com.projuris.gamescatalog.application.mapper;
 
 import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.dto.GameSuggestionDTO;
 import com.projuris.gamescatalog.domain.model.Game;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
@@ -16,4 +17,6 @@ public interface GameMapper {
     GameMapper INSTANCE = Mappers.getMapper(GameMapper.class);
 
     GameResponseDTO toResponseDTO(Game game);
+
+    GameSuggestionDTO toSuggestionDTO(Game game);
 }
@@ -0,0 +1,328 @@
+package com.projuris.gamescatalog.application.merkle;
+
+import com.projuris.gamescatalog.application.dto.MerkleBucketDTO;
+import com.projuris.gamescatalog.application.dto.MerkleEntryDTO;
+import com.projuris.gamescatalog.application.dto.MerkleNodeDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.domain.model.Game;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Árvore de Merkle do conteúdo do catálogo, para comparar réplicas
+ * Os games são agrupados em buckets por faixa de ID (bucketSize IDs por
+ * bucket) e os buckets são as folhas de uma árvore de aridade fanOut, com a
+ * profundidade mínima para cobrir o maior bucket ocupado. Definições (SHA-256):
+ * <ul>
+ * <li>hash do game: primeiros 8 bytes do SHA-256 de id, título, descrição,
+ * desenvolvedora, publicadora, gênero, ano e preço em UTF-8, separados por
+ * U+001F (nulo = vazio, preço sem zeros à direita)</li>
+ * <li>folha: SHA-256 da concatenação de (id, hash do game), 8 bytes big-endian
+ * cada, em ordem de ID; bucket vazio = SHA-256 vazio</li>
+ * <li>nó interno: SHA-256 da concatenação dos hashes dos fanOut filhos</li>
+ * </ul>
+ * Atualizações invalidam apenas a folha e os ancestrais, recalculados sob
+ * demanda. Não é thread-safe.
+ */
+public class MerkleTree {
+
+    public static final String ALGORITHM = "SHA-256";
+
+    private static final char SEPARATOR = '\u001F';
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final int bucketSize;
+    private final int fanOut;
+    private final TreeMap<Long, Bucket> buckets = new TreeMap<>();
+    // Hashes de nós internos já calculados, por nível (0 = raiz)
+    private final List<Map<Long, byte[]>> nodeCache = new ArrayList<>();
+    // Hash de uma subárvore sem games, por altura (0 = folha)
+    private final List<byte[]> emptyHashes = new ArrayList<>();
+    private int depth;
+    private long gameCount;
+
+    public MerkleTree(int bucketSize, int fanOut) {
+        if (bucketSize < 1 || fanOut < 2) {
+            throw new IllegalArgumentException("bucketSize deve ser >= 1 e fanOut >= 2");
+        }
+        this.bucketSize = bucketSize;
+        this.fanOut = fanOut;
+        emptyHashes.add(sha256().digest());
+        nodeCache.add(new HashMap<>());
+    }
+
+    public void upsert(Game game) {
+        long bucketIndex = bucketOf(game.getId());
+        Bucket bucket = buckets.computeIfAbsent(bucketIndex, key -> new Bucket());
+        if (bucket.put(game.getId(), gameHash(game))) {
+            gameCount++;
+        }
+        resize();
+        invalidate(bucketIndex);
+    }
+
+    public void remove(Long gameId) {
+        long bucketIndex = bucketOf(gameId);
+        Bucket bucket = buckets.get(bucketIndex);
+        if (bucket == null || !bucket.remove(gameId)) {
+            return;
+        }
+        gameCount--;
+        if (bucket.size == 0) {
+            buckets.remove(bucketIndex);
+        }
+        resize();
+        invalidate(bucketIndex);
+    }
+
+    public void clear() {
+        buckets.clear();
+        gameCount = 0;
+        depth = 0;
+        nodeCache.clear();
+        nodeCache.add(new HashMap<>());
+    }
+
+    public long getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Nó no nível informado (0 = raiz, depth = buckets), com os hashes dos filhos
+     */
+    public MerkleNodeDTO node(int level, long index) {
+        if (level < 0 || level > depth) {
+            throw new InvalidRequestException("level deve estar entre 0 e " + depth);
+        }
+        long nodes = pow(fanOut, level);
+        if (index < 0 || index >= nodes) {
+            throw new InvalidRequestException("index deve estar entre 0 e " + (nodes - 1) + " no nível " + level);
+        }
+        long span = pow(fanOut, depth - level);
+        long firstBucket = index * span;
+        List<String> children = null;
+        if (level < depth) {
+            children = new ArrayList<>(fanOut);
+            for (int child = 0; child < fanOut; child++) {
+                children.add(HEX.formatHex(hash(level + 1, index * fanOut + child)));
+            }
+        }
+        return new MerkleNodeDTO(ALGORITHM, bucketSize, fanOut, depth, level, index,
+                HEX.formatHex(hash(level, index)), firstBucket * bucketSize,
+                (firstBucket + span) * bucketSize - 1, countGames(firstBucket, firstBucket + span), children);
+    }
+
+    /**
+     * Conteúdo de um bucket: o hash de cada game, para localizar os IDs divergentes
+     */
+    public MerkleBucketDTO bucket(long bucketIndex) {
+        if (bucketIndex < 0) {
+            throw new InvalidRequestException("bucket deve ser maior ou igual a 0");
+        }
+        if (bucketIndex > Long.MAX_VALUE / bucketSize) {
+            // O primeiro ID do bucket (bucketIndex * bucketSize) não caberia em long
+            throw new InvalidRequestException("bucket deve ser menor ou igual a " + Long.MAX_VALUE / bucketSize);
+        }
+        Bucket bucket = buckets.get(bucketIndex);
+        List<MerkleEntryDTO> entries = new ArrayList<>(bucket == null ? 0 : bucket.size);
+        if (bucket != null) {
+            for (int i = 0; i < bucket.size; i++) {
+                entries.add(new MerkleEntryDTO(bucket.ids[i], HEX.formatHex(longBytes(bucket.hashes[i]))));
+            }
+        }
+        return new MerkleBucketDTO(ALGORITHM, bucketSize, bucketIndex, bucketIndex * bucketSize,
+                (bucketIndex + 1) * bucketSize - 1, HEX.formatHex(leafHash(bucketIndex)), entries);
+    }
+
+    /**
+     * Hash de conteúdo de um game (primeiros 8 bytes do SHA-256 dos campos)
+     */
+    public static long gameHash(Game game) {
+        StringBuilder content = new StringBuilder(256)
+                .append(game.getId()).append(SEPARATOR)
+                .append(orEmpty(game.getTitle())).append(SEPARATOR)
+                .append(orEmpty(game.getDescription())).append(SEPARATOR)
+                .append(orEmpty(game.getDeveloper())).append(SEPARATOR)
+                .append(orEmpty(game.getPublisher())).append(SEPARATOR)
+                .append(orEmpty(game.getGenre())).append(SEPARATOR)
+                .append(game.getReleaseYear() == null ? "" : game.getReleaseYear()).append(SEPARATOR)
+                .append(game.getPrice() == null ? ""
+                        : BigDecimal.valueOf(game.getPrice()).stripTrailingZeros().toPlainString());
+        byte[] digest = sha256().digest(content.toString().getBytes(StandardCharsets.UTF_8));
+        return ByteBuffer.wrap(digest).getLong();
+    }
+
+    private byte[] hash(int level, long index) {
+        if (level == depth) {
+            return leafHash(index);
+        }
+        long span = pow(fanOut, depth - level);
+        long firstBucket = index * span;
+        if (buckets.subMap(firstBucket, firstBucket + span).isEmpty()) {
+            return emptyHash(depth - level);
+        }
+        Map<Long, byte[]> cache = nodeCache.get(level);
+        byte[] cached = cache.get(index);
+        if (cached != null) {
+            return cached;
+        }
+        MessageDigest digest = sha256();
+        for (int child = 0; child < fanOut; child++) {
+            digest.update(hash(level + 1, index * fanOut + child));
+        }
+        byte[] hash = digest.digest();
+        cache.put(index, hash);
+        return hash;
+    }
+
+    private byte[] leafHash(long bucketIndex) {
+        Bucket bucket = buckets.get(bucketIndex);
+        if (bucket == null) {
+            return emptyHashes.get(0);
+        }
+        if (bucket.hash == null) {
+            ByteBuffer content = ByteBuffer.allocate(bucket.size * 2 * Long.BYTES);
+            for (int i = 0; i < bucket.size; i++) {
+                content.putLong(bucket.ids[i]).putLong(bucket.hashes[i]);
+            }
+            bucket.hash = sha256().digest(content.array());
+        }
+        return bucket.hash;
+    }
+
+    private byte[] emptyHash(int height) {
+        while (emptyHashes.size() <= height) {
+            MessageDigest digest = sha256();
+            byte[] child = emptyHashes.get(emptyHashes.size() - 1);
+            for (int i = 0; i < fanOut; i++) {
+                digest.update(child);
+            }
+            emptyHashes.add(digest.digest());
+        }
+        return emptyHashes.get(height);
+    }
+
+    /**
+     * Ajusta a profundidade ao maior bucket ocupado (a forma depende só do
+     * conteúdo, não do histórico); com nova profundidade descarta os nós calculados
+     */
+    private void resize() {
+        long lastBucket = buckets.isEmpty() ? 0 : buckets.lastKey();
+        int required = 0;
+        while (pow(fanOut, required) <= lastBucket) {
+            required++;
+        }
+        if (required == depth) {
+            return;
+        }
+        depth = required;
+        nodeCache.clear();
+        for (int level = 0; level < Math.max(1, depth); level++) {
+            nodeCache.add(new HashMap<>());
+        }
+    }
+
+    private void invalidate(long bucketIndex) {
+        Bucket bucket = buckets.get(bucketIndex);
+        if (bucket != null) {
+            bucket.hash = null;
+        }
+        long index = bucketIndex;
+        for (int level = depth - 1; level >= 0; level--) {
+            index /= fanOut;
+            nodeCache.get(level).remove(index);
+        }
+    }
+
+    private long countGames(long fromBucket, long toBucketExclusive) {
+        long count = 0;
+        for (Bucket bucket : buckets.subMap(fromBucket, toBucketExclusive).values()) {
+            count += bucket.size;
+        }
+        return count;
+    }
+
+    private long bucketOf(Long gameId) {
+        return gameId / bucketSize;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result = Math.multiplyExact(result, base);
+        }
+        return result;
+    }
+
+    private static byte[] longBytes(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+
+    private static String orEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " indisponível", e);
+        }
+    }
+
+    /**
+     * Games de um bucket em arrays ordenados por ID (16 bytes por game)
+     */
+    private static final class Bucket {
+
+        private long[] ids = new long[8];
+        private long[] hashes = new long[8];
+        private int size;
+        // Hash da folha; null quando precisa ser recalculado
+        private byte[] hash;
+
+        /**
+         * Insere ou substitui; retorna true se o game é novo no bucket
+         */
+        private boolean put(long id, long gameHash) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                hashes[position] = gameHash;
+                return false;
+            }
+            int insertAt = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                hashes = Arrays.copyOf(hashes, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(hashes, insertAt, hashes, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            hashes[insertAt] = gameHash;
+            size++;
+            return true;
+        }
+
+        private boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            System.arraycopy(hashes, position + 1, hashes, position, size - position - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.projuris.gamescatalog.application.pagination;
+
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codificação do cursor opaco usado na paginação por keyset
+ * O cliente não deve interpretar o valor, apenas devolvê-lo no parâmetro
+ * 'after'
+ */
+public final class PageCursor {
+
+    private static final String PREFIX = "id:";
+    private static final long START = 0L;
+
+    private PageCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o cursor; vazio ou nulo significa o início da listagem
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new InvalidRequestException("Cursor inválido: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // Base64 inválido; NumberFormatException também é IllegalArgumentException
+            throw new InvalidRequestException("Cursor inválido: " + cursor, e);
+        }
+    }
+}
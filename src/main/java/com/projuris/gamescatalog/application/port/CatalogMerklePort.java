@@ -0,0 +1,17 @@
+package com.projuris.gamescatalog.application.port;
+
+import com.projuris.gamescatalog.application.dto.MerkleBucketDTO;
+import com.projuris.gamescatalog.application.dto.MerkleNodeDTO;
+
+/**
+ * Port (Interface) para a árvore de Merkle do catálogo mantida em memória
+ * Quando isAvailable() retorna false os use cases devem usar o GameRepository.
+ */
+public interface CatalogMerklePort {
+
+    boolean isAvailable();
+
+    MerkleNodeDTO node(int level, long index);
+
+    MerkleBucketDTO bucket(long bucket);
+}
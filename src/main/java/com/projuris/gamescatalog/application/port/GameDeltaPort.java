@@ -0,0 +1,32 @@
+package com.projuris.gamescatalog.application.port;
+
+import java.util.List;
+
+/**
+ * Port (Interface) para a sincronização incremental do catálogo por versão
+ * Cada escrita em um game (criação, atualização ou deleção) recebe uma versão
+ * do catálogo única e crescente; as deleções ficam registradas como
+ * tombstones durante a janela de retenção.
+ */
+public interface GameDeltaPort {
+
+    /**
+     * Maior versão que pode ser lida sem pular escritas ainda não confirmadas
+     */
+    long currentVersion();
+
+    /**
+     * Tombstones com versão até este valor já foram removidos pela retenção
+     */
+    long purgedThroughVersion();
+
+    /**
+     * Games cuja última escrita tem versão em (since, upTo], em ordem de versão
+     */
+    List<VersionedGame> findGamesChangedAfter(long since, long upTo, int limit);
+
+    /**
+     * Tombstones com versão em (since, upTo], em ordem de versão
+     */
+    List<GameTombstone> findTombstonesAfter(long since, long upTo, int limit);
+}
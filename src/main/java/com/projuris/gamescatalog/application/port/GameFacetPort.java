@@ -0,0 +1,15 @@
+package com.projuris.gamescatalog.application.port;
+
+import com.projuris.gamescatalog.application.dto.FacetsDTO;
+import com.projuris.gamescatalog.domain.model.GameFilter;
+
+/**
+ * Port (Interface) para contagem de facetas do catálogo
+ * Quando isAvailable() retorna false os use cases devem usar o GameRepository.
+ */
+public interface GameFacetPort {
+
+    boolean isAvailable();
+
+    FacetsDTO count(GameFilter filter);
+}
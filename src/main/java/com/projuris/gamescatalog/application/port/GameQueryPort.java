@@ -0,0 +1,23 @@
+package com.projuris.gamescatalog.application.port;
+
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+
+import java.util.List;
+
+/**
+ * Port (Interface) para consultas de listagem atendidas fora do repositório
+ * (ex: modelo de leitura em memória)
+ * Quando isAvailable() retorna false os use cases devem usar o GameRepository.
+ */
+public interface GameQueryPort {
+
+    boolean isAvailable();
+
+    List<GameResponseDTO> findAll(int page, int size);
+
+    List<GameResponseDTO> findByGenre(String genre, int page, int size);
+
+    List<GameResponseDTO> findAllAfter(long afterId, int size);
+
+    List<GameResponseDTO> findByGenreAfter(String genre, long afterId, int size);
+}
@@ -0,0 +1,16 @@
+package com.projuris.gamescatalog.application.port;
+
+/**
+ * Port (Interface) para busca textual em título e descrição
+ * Quando isAvailable() retorna false os use cases devem usar o GameRepository.
+ */
+public interface GameSearchPort {
+
+    boolean isAvailable();
+
+    /**
+     * Busca ranqueada por relevância (maior primeiro); offset além dos
+     * resultados retorna uma página vazia com o total
+     */
+    SearchHits search(String query, long offset, int limit);
+}
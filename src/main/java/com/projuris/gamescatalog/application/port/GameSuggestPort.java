@@ -0,0 +1,22 @@
+package com.projuris.gamescatalog.application.port;
+
+import com.projuris.gamescatalog.application.dto.GameSuggestionDTO;
+
+import java.util.List;
+
+/**
+ * Port (Interface) para sugestões de títulos por prefixo (autocomplete)
+ * Quando isAvailable() retorna false os use cases devem usar o GameRepository.
+ */
+public interface GameSuggestPort {
+
+    // Quantidade máxima de sugestões por consulta
+    int MAX_LIMIT = 50;
+
+    boolean isAvailable();
+
+    /**
+     * Sugestões ordenadas pela pontuação de popularidade configurada
+     */
+    List<GameSuggestionDTO> suggest(String prefix, int limit);
+}
@@ -0,0 +1,18 @@
+package com.projuris.gamescatalog.application.port;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de um game deletado, com a versão do catálogo da deleção
+ */
+@Getter
+@AllArgsConstructor
+public class GameTombstone {
+
+    private final Long gameId;
+    private final long version;
+    private final LocalDateTime deletedAt;
+}
@@ -0,0 +1,18 @@
+package com.projuris.gamescatalog.application.port;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Resultado de uma busca textual: IDs da página em ordem de relevância e o
+ * total de games encontrados
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHits {
+
+    private final List<Long> gameIds;
+    private final long totalHits;
+}
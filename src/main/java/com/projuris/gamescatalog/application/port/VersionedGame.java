@@ -0,0 +1,16 @@
+package com.projuris.gamescatalog.application.port;
+
+import com.projuris.gamescatalog.domain.model.Game;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Game com a versão do catálogo da sua última escrita
+ */
+@Getter
+@AllArgsConstructor
+public class VersionedGame {
+
+    private final Game game;
+    private final long version;
+}
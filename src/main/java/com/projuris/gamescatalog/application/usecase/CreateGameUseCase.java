@@ -5,10 +5,10 @@ import com.projuris.gamescatalog.application.dto.GameResponseDTO;
 import com.projuris.gamescatalog.application.mapper.GameMapper;
 import com.projuris.gamescatalog.domain.model.Game;
 import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.cache.GameByIdCacheWriter;
 import com.projuris.gamescatalog.infrastructure.events.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,9 +23,9 @@ public class CreateGameUseCase {
     private final GameRepository gameRepository;
     private final GameMapper gameMapper;
     private final DomainEventPublisher eventPublisher;
+    private final GameByIdCacheWriter gameByIdCacheWriter;
 
     @Transactional
-    @CacheEvict(value = { "games", "gamesByGenre" }, allEntries = true)
     public GameResponseDTO execute(GameRequestDTO request) {
         log.info("CreateGameUseCase.execute - Iniciando criação de game: title={}", request.getTitle());
 
@@ -46,6 +46,8 @@ public class CreateGameUseCase {
         eventPublisher.publishDomainEvents(savedGame);
 
         GameResponseDTO response = gameMapper.toResponseDTO(savedGame);
+        // Write-through em gameById após o commit; as listagens são invalidadas pelo GameCacheEventHandler
+        gameByIdCacheWriter.putAfterCommit(response);
         log.info("CreateGameUseCase.execute - Game criado com sucesso: id={}", response.getId());
         return response;
     }
@@ -0,0 +1,58 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.GameRequestDTO;
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.events.DomainEventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case para criação de games em lote
+ * Uma única transação, um único evento de domínio e uma única invalidação de
+ * cache por lote
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CreateGamesBatchUseCase {
+
+    private final GameRepository gameRepository;
+    private final GameMapper gameMapper;
+    private final DomainEventPublisher eventPublisher;
+
+    @Transactional
+    public List<GameResponseDTO> execute(List<GameRequestDTO> requests) {
+        log.info("CreateGamesBatchUseCase.execute - Iniciando criação de lote com {} games", requests.size());
+
+        List<Game> games = requests.stream()
+                .map(request -> Game.create(
+                        request.getTitle(),
+                        request.getDescription(),
+                        request.getDeveloper(),
+                        request.getPublisher(),
+                        request.getGenre(),
+                        request.getReleaseYear(),
+                        request.getPrice()))
+                .collect(Collectors.toList());
+
+        List<Game> savedGames = gameRepository.saveAll(games);
+        log.debug("CreateGamesBatchUseCase.execute - Lote salvo no repositório: {} games", savedGames.size());
+
+        savedGames.forEach(Game::markAsCreated);
+        eventPublisher.publishDomainEvents(savedGames);
+
+        List<GameResponseDTO> response = savedGames.stream()
+                .map(gameMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        log.info("CreateGamesBatchUseCase.execute - Lote criado com sucesso: {} games", response.size());
+        return response;
+    }
+}
@@ -5,7 +5,6 @@ import com.projuris.gamescatalog.domain.repository.GameRepository;
 import com.projuris.gamescatalog.infrastructure.events.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +22,6 @@ public class DeleteGameUseCase {
     private final DomainEventPublisher eventPublisher;
 
     @Transactional
-    @CacheEvict(value = { "gameById", "games", "gamesByGenre" }, allEntries = true)
     public void execute(Long id) {
         log.debug("DeleteGameUseCase.execute - Deletando game com ID: {}", id);
 
@@ -35,9 +33,9 @@ public class DeleteGameUseCase {
 
         log.debug("DeleteGameUseCase.execute - Game encontrado: title={}, marcando para deleção", game.getTitle());
         game.delete();
-        eventPublisher.publishDomainEvents(game);
-
         gameRepository.deleteById(id);
+        // Publica após a deleção: o evento (e o outbox) reflete uma escrita já feita na transação
+        eventPublisher.publishDomainEvents(game);
         log.debug("DeleteGameUseCase.execute - Game deletado com sucesso: id={}", id);
     }
 }
@@ -0,0 +1,32 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Use Case para exportar o catálogo completo em streaming
+ * Cada game é entregue ao consumer assim que lido, sem materializar a lista
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportGamesUseCase {
+
+    private final GameRepository gameRepository;
+    private final GameMapper gameMapper;
+
+    public long execute(String genre, LocalDateTime updatedSince, Consumer<GameResponseDTO> consumer) {
+        log.info("ExportGamesUseCase.execute - Iniciando exportação: genre={}, updatedSince={}", genre, updatedSince);
+        long exported = gameRepository.streamAll(genre, updatedSince,
+                game -> consumer.accept(gameMapper.toResponseDTO(game)));
+        log.info("ExportGamesUseCase.execute - Exportação concluída: {} games", exported);
+        return exported;
+    }
+}
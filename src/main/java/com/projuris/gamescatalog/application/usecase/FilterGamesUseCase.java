@@ -0,0 +1,68 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.dto.PageResponseDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.domain.model.GameFilter;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case para listar games combinando vários critérios de filtro
+ * (gênero, desenvolvedora, publicadora, intervalo de anos e de preço)
+ * O deslocamento (page * size) é limitado por app.filter.max-offset: o banco
+ * lê e descarta todas as linhas anteriores, então páginas profundas devem ser
+ * evitadas refinando o filtro ou usando a listagem por cursor.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FilterGamesUseCase {
+
+    private final GameRepository gameRepository;
+    private final GameMapper gameMapper;
+    private final ApplicationProperties applicationProperties;
+
+    public PageResponseDTO<GameResponseDTO> execute(GameFilter filter, int page, int size) {
+        log.debug("FilterGamesUseCase.execute - Listando games por filtro: filter={}, page={}, size={}", filter, page,
+                size);
+        validateOffset(page, size);
+
+        List<GameResponseDTO> content = gameRepository.findByFilter(filter, page, size).stream()
+                .map(gameMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        // Página incompleta na primeira página dispensa o COUNT
+        long totalElements = page == 0 && content.size() < size
+                ? content.size()
+                : gameRepository.countByFilter(filter);
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+
+        log.debug("FilterGamesUseCase.execute - Retornando página {} de {} com {} games", page, totalPages,
+                content.size());
+
+        return new PageResponseDTO<>(
+                content,
+                page,
+                size,
+                totalElements,
+                totalPages,
+                page == 0,
+                page >= totalPages - 1);
+    }
+
+    private void validateOffset(int page, int size) {
+        long offset = (long) page * size;
+        long maxOffset = applicationProperties.getFilter().getMaxOffset();
+        if (offset > maxOffset) {
+            throw new InvalidRequestException("Página além do deslocamento máximo (page * size <= " + maxOffset
+                    + "): refine o filtro ou use a listagem por cursor (parâmetro after)");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.GameDeltaDTO;
+import com.projuris.gamescatalog.application.dto.GameDeltaEntryDTO;
+import com.projuris.gamescatalog.application.dto.GameTombstoneDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.application.port.GameDeltaPort;
+import com.projuris.gamescatalog.application.port.GameTombstone;
+import com.projuris.gamescatalog.application.port.VersionedGame;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use Case para a sincronização incremental do catálogo
+ * Retorna os games alterados e os deletados depois da versão informada, em
+ * uma única sequência ordenada por versão e paginada por ela: o custo de uma
+ * sincronização é proporcional às mudanças, não ao catálogo.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetCatalogDeltaUseCase {
+
+    private final GameDeltaPort gameDeltaPort;
+    private final GameMapper gameMapper;
+
+    @Transactional(readOnly = true)
+    public GameDeltaDTO execute(long since, int size) {
+        if (since < 0) {
+            throw new InvalidRequestException("since deve ser maior ou igual a 0");
+        }
+        // Lida antes das consultas: nada acima dela é retornado, mesmo que confirme durante a leitura
+        long current = gameDeltaPort.currentVersion();
+        if (since > current || since < gameDeltaPort.purgedThroughVersion()) {
+            log.info("GetCatalogDeltaUseCase.execute - Versão fora da janela de sincronização: since={}, "
+                    + "atual={}, tombstonesRemovidosAte={}", since, current, gameDeltaPort.purgedThroughVersion());
+            return new GameDeltaDTO(since, current, current, false, true, List.of(), List.of());
+        }
+
+        List<VersionedGame> games = gameDeltaPort.findGamesChangedAfter(since, current, size + 1);
+        List<GameTombstone> tombstones = gameDeltaPort.findTombstonesAfter(since, current, size + 1);
+
+        // Intercala as duas listas por versão até completar a página
+        List<GameDeltaEntryDTO> changed = new ArrayList<>();
+        List<GameTombstoneDTO> deleted = new ArrayList<>();
+        int g = 0;
+        int t = 0;
+        long lastVersion = since;
+        while (changed.size() + deleted.size() < size && (g < games.size() || t < tombstones.size())) {
+            if (t >= tombstones.size()
+                    || (g < games.size() && games.get(g).getVersion() < tombstones.get(t).getVersion())) {
+                VersionedGame game = games.get(g++);
+                changed.add(new GameDeltaEntryDTO(game.getVersion(), gameMapper.toResponseDTO(game.getGame())));
+                lastVersion = game.getVersion();
+            } else {
+                GameTombstone tombstone = tombstones.get(t++);
+                deleted.add(new GameTombstoneDTO(tombstone.getGameId(), tombstone.getVersion(),
+                        tombstone.getDeletedAt()));
+                lastVersion = tombstone.getVersion();
+            }
+        }
+        boolean hasMore = g < games.size() || t < tombstones.size();
+        long nextSince = hasMore ? lastVersion : current;
+
+        log.debug("GetCatalogDeltaUseCase.execute - Delta calculado: since={}, alterados={}, deletados={}, "
+                + "nextSince={}, hasMore={}", since, changed.size(), deleted.size(), nextSince, hasMore);
+        return new GameDeltaDTO(since, nextSince, current, hasMore, false, changed, deleted);
+    }
+}
@@ -0,0 +1,80 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.MerkleBucketDTO;
+import com.projuris.gamescatalog.application.dto.MerkleNodeDTO;
+import com.projuris.gamescatalog.application.merkle.MerkleTree;
+import com.projuris.gamescatalog.application.port.CatalogMerklePort;
+import com.projuris.gamescatalog.application.port.GameDeltaPort;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use Case para a verificação de réplicas do catálogo por árvore de Merkle
+ * A réplica compara a raiz com a sua; se diferir desce apenas pelos filhos
+ * com hash divergente até os buckets e, nestes, compara o hash de cada game
+ * para buscar só os IDs alterados. Usa a árvore mantida em memória quando
+ * disponível e, caso contrário, monta a árvore percorrendo o catálogo uma vez
+ * por versão do catálogo (GameDeltaPort.currentVersion): as consultas
+ * seguintes da mesma descida reutilizam a árvore montada.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetCatalogMerkleUseCase {
+
+    private final GameRepository gameRepository;
+    private final CatalogMerklePort catalogMerklePort;
+    private final ApplicationProperties applicationProperties;
+    private final GameDeltaPort gameDeltaPort;
+
+    private final Object fallbackLock = new Object();
+    private volatile FallbackTree fallbackTree;
+
+    public MerkleNodeDTO node(int level, long index) {
+        log.debug("GetCatalogMerkleUseCase.node - Consultando nó: level={}, index={}", level, index);
+        if (catalogMerklePort.isAvailable()) {
+            return catalogMerklePort.node(level, index);
+        }
+        return buildTree().node(level, index);
+    }
+
+    public MerkleBucketDTO bucket(long bucket) {
+        log.debug("GetCatalogMerkleUseCase.bucket - Consultando bucket: bucket={}", bucket);
+        if (catalogMerklePort.isAvailable()) {
+            return catalogMerklePort.bucket(bucket);
+        }
+        return buildTree().bucket(bucket);
+    }
+
+    /**
+     * Árvore montada pelo repositório, reutilizada enquanto a versão do catálogo
+     * não mudar; a versão é lida antes do streaming, então uma escrita
+     * confirmada durante a montagem só faz a próxima consulta montar de novo
+     */
+    private MerkleTree buildTree() {
+        long version = gameDeltaPort.currentVersion();
+        FallbackTree cached = fallbackTree;
+        if (cached != null && cached.version() == version) {
+            return cached.tree();
+        }
+        synchronized (fallbackLock) {
+            cached = fallbackTree;
+            if (cached != null && cached.version() == version) {
+                return cached.tree();
+            }
+            ApplicationProperties.Merkle properties = applicationProperties.getMerkle();
+            MerkleTree tree = new MerkleTree(properties.getBucketSize(), properties.getFanOut());
+            long total = gameRepository.streamAll(null, null, tree::upsert);
+            fallbackTree = new FallbackTree(version, tree);
+            log.debug("GetCatalogMerkleUseCase.buildTree - Árvore montada pelo repositório: total={}, versão={}",
+                    total, version);
+            return tree;
+        }
+    }
+
+    private record FallbackTree(long version, MerkleTree tree) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.FacetsDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.application.facet.FacetCounts;
+import com.projuris.gamescatalog.application.facet.PriceRanges;
+import com.projuris.gamescatalog.application.port.GameFacetPort;
+import com.projuris.gamescatalog.domain.model.GameAttribute;
+import com.projuris.gamescatalog.domain.model.GameFilter;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use Case para contagem de facetas (gênero, desenvolvedora, publicadora, ano e
+ * faixa de preço) dos games que atendem aos filtros
+ * Usa o índice de facetas em memória quando disponível e, caso contrário,
+ * recorre a contagens agrupadas (COUNT/GROUP BY) no repositório.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GetFacetsUseCase {
+
+    private final GameRepository gameRepository;
+    private final GameFacetPort gameFacetPort;
+
+    public FacetsDTO execute(GameFilter filter) {
+        if (filter.getYearFrom() != null && filter.getYearTo() != null && filter.getYearFrom() > filter.getYearTo()) {
+            throw new InvalidRequestException("yearFrom deve ser menor ou igual a yearTo");
+        }
+        log.debug("GetFacetsUseCase.execute - Contando facetas: filter={}", filter);
+
+        if (gameFacetPort.isAvailable()) {
+            return gameFacetPort.count(filter);
+        }
+
+        FacetCounts counts = new FacetCounts();
+        counts.setTotal(gameRepository.countMatching(filter));
+        gameRepository.countMatchingGroupedBy(filter, GameAttribute.GENRE).forEach(counts::addGenre);
+        gameRepository.countMatchingGroupedBy(filter, GameAttribute.DEVELOPER).forEach(counts::addDeveloper);
+        gameRepository.countMatchingGroupedBy(filter, GameAttribute.PUBLISHER).forEach(counts::addPublisher);
+        gameRepository.countMatchingGroupedByReleaseYear(filter).forEach(counts::addReleaseYear);
+        gameRepository.countMatchingGroupedByPriceRange(filter, PriceRanges.upperBounds())
+                .forEach(counts::addPriceRange);
+        FacetsDTO result = counts.toDTO();
+        log.debug("GetFacetsUseCase.execute - Facetas calculadas pelo repositório: total={}", result.getTotal());
+        return result;
+    }
+}
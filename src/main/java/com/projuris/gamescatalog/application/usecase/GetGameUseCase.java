@@ -6,6 +6,7 @@ import com.projuris.gamescatalog.domain.model.Game;
 import com.projuris.gamescatalog.domain.repository.GameRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -22,16 +23,31 @@ public class GetGameUseCase {
     private final GameRepository gameRepository;
     private final GameMapper gameMapper;
 
-    @Cacheable(value = "gameById", key = "#id")
+    // sync: requisições simultâneas pela mesma chave aguardam uma única carga
+    @Cacheable(value = "gameById", key = "#id", sync = true)
     public GameResponseDTO execute(Long id) {
         log.debug("GetGameUseCase.execute - Buscando game com ID: {}", id);
+        return load(id, "execute");
+    }
+
+    /**
+     * Lê o game do repositório ignorando o cache e substitui a entrada em
+     * gameById; usado quando a entrada diverge da versão conhecida
+     */
+    @CachePut(value = "gameById", key = "#id")
+    public GameResponseDTO reload(Long id) {
+        log.debug("GetGameUseCase.reload - Recarregando game com ID: {}", id);
+        return load(id, "reload");
+    }
+
+    private GameResponseDTO load(Long id, String method) {
         Game game = gameRepository.findById(id)
                 .orElseThrow(() -> {
-                    log.warn("GetGameUseCase.execute - Game não encontrado com ID: {}", id);
+                    log.warn("GetGameUseCase.{} - Game não encontrado com ID: {}", method, id);
                     return new NoSuchElementException("Game não encontrado com ID: " + id);
                 });
 
-        log.debug("GetGameUseCase.execute - Game encontrado: id={}, title={}", id, game.getTitle());
+        log.debug("GetGameUseCase.{} - Game encontrado: id={}, title={}", method, id, game.getTitle());
         return gameMapper.toResponseDTO(game);
     }
 }
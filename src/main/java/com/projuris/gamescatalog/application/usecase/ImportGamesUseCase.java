@@ -0,0 +1,202 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.projuris.gamescatalog.application.dto.GameRequestDTO;
+import com.projuris.gamescatalog.application.dto.ImportLineErrorDTO;
+import com.projuris.gamescatalog.application.dto.ImportReportDTO;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case para importação em massa de games a partir de NDJSON
+ * O corpo é lido linha a linha (nunca é carregado inteiro em memória), cada
+ * linha é validada com as mesmas regras do GameRequestDTO e os games válidos
+ * são gravados em blocos, um commit por bloco. Linhas maiores que
+ * app.bulk-import.max-line-length são descartadas durante a leitura (sem
+ * acumular o conteúdo) e reportadas como erro.
+ */
+@Service
+@Slf4j
+public class ImportGamesUseCase {
+
+    private final CreateGamesBatchUseCase createGamesBatchUseCase;
+    private final ObjectReader gameReader;
+    private final Validator validator;
+    private final ApplicationProperties applicationProperties;
+
+    public ImportGamesUseCase(CreateGamesBatchUseCase createGamesBatchUseCase, ObjectMapper objectMapper,
+            Validator validator, ApplicationProperties applicationProperties) {
+        this.createGamesBatchUseCase = createGamesBatchUseCase;
+        this.gameReader = objectMapper.readerFor(GameRequestDTO.class);
+        this.validator = validator;
+        this.applicationProperties = applicationProperties;
+    }
+
+    public ImportReportDTO execute(InputStream body) throws IOException {
+        int chunkSize = Math.max(1, applicationProperties.getBulkImport().getChunkSize());
+        int maxLineLength = Math.max(1, applicationProperties.getBulkImport().getMaxLineLength());
+        ImportState state = new ImportState(applicationProperties.getBulkImport().getMaxReportedErrors());
+        log.info("ImportGamesUseCase.execute - Iniciando importação NDJSON: chunkSize={}", chunkSize);
+
+        List<GameRequestDTO> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        LineReader reader = new LineReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), maxLineLength);
+        long lineNumber = 0;
+        while (reader.next()) {
+            lineNumber++;
+            if (reader.oversized) {
+                state.totalLines++;
+                state.fail(lineNumber, List.of("Linha excede o limite de " + maxLineLength + " caracteres"));
+                continue;
+            }
+            String line = reader.line.toString();
+            if (line.isBlank()) {
+                continue;
+            }
+            state.totalLines++;
+
+            GameRequestDTO request = parse(line, lineNumber, state);
+            if (request == null) {
+                continue;
+            }
+
+            chunk.add(request);
+            chunkLines.add(lineNumber);
+            if (chunk.size() >= chunkSize) {
+                commit(chunk, chunkLines, state);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            commit(chunk, chunkLines, state);
+        }
+
+        log.info("ImportGamesUseCase.execute - Importação concluída: linhas={}, importados={}, falhas={}",
+                state.totalLines, state.imported, state.failed);
+        return new ImportReportDTO(state.totalLines, state.imported, state.failed, state.errors,
+                state.failed > state.errors.size());
+    }
+
+    private GameRequestDTO parse(String line, long lineNumber, ImportState state) {
+        GameRequestDTO request;
+        try {
+            request = gameReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            state.fail(lineNumber, List.of("JSON inválido: " + e.getOriginalMessage()));
+            return null;
+        }
+        if (request == null) {
+            state.fail(lineNumber, List.of("Linha não contém um game"));
+            return null;
+        }
+
+        Set<ConstraintViolation<GameRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            state.fail(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.toList()));
+            return null;
+        }
+        return request;
+    }
+
+    private void commit(List<GameRequestDTO> chunk, List<Long> chunkLines, ImportState state) {
+        try {
+            createGamesBatchUseCase.execute(chunk);
+            state.imported += chunk.size();
+            log.debug("ImportGamesUseCase.commit - Bloco de {} games gravado (total={})", chunk.size(),
+                    state.imported);
+        } catch (Exception e) {
+            log.error("ImportGamesUseCase.commit - Erro ao gravar bloco de {} games", chunk.size(), e);
+            for (Long chunkLine : chunkLines) {
+                state.fail(chunkLine, List.of("Erro ao gravar o bloco: " + e.getMessage()));
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    /**
+     * Leitor de linhas com tamanho máximo: o restante de uma linha grande é
+     * consumido sem ser guardado
+     */
+    private static class LineReader {
+        private final Reader reader;
+        private final int maxLineLength;
+        private final StringBuilder line = new StringBuilder();
+        private boolean oversized;
+
+        LineReader(Reader reader, int maxLineLength) {
+            this.reader = reader;
+            this.maxLineLength = maxLineLength;
+        }
+
+        /**
+         * Lê a próxima linha (\n, \r\n ou \r); retorna false no fim do corpo
+         */
+        boolean next() throws IOException {
+            line.setLength(0);
+            oversized = false;
+            int c = reader.read();
+            if (c == -1) {
+                return false;
+            }
+            while (c != -1 && c != '\n' && c != '\r') {
+                if (line.length() < maxLineLength) {
+                    line.append((char) c);
+                } else {
+                    oversized = true;
+                }
+                c = reader.read();
+            }
+            if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Estado acumulado da importação; a lista de erros é limitada para manter a
+     * memória constante
+     */
+    private static class ImportState {
+        private final int maxReportedErrors;
+        private final List<ImportLineErrorDTO> errors = new ArrayList<>();
+        private long totalLines;
+        private long imported;
+        private long failed;
+
+        ImportState(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void fail(long line, List<String> messages) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportLineErrorDTO(line, messages));
+            }
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.projuris.gamescatalog.application.usecase;
 
+import com.projuris.gamescatalog.application.dto.CursorPageResponseDTO;
 import com.projuris.gamescatalog.application.dto.GameResponseDTO;
 import com.projuris.gamescatalog.application.dto.PageResponseDTO;
 import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.application.pagination.PageCursor;
+import com.projuris.gamescatalog.application.port.GameQueryPort;
 import com.projuris.gamescatalog.domain.model.Game;
 import com.projuris.gamescatalog.domain.repository.GameRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,7 @@ public class ListGamesByGenreUseCase {
 
     private final GameRepository gameRepository;
     private final GameMapper gameMapper;
+    private final GameQueryPort gameQueryPort;
 
     @Cacheable(value = "gamesByGenre", key = "#genre")
     public List<GameResponseDTO> execute(String genre) {
@@ -38,18 +42,22 @@ public class ListGamesByGenreUseCase {
         return result;
     }
 
+    /**
+     * Listagem paginada atendida pelo modelo de leitura em memória quando
+     * disponível, com fallback para o repositório
+     */
     public PageResponseDTO<GameResponseDTO> execute(String genre, int page, int size) {
         log.debug("ListGamesByGenreUseCase.execute - Listando games por gênero paginados: genre={}, page={}, size={}",
                 genre, page, size);
 
-        List<Game> games = gameRepository.findByGenre(genre, page, size);
+        List<GameResponseDTO> content = gameQueryPort.isAvailable()
+                ? gameQueryPort.findByGenre(genre, page, size)
+                : gameRepository.findByGenre(genre, page, size).stream()
+                        .map(gameMapper::toResponseDTO)
+                        .collect(Collectors.toList());
         long totalElements = gameRepository.countByGenre(genre);
         int totalPages = (int) Math.ceil((double) totalElements / size);
 
-        List<GameResponseDTO> content = games.stream()
-                .map(gameMapper::toResponseDTO)
-                .collect(Collectors.toList());
-
         log.debug("ListGamesByGenreUseCase.execute - Retornando página {} de {} com {} games para gênero {}", page,
                 totalPages, content.size(), genre);
 
@@ -64,4 +72,38 @@ public class ListGamesByGenreUseCase {
 
         return response;
     }
+
+    /**
+     * Paginação por cursor (keyset) dentro de um gênero, apoiada no índice
+     * (genre, id)
+     */
+    public CursorPageResponseDTO<GameResponseDTO> executeAfter(String genre, String after, int size,
+            boolean withTotal) {
+        long afterId = PageCursor.decode(after);
+        log.debug("ListGamesByGenreUseCase.executeAfter - Listando games por gênero e cursor: genre={}, afterId={}, size={}, withTotal={}",
+                genre, afterId, size, withTotal);
+
+        // Busca um item extra para saber se existe próxima página
+        boolean hasNext;
+        List<GameResponseDTO> content;
+        if (gameQueryPort.isAvailable()) {
+            List<GameResponseDTO> games = gameQueryPort.findByGenreAfter(genre, afterId, size + 1);
+            hasNext = games.size() > size;
+            content = hasNext ? games.subList(0, size) : games;
+        } else {
+            List<Game> games = gameRepository.findByGenreAfter(genre, afterId, size + 1);
+            hasNext = games.size() > size;
+            content = games.stream()
+                    .limit(size)
+                    .map(gameMapper::toResponseDTO)
+                    .collect(Collectors.toList());
+        }
+
+        String nextCursor = hasNext ? PageCursor.encode(content.get(content.size() - 1).getId()) : null;
+        Long totalElements = withTotal ? gameRepository.countByGenre(genre) : null;
+
+        log.debug("ListGamesByGenreUseCase.executeAfter - Retornando {} games para gênero {}, hasNext={}",
+                content.size(), genre, hasNext);
+        return new CursorPageResponseDTO<>(content, size, nextCursor, hasNext, totalElements);
+    }
 }
@@ -1,8 +1,11 @@
 package com.projuris.gamescatalog.application.usecase;
 
+import com.projuris.gamescatalog.application.dto.CursorPageResponseDTO;
 import com.projuris.gamescatalog.application.dto.GameResponseDTO;
 import com.projuris.gamescatalog.application.dto.PageResponseDTO;
 import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.application.pagination.PageCursor;
+import com.projuris.gamescatalog.application.port.GameQueryPort;
 import com.projuris.gamescatalog.domain.model.Game;
 import com.projuris.gamescatalog.domain.repository.GameRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,7 @@ public class ListGamesUseCase {
 
     private final GameRepository gameRepository;
     private final GameMapper gameMapper;
+    private final GameQueryPort gameQueryPort;
 
     @Cacheable(value = "games")
     public List<GameResponseDTO> execute() {
@@ -38,17 +42,21 @@ public class ListGamesUseCase {
         return result;
     }
 
+    /**
+     * Listagem paginada atendida pelo modelo de leitura em memória quando
+     * disponível, com fallback para o repositório
+     */
     public PageResponseDTO<GameResponseDTO> execute(int page, int size) {
         log.debug("ListGamesUseCase.execute - Listando games paginados: page={}, size={}", page, size);
 
-        List<Game> games = gameRepository.findAll(page, size);
+        List<GameResponseDTO> content = gameQueryPort.isAvailable()
+                ? gameQueryPort.findAll(page, size)
+                : gameRepository.findAll(page, size).stream()
+                        .map(gameMapper::toResponseDTO)
+                        .collect(Collectors.toList());
         long totalElements = gameRepository.count();
         int totalPages = (int) Math.ceil((double) totalElements / size);
 
-        List<GameResponseDTO> content = games.stream()
-                .map(gameMapper::toResponseDTO)
-                .collect(Collectors.toList());
-
         log.debug("ListGamesUseCase.execute - Retornando página {} de {} com {} games", page, totalPages,
                 content.size());
 
@@ -63,4 +71,36 @@ public class ListGamesUseCase {
 
         return response;
     }
+
+    /**
+     * Paginação por cursor (keyset): busca por ID sem OFFSET e só executa o
+     * COUNT quando withTotal for verdadeiro
+     */
+    public CursorPageResponseDTO<GameResponseDTO> executeAfter(String after, int size, boolean withTotal) {
+        long afterId = PageCursor.decode(after);
+        log.debug("ListGamesUseCase.executeAfter - Listando games por cursor: afterId={}, size={}, withTotal={}",
+                afterId, size, withTotal);
+
+        // Busca um item extra para saber se existe próxima página
+        boolean hasNext;
+        List<GameResponseDTO> content;
+        if (gameQueryPort.isAvailable()) {
+            List<GameResponseDTO> games = gameQueryPort.findAllAfter(afterId, size + 1);
+            hasNext = games.size() > size;
+            content = hasNext ? games.subList(0, size) : games;
+        } else {
+            List<Game> games = gameRepository.findAllAfter(afterId, size + 1);
+            hasNext = games.size() > size;
+            content = games.stream()
+                    .limit(size)
+                    .map(gameMapper::toResponseDTO)
+                    .collect(Collectors.toList());
+        }
+
+        String nextCursor = hasNext ? PageCursor.encode(content.get(content.size() - 1).getId()) : null;
+        Long totalElements = withTotal ? gameRepository.count() : null;
+
+        log.debug("ListGamesUseCase.executeAfter - Retornando {} games, hasNext={}", content.size(), hasNext);
+        return new CursorPageResponseDTO<>(content, size, nextCursor, hasNext, totalElements);
+    }
 }
@@ -0,0 +1,87 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.dto.PageResponseDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.application.port.GameSearchPort;
+import com.projuris.gamescatalog.application.port.SearchHits;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case para busca textual de games em título e descrição
+ * Usa o índice de busca (ranqueado por relevância) quando disponível e, caso
+ * contrário, uma busca por substring no repositório (ordenada por ID).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchGamesUseCase {
+
+    private final GameRepository gameRepository;
+    private final GameMapper gameMapper;
+    private final GameSearchPort gameSearchPort;
+
+    public PageResponseDTO<GameResponseDTO> execute(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("O termo de busca é obrigatório");
+        }
+        log.debug("SearchGamesUseCase.execute - Buscando games: query={}, page={}, size={}", query, page, size);
+
+        // Em long: page * size pode exceder int
+        long offset = (long) page * size;
+        List<GameResponseDTO> content;
+        long totalElements;
+        if (gameSearchPort.isAvailable()) {
+            SearchHits hits = gameSearchPort.search(query, offset, size);
+            content = hydrate(hits.getGameIds());
+            totalElements = hits.getTotalHits();
+        } else {
+            totalElements = gameRepository.countByText(query.trim());
+            // Página além dos resultados: vazia, sem o OFFSET (que o JPA limita a int)
+            content = offset >= totalElements ? List.of()
+                    : gameRepository.searchByText(query.trim(), page, size).stream()
+                            .map(gameMapper::toResponseDTO)
+                            .collect(Collectors.toList());
+        }
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+
+        log.debug("SearchGamesUseCase.execute - Retornando página {} de {} com {} games (total={})", page, totalPages,
+                content.size(), totalElements);
+
+        return new PageResponseDTO<>(
+                content,
+                page,
+                size,
+                totalElements,
+                totalPages,
+                page == 0,
+                page >= totalPages - 1);
+    }
+
+    /**
+     * Carrega os games da página por ID preservando a ordem de relevância
+     */
+    private List<GameResponseDTO> hydrate(List<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Game> games = gameRepository.findAllById(gameIds).stream()
+                .collect(Collectors.toMap(Game::getId, Function.identity()));
+        return gameIds.stream()
+                .map(games::get)
+                .filter(Objects::nonNull)
+                .map(gameMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,44 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.GameSuggestionDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.application.port.GameSuggestPort;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case para sugestões de títulos por prefixo (autocomplete)
+ * Usa a estrutura de prefixos em memória quando disponível e, caso contrário,
+ * uma busca por prefixo no repositório (ordenada por título).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestGamesUseCase {
+
+    private final GameRepository gameRepository;
+    private final GameMapper gameMapper;
+    private final GameSuggestPort gameSuggestPort;
+
+    public List<GameSuggestionDTO> execute(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("O prefixo é obrigatório");
+        }
+        log.debug("SuggestGamesUseCase.execute - Sugerindo títulos: prefix={}, limit={}", prefix, limit);
+
+        if (gameSuggestPort.isAvailable()) {
+            return gameSuggestPort.suggest(prefix, limit);
+        }
+        List<GameSuggestionDTO> result = gameRepository.findByTitlePrefix(prefix.trim(), limit).stream()
+                .map(gameMapper::toSuggestionDTO)
+                .collect(Collectors.toList());
+        log.debug("SuggestGamesUseCase.execute - Retornando {} sugestões do repositório", result.size());
+        return result;
+    }
+}
@@ -8,7 +8,6 @@ import com.projuris.gamescatalog.domain.repository.GameRepository;
 import com.projuris.gamescatalog.infrastructure.events.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,7 +26,6 @@ public class UpdateGameUseCase {
     private final DomainEventPublisher eventPublisher;
 
     @Transactional
-    @CacheEvict(value = { "gameById", "games", "gamesByGenre" }, allEntries = true)
     public GameResponseDTO execute(Long id, GameRequestDTO request) {
         log.debug("UpdateGameUseCase.execute - Atualizando game com ID: {}, title={}", id, request.getTitle());
 
@@ -49,7 +47,8 @@ public class UpdateGameUseCase {
 
         Game updatedGame = gameRepository.save(game);
         log.debug("UpdateGameUseCase.execute - Game atualizado e salvo: id={}", updatedGame.getId());
-        eventPublisher.publishDomainEvents(updatedGame);
+        // Os eventos ficam no agregado alterado; o Game devolvido pelo save é reconstruído da entidade
+        eventPublisher.publishDomainEvents(game);
 
         return gameMapper.toResponseDTO(updatedGame);
     }
@@ -13,12 +13,29 @@ public class GameCreatedEvent implements Serializable {
     private final Long gameId;
     private final String title;
     private final String developer;
+    private final String genre;
     private final LocalDateTime occurredAt;
 
     public GameCreatedEvent(Game game) {
         this.gameId = game.getId();
         this.title = game.getTitle();
         this.developer = game.getDeveloper();
+        this.genre = game.getGenre();
         this.occurredAt = LocalDateTime.now();
     }
+
+    private GameCreatedEvent(Long gameId, String title, String developer, String genre, LocalDateTime occurredAt) {
+        this.gameId = gameId;
+        this.title = title;
+        this.developer = developer;
+        this.genre = genre;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * Criação seguida de atualização do mesmo game: uma única criação com o estado atualizado
+     */
+    public GameCreatedEvent withUpdate(GameUpdatedEvent update) {
+        return new GameCreatedEvent(gameId, update.getTitle(), developer, update.getGenre(), update.getOccurredAt());
+    }
 }
@@ -12,11 +12,13 @@ public class GameDeletedEvent implements Serializable {
 
     private final Long gameId;
     private final String title;
+    private final String genre;
     private final LocalDateTime occurredAt;
 
     public GameDeletedEvent(Game game) {
         this.gameId = game.getId();
         this.title = game.getTitle();
+        this.genre = game.getGenre();
         this.occurredAt = LocalDateTime.now();
     }
 }
@@ -12,11 +12,33 @@ public class GameUpdatedEvent implements Serializable {
 
     private final Long gameId;
     private final String title;
+    private final String genre;
+    // Gênero antes da atualização, necessário para mover contadores e caches por gênero
+    private final String previousGenre;
     private final LocalDateTime occurredAt;
 
-    public GameUpdatedEvent(Game game) {
+    public GameUpdatedEvent(Game game, String previousGenre) {
         this.gameId = game.getId();
         this.title = game.getTitle();
+        this.genre = game.getGenre();
+        this.previousGenre = previousGenre;
         this.occurredAt = LocalDateTime.now();
     }
+
+    private GameUpdatedEvent(Long gameId, String title, String genre, String previousGenre,
+            LocalDateTime occurredAt) {
+        this.gameId = gameId;
+        this.title = title;
+        this.genre = genre;
+        this.previousGenre = previousGenre;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * Duas atualizações seguidas do mesmo game: o estado da última, com o gênero anterior à primeira
+     */
+    public GameUpdatedEvent mergedWith(GameUpdatedEvent later) {
+        return new GameUpdatedEvent(gameId, later.getTitle(), later.getGenre(), previousGenre,
+                later.getOccurredAt());
+    }
 }
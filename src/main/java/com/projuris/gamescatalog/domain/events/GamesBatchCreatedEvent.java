@@ -0,0 +1,29 @@
+package com.projuris.gamescatalog.domain.events;
+
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Evento único para um lote de games criados na mesma transação
+ * Permite que os handlers processem o lote de uma vez (ex: uma única
+ * invalidação de cache)
+ */
+@Getter
+public class GamesBatchCreatedEvent implements Serializable {
+    private static final long serialVersionUID = 5129384756102938475L;
+
+    private final List<GameCreatedEvent> events;
+    private final LocalDateTime occurredAt;
+
+    public GamesBatchCreatedEvent(List<GameCreatedEvent> events) {
+        this.events = List.copyOf(events);
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public int size() {
+        return events.size();
+    }
+}
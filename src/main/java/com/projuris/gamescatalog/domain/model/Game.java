@@ -79,6 +79,7 @@ public class Game {
 
     public void update(String title, String description, String developer,
             String publisher, String genre, Integer releaseYear, Double price) {
+        String previousGenre = this.genre;
         this.title = title;
         this.description = description;
         this.developer = developer;
@@ -87,7 +88,7 @@ public class Game {
         this.releaseYear = releaseYear;
         this.price = price;
         this.updatedAt = LocalDateTime.now();
-        this.addDomainEvent(new GameUpdatedEvent(this));
+        this.addDomainEvent(new GameUpdatedEvent(this, previousGenre));
     }
 
     public void delete() {
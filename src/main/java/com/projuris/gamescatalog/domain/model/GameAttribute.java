@@ -0,0 +1,10 @@
+package com.projuris.gamescatalog.domain.model;
+
+/**
+ * Atributos textuais do game usados em contagens agrupadas (facetas)
+ */
+public enum GameAttribute {
+    GENRE,
+    DEVELOPER,
+    PUBLISHER
+}
@@ -0,0 +1,54 @@
+package com.projuris.gamescatalog.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Critérios de filtro do catálogo (todos opcionais e combinados com E)
+ * Intervalos de ano e de preço são inclusivos nos dois extremos.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class GameFilter {
+
+    private final String genre;
+    private final String developer;
+    private final String publisher;
+    private final Integer yearFrom;
+    private final Integer yearTo;
+    private final Double priceMin;
+    private final Double priceMax;
+
+    public static GameFilter empty() {
+        return new GameFilter(null, null, null, null, null, null, null);
+    }
+
+    public boolean isEmpty() {
+        return genre == null && developer == null && publisher == null && !hasYearRange() && !hasPriceRange();
+    }
+
+    public boolean hasYearRange() {
+        return yearFrom != null || yearTo != null;
+    }
+
+    public boolean hasPriceRange() {
+        return priceMin != null || priceMax != null;
+    }
+
+    /**
+     * Verifica se o game atende a todos os critérios informados
+     */
+    public boolean matches(Game game) {
+        return (genre == null || genre.equals(game.getGenre()))
+                && (developer == null || developer.equals(game.getDeveloper()))
+                && (publisher == null || publisher.equals(game.getPublisher()))
+                && (yearFrom == null || (game.getReleaseYear() != null && game.getReleaseYear() >= yearFrom))
+                && (yearTo == null || (game.getReleaseYear() != null && game.getReleaseYear() <= yearTo))
+                && (priceMin == null || (game.getPrice() != null && game.getPrice() >= priceMin))
+                && (priceMax == null || (game.getPrice() != null && game.getPrice() <= priceMax));
+    }
+}
@@ -1,9 +1,15 @@
 package com.projuris.gamescatalog.domain.repository;
 
 import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.model.GameAttribute;
+import com.projuris.gamescatalog.domain.model.GameFilter;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Port (Interface) para o repositório de Games
@@ -13,8 +19,15 @@ public interface GameRepository {
 
     Game save(Game game);
 
+    /**
+     * Persiste um lote de games usando inserts em lote (JDBC batching)
+     */
+    List<Game> saveAll(List<Game> games);
+
     Optional<Game> findById(Long id);
 
+    List<Game> findAllById(Collection<Long> ids);
+
     List<Game> findAll();
 
     List<Game> findAll(int page, int size);
@@ -23,6 +36,55 @@ public interface GameRepository {
 
     List<Game> findByGenre(String genre, int page, int size);
 
+    /**
+     * Busca textual (substring) em título e descrição, paginada
+     */
+    List<Game> searchByText(String text, int page, int size);
+
+    long countByText(String text);
+
+    List<Game> findByTitlePrefix(String prefix, int limit);
+
+    /**
+     * Busca paginada (ordenada por ID) combinando os critérios do filtro
+     */
+    List<Game> findByFilter(GameFilter filter, int page, int size);
+
+    long countByFilter(GameFilter filter);
+
+    /**
+     * Contagens para as facetas: não exigem critério indexado como o
+     * findByFilter, mas cada uma é um único COUNT/GROUP BY no banco em vez de
+     * percorrer os games. Games sem valor no atributo não entram nos grupos.
+     */
+    long countMatching(GameFilter filter);
+
+    Map<String, Long> countMatchingGroupedBy(GameFilter filter, GameAttribute attribute);
+
+    Map<Integer, Long> countMatchingGroupedByReleaseYear(GameFilter filter);
+
+    /**
+     * Contagem por faixa de preço: a faixa i vai de upperBounds[i - 1]
+     * (inclusive) a upperBounds[i] (exclusive) e a última, de índice
+     * upperBounds.length, é aberta
+     */
+    Map<Integer, Long> countMatchingGroupedByPriceRange(GameFilter filter, double[] upperBounds);
+
+    /**
+     * Paginação por keyset: games com ID maior que afterId, ordenados por ID
+     */
+    List<Game> findAllAfter(long afterId, int size);
+
+    List<Game> findByGenreAfter(String genre, long afterId, int size);
+
+    /**
+     * Percorre os games sem materializar a lista, entregando um a um ao consumer
+     * Filtros nulos são ignorados
+     *
+     * @return quantidade de games entregues
+     */
+    long streamAll(String genre, LocalDateTime updatedSince, Consumer<Game> consumer);
+
     long count();
 
     long countByGenre(String genre);
@@ -32,4 +94,9 @@ public interface GameRepository {
     void deleteById(Long id);
 
     boolean existsById(Long id);
+
+    /**
+     * Verifica se existe ao menos um game, sem contar ou carregar a tabela
+     */
+    boolean existsAny();
 }
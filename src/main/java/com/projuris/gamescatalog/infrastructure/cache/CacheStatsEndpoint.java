@@ -0,0 +1,106 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.projuris.gamescatalog.infrastructure.web.cache.ResponseBytesCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Endpoint do Actuator (/actuator/cachestats) com tamanho e taxa de acerto de cada cache
+ * Lista os caches do Spring (e o nível off-heap do gameById, quando habilitado)
+ * e os caches de respostas serializadas, para ajustar limites e expirações em
+ * produção sem precisar cruzar as métricas.
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+
+    private final CacheManager cacheManager;
+    private final ResponseBytesCache responseBytesCache;
+
+    @ReadOperation
+    public Map<String, CacheSummary> cacheStats() {
+        Map<String, CacheSummary> result = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                result.put(name, CacheSummary.of(cache.getNativeCache()));
+                if (cache instanceof OffHeapTieredCache tiered) {
+                    result.put(name + ".offHeap", CacheSummary.of(tiered.getOffHeapStore()));
+                }
+            }
+        }
+        responseBytesCache.nativeCaches().forEach((name, caffeine) -> result.put(name, CacheSummary.of(caffeine)));
+        return result;
+    }
+
+    /**
+     * Resumo de um cache; weightedSize e maximumWeight só existem nos caches limitados por peso (bytes)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CacheSummary {
+
+        private final long estimatedSize;
+        private final Long weightedSize;
+        private final Long maximumWeight;
+        private final Long maximumSize;
+        private final long hitCount;
+        private final long missCount;
+        private final double hitRate;
+        private final long evictionCount;
+        private final long evictionWeight;
+        private final long loadCount;
+        private final double averageLoadPenaltyMillis;
+
+        static CacheSummary of(Cache<?, ?> cache) {
+            CacheStats stats = cache.stats();
+            Policy.Eviction<?, ?> eviction = cache.policy().eviction().orElse(null);
+            boolean weighted = eviction != null && eviction.isWeighted();
+            Long maximum = eviction != null ? eviction.getMaximum() : null;
+            Long weightedSize = weighted && eviction.weightedSize().isPresent()
+                    ? eviction.weightedSize().getAsLong()
+                    : null;
+            return new CacheSummary(
+                    cache.estimatedSize(),
+                    weightedSize,
+                    weighted ? maximum : null,
+                    weighted ? null : maximum,
+                    stats.hitCount(),
+                    stats.missCount(),
+                    stats.hitRate(),
+                    stats.evictionCount(),
+                    stats.evictionWeight(),
+                    stats.loadCount(),
+                    stats.averageLoadPenalty() / 1_000_000.0);
+        }
+
+        static CacheSummary of(OffHeapGameStore store) {
+            long hits = store.hitCount();
+            long requests = hits + store.missCount();
+            return new CacheSummary(
+                    store.size(),
+                    store.usedBytes(),
+                    store.capacityBytes(),
+                    null,
+                    hits,
+                    store.missCount(),
+                    requests == 0 ? 1.0 : (double) hits / requests,
+                    store.evictionCount(),
+                    store.evictionBytes(),
+                    0,
+                    0.0);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.dto.PageResponseDTO;
+import com.projuris.gamescatalog.application.usecase.GetGameUseCase;
+import com.projuris.gamescatalog.application.usecase.ListGamesByGenreUseCase;
+import com.projuris.gamescatalog.application.usecase.ListGamesUseCase;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.config.CacheConfig;
+import com.projuris.gamescatalog.infrastructure.web.cache.ResponseBytesCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Persiste as chaves quentes dos caches e as recarrega na inicialização
+ * Periodicamente e no encerramento grava em app.cache-warmup.snapshot-file os
+ * IDs de gameById, os gêneros de gamesByGenre e as páginas serializadas mais
+ * acessados. No ApplicationReadyEvent (depois da reconstrução das projeções) o
+ * snapshot é carregado em lotes paralelos pelos próprios use cases, então os
+ * caches são preenchidos pelo caminho normal. O evento é síncrono: o
+ * readinessState só passa a ACCEPTING_TRAFFIC ao fim do aquecimento, limitado
+ * por app.cache-warmup.time-budget.
+ */
+@Component
+@Slf4j
+public class CacheWarmer {
+
+    private final ApplicationProperties applicationProperties;
+    private final CacheManager cacheManager;
+    private final ResponseBytesCache responseBytesCache;
+    private final ObjectMapper objectMapper;
+    private final GetGameUseCase getGameUseCase;
+    private final ListGamesByGenreUseCase listGamesByGenreUseCase;
+    private final ListGamesUseCase listGamesUseCase;
+    private final Counter gamesCounter;
+    private final Counter genresCounter;
+    private final Counter pagesCounter;
+    private final Counter failedCounter;
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger processed = new AtomicInteger();
+    private volatile boolean running;
+    // Snapshots só são gravados depois do aquecimento, para não sobrescrever o anterior com caches vazios
+    private volatile boolean completed;
+
+    public CacheWarmer(ApplicationProperties applicationProperties, CacheManager cacheManager,
+            ResponseBytesCache responseBytesCache, ObjectMapper objectMapper, GetGameUseCase getGameUseCase,
+            ListGamesByGenreUseCase listGamesByGenreUseCase, ListGamesUseCase listGamesUseCase,
+            MeterRegistry meterRegistry) {
+        this.applicationProperties = applicationProperties;
+        this.cacheManager = cacheManager;
+        this.responseBytesCache = responseBytesCache;
+        this.objectMapper = objectMapper;
+        this.getGameUseCase = getGameUseCase;
+        this.listGamesByGenreUseCase = listGamesByGenreUseCase;
+        this.listGamesUseCase = listGamesUseCase;
+        this.gamesCounter = warmedCounter(meterRegistry, "game");
+        this.genresCounter = warmedCounter(meterRegistry, "genre");
+        this.pagesCounter = warmedCounter(meterRegistry, "page");
+        this.failedCounter = Counter.builder("games.cache.warmup.failed")
+                .description("Chaves do snapshot que não puderam ser carregadas")
+                .register(meterRegistry);
+        Gauge.builder("games.cache.warmup.progress", this, CacheWarmer::getProgress)
+                .description("Fração das chaves do snapshot já processadas no aquecimento")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void warmUp() {
+        ApplicationProperties.CacheWarmup properties = properties();
+        if (!properties.isEnabled()) {
+            completed = true;
+            return;
+        }
+        HotKeySnapshot snapshot = readSnapshot();
+        if (snapshot == null || snapshot.size() == 0) {
+            completed = true;
+            return;
+        }
+
+        running = true;
+        total.set(snapshot.size());
+        processed.set(0);
+        long start = System.nanoTime();
+        long deadline = start + properties.getTimeBudget().toNanos();
+        log.info("CacheWarmer.warmUp - Aquecendo caches: games={}, gêneros={}, páginas={}, snapshot={}",
+                snapshot.getGameIds().size(), snapshot.getGenres().size(), snapshot.getPages().size(),
+                snapshot.getCreatedAt());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getParallelism()));
+        try {
+            submitBatches(executor, snapshot.getGameIds(), getGameUseCase::execute, gamesCounter, deadline);
+            submitBatches(executor, snapshot.getGenres(), listGamesByGenreUseCase::execute, genresCounter, deadline);
+            if (responseBytesCache.isEnabled()) {
+                submitBatches(executor, snapshot.getPages(), this::warmPage, pagesCounter, deadline);
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                log.warn("CacheWarmer.warmUp - Tempo de aquecimento esgotado: processadas={} de {}",
+                        processed.get(), total.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("CacheWarmer.warmUp - Aquecimento interrompido: processadas={} de {}", processed.get(),
+                    total.get());
+        } finally {
+            executor.shutdownNow();
+            running = false;
+            completed = true;
+        }
+        log.info("CacheWarmer.warmUp - Caches aquecidos: processadas={} de {}, falhas={} em {} ms",
+                processed.get(), total.get(), (long) failedCounter.count(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache-warmup.snapshot-interval:PT5M}",
+            initialDelayString = "${app.cache-warmup.snapshot-interval:PT5M}")
+    public void scheduledSnapshot() {
+        writeSnapshot();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void snapshotOnShutdown() {
+        writeSnapshot();
+    }
+
+    /**
+     * Grava o snapshot atual (arquivo temporário + move atômico); retorna false
+     * se desabilitado, antes do aquecimento ou com os caches vazios
+     */
+    public synchronized boolean writeSnapshot() {
+        ApplicationProperties.CacheWarmup properties = properties();
+        if (!properties.isEnabled() || !completed) {
+            return false;
+        }
+        HotKeySnapshot snapshot = captureSnapshot();
+        if (snapshot.size() == 0) {
+            log.debug("CacheWarmer.writeSnapshot - Caches vazios, snapshot anterior mantido");
+            return false;
+        }
+        Path file = Path.of(properties.getSnapshotFile()).toAbsolutePath();
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), snapshot);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("CacheWarmer.writeSnapshot - Snapshot gravado: arquivo={}, chaves={}", file, snapshot.size());
+            return true;
+        } catch (IOException e) {
+            log.warn("CacheWarmer.writeSnapshot - Falha ao gravar snapshot: arquivo={}", file, e);
+            deleteQuietly(temp);
+            return false;
+        }
+    }
+
+    public HotKeySnapshot captureSnapshot() {
+        ApplicationProperties.CacheWarmup properties = properties();
+        return new HotKeySnapshot(Instant.now(),
+                hottest(springCache(CacheConfig.GAME_BY_ID_CACHE), properties.getMaxGameIds(), Long.class),
+                hottest(springCache(CacheConfig.GAMES_BY_GENRE_CACHE), properties.getMaxGenres(), String.class),
+                hottest(responseBytesCache.nativeCaches().get(ResponseBytesCache.PAGES_CACHE_NAME),
+                        properties.getMaxPages(), String.class));
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public int getTotal() {
+        return total.get();
+    }
+
+    public int getProcessed() {
+        return processed.get();
+    }
+
+    public double getProgress() {
+        int keys = total.get();
+        return keys == 0 ? (completed ? 1.0 : 0.0) : (double) processed.get() / keys;
+    }
+
+    HotKeySnapshot readSnapshot() {
+        Path file = Path.of(properties().getSnapshotFile()).toAbsolutePath();
+        if (!Files.isRegularFile(file)) {
+            log.info("CacheWarmer.readSnapshot - Sem snapshot de chaves quentes: arquivo={}", file);
+            return null;
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), HotKeySnapshot.class);
+        } catch (IOException e) {
+            log.warn("CacheWarmer.readSnapshot - Snapshot ilegível ignorado: arquivo={}", file, e);
+            return null;
+        }
+    }
+
+    private <K> void submitBatches(ExecutorService executor, List<K> keys, Consumer<K> loader, Counter counter,
+            long deadline) {
+        int batchSize = Math.max(1, properties().getBatchSize());
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            List<K> batch = keys.subList(from, Math.min(from + batchSize, keys.size()));
+            executor.submit(() -> {
+                for (K key : batch) {
+                    if (System.nanoTime() >= deadline || Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    try {
+                        loader.accept(key);
+                        counter.increment();
+                    } catch (RuntimeException e) {
+                        failedCounter.increment();
+                        log.debug("CacheWarmer.submitBatches - Chave não carregada: key={}, erro={}", key,
+                                e.getMessage());
+                    } finally {
+                        processed.incrementAndGet();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Monta a página como o GameController e a grava no cache de bytes (chave genre|page|size)
+     */
+    private void warmPage(String key) {
+        int sizeSeparator = key.lastIndexOf('|');
+        int pageSeparator = key.lastIndexOf('|', sizeSeparator - 1);
+        String genre = key.substring(0, pageSeparator);
+        int page = Integer.parseInt(key.substring(pageSeparator + 1, sizeSeparator));
+        int size = Integer.parseInt(key.substring(sizeSeparator + 1));
+        long generation = responseBytesCache.pageGeneration();
+        PageResponseDTO<GameResponseDTO> response = genre.isEmpty()
+                ? listGamesUseCase.execute(page, size)
+                : listGamesByGenreUseCase.execute(genre, page, size);
+        responseBytesCache.putPage(key, response, generation);
+    }
+
+    private Cache<?, ?> springCache(String name) {
+        return cacheManager.getCache(name) instanceof CaffeineCache cache ? cache.getNativeCache() : null;
+    }
+
+    private static <K> List<K> hottest(Cache<?, ?> cache, int limit, Class<K> type) {
+        if (cache == null || limit <= 0) {
+            return new ArrayList<>();
+        }
+        return cache.policy().eviction()
+                .map(eviction -> eviction.hottest(limit).keySet().stream()
+                        .filter(type::isInstance)
+                        .map(type::cast)
+                        .collect(Collectors.toList()))
+                .orElseGet(ArrayList::new);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("CacheWarmer.deleteQuietly - Arquivo temporário não removido: {}", path);
+        }
+    }
+
+    private static Counter warmedCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("games.cache.warmup.loaded")
+                .description("Chaves do snapshot carregadas no aquecimento")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private ApplicationProperties.CacheWarmup properties() {
+        return applicationProperties.getCacheWarmup();
+    }
+}
@@ -0,0 +1,28 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health do aquecimento dos caches (cacheWarmup), incluído no grupo readiness
+ * Fica OUT_OF_SERVICE até o CacheWarmer terminar e expõe o progresso.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmer cacheWarmer;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = cacheWarmer.isCompleted() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("running", cacheWarmer.isRunning())
+                .withDetail("processed", cacheWarmer.getProcessed())
+                .withDetail("total", cacheWarmer.getTotal())
+                .withDetail("progress", cacheWarmer.getProgress())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+
+import java.util.Collection;
+
+/**
+ * Weigher dos caches do Spring: peso = bytes estimados do valor no heap
+ * A estimativa considera referências comprimidas (64 bits) e strings compactas
+ * (1 byte por caractere latin-1), de modo que a lista completa do catálogo pesa
+ * proporcionalmente ao número de games em vez de contar como uma entrada.
+ */
+public final class CacheWeigher implements Weigher<Object, Object> {
+
+    public static final CacheWeigher INSTANCE = new CacheWeigher();
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    // String (24) + cabeçalho do byte[] (16)
+    private static final int STRING_OVERHEAD = 40;
+    // Long/Integer/Double em caixa
+    private static final int BOXED = 16;
+    // LocalDateTime + LocalDate + LocalTime
+    private static final int DATE_TIME = 72;
+    // Entrada de cache do Caffeine (nó, chave e referências)
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final int DEFAULT_VALUE = 64;
+
+    private CacheWeigher() {
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD + estimate(key) + estimate(value));
+    }
+
+    static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof GameResponseDTO game) {
+            return OBJECT_HEADER + 10 * REFERENCE
+                    + BOXED + BOXED + BOXED
+                    + string(game.getTitle()) + string(game.getDescription()) + string(game.getDeveloper())
+                    + string(game.getPublisher()) + string(game.getGenre())
+                    + DATE_TIME + DATE_TIME;
+        }
+        if (value instanceof Collection<?> collection) {
+            long total = OBJECT_HEADER + OBJECT_HEADER + (long) REFERENCE * collection.size();
+            for (Object element : collection) {
+                total += estimate(element);
+            }
+            return total;
+        }
+        if (value instanceof CharSequence text) {
+            return string(text);
+        }
+        if (value instanceof Number) {
+            return BOXED;
+        }
+        return DEFAULT_VALUE;
+    }
+
+    private static long string(CharSequence text) {
+        return text == null ? 0 : STRING_OVERHEAD + text.length();
+    }
+}
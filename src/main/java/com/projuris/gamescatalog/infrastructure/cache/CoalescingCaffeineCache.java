@@ -0,0 +1,47 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * CaffeineCache que contabiliza as requisições atendidas pela carga de outra
+ * Com @Cacheable(sync = true) as falhas simultâneas de uma mesma chave esperam
+ * uma única carga (compute do Caffeine); cada requisição que encontrou a chave
+ * ausente mas não executou o loader conta como espera coalescida. O lookup não
+ * dispara o CacheLoader, que fica reservado ao refresh em segundo plano.
+ */
+public class CoalescingCaffeineCache extends CaffeineCache {
+
+    private final Counter coalescedCounter;
+
+    public CoalescingCaffeineCache(String name, Cache<Object, Object> cache,
+            boolean allowNullValues, Counter coalescedCounter) {
+        super(name, cache, allowNullValues);
+        this.coalescedCounter = coalescedCounter;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return getNativeCache().getIfPresent(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (getNativeCache().getIfPresent(key) != null) {
+            return super.get(key, valueLoader);
+        }
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = super.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        if (!loaded.get()) {
+            coalescedCounter.increment();
+        }
+        return value;
+    }
+}
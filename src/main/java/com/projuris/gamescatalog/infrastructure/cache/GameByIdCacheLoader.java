@@ -0,0 +1,64 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.config.CacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loader do cache gameById usado no refresh-ahead (refreshAfterWrite)
+ * Recarrega em segundo plano as entradas acessadas depois do intervalo de
+ * refresh, mantendo o valor antigo disponível durante a recarga. Um game que
+ * deixou de existir retorna null e a entrada é removida.
+ */
+@Component
+@Slf4j
+public class GameByIdCacheLoader implements CacheLoader<Object, Object> {
+
+    private final GameRepository gameRepository;
+    private final GameMapper gameMapper;
+    private final Counter refreshedCounter;
+    private final Counter removedCounter;
+    private final Counter failedCounter;
+
+    public GameByIdCacheLoader(GameRepository gameRepository, GameMapper gameMapper, MeterRegistry meterRegistry) {
+        this.gameRepository = gameRepository;
+        this.gameMapper = gameMapper;
+        this.refreshedCounter = refreshCounter(meterRegistry, "refreshed");
+        this.removedCounter = refreshCounter(meterRegistry, "removed");
+        this.failedCounter = refreshCounter(meterRegistry, "failed");
+    }
+
+    @Override
+    public Object load(Object key) {
+        return gameRepository.findById((Long) key)
+                .map(gameMapper::toResponseDTO)
+                .orElse(null);
+    }
+
+    @Override
+    public Object reload(Object key, Object oldValue) {
+        try {
+            Object value = load(key);
+            (value != null ? refreshedCounter : removedCounter).increment();
+            log.trace("GameByIdCacheLoader.reload - Entrada recarregada: id={}, encontrado={}", key, value != null);
+            return value;
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("GameByIdCacheLoader.reload - Falha ao recarregar game: id={}", key, e);
+            throw e;
+        }
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("games.cache.refresh")
+                .description("Recargas em segundo plano (refresh-ahead) do cache")
+                .tag("cache", CacheConfig.GAME_BY_ID_CACHE)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,51 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.infrastructure.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+
+/**
+ * Write-through do cache gameById ciente de transação
+ * O @CachePut grava ao sair do método, antes do commit: um rollback deixaria no
+ * cache um game que não existe. Aqui a gravação é adiada para depois do commit
+ * (sem transação ativa, grava na hora) e não sobrescreve uma entrada que uma
+ * leitura já tenha carregado do banco nesse intervalo. Não usa o
+ * TransactionAwareCacheDecorator no gameById para não adiar também as
+ * invalidações síncronas do GameCacheEventHandler nem esconder o
+ * OffHeapTieredCache do CacheStatsEndpoint.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameByIdCacheWriter {
+
+    private final CacheManager cacheManager;
+
+    public void putAfterCommit(GameResponseDTO game) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(game);
+                }
+            });
+        } else {
+            put(game);
+        }
+    }
+
+    private void put(GameResponseDTO game) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.GAME_BY_ID_CACHE),
+                CacheConfig.GAME_BY_ID_CACHE);
+        cache.putIfAbsent(game.getId(), game);
+        log.trace("GameByIdCacheWriter.put - Game gravado em gameById: id={}", game.getId());
+    }
+}
@@ -0,0 +1,181 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Codificação compacta de um GameResponseDTO para o cache off-heap
+ * Layout: máscara de campos presentes (2 bytes), strings como varint do
+ * tamanho + UTF-8, ano como varint, preço como double e datas como varint dos
+ * segundos (UTC) + varint dos nanos, preservando a precisão usada no ETag.
+ * O ID fica no cabeçalho do registro e não é repetido aqui.
+ */
+final class GameRecordCodec {
+
+    private static final int TITLE = 1;
+    private static final int DESCRIPTION = 1 << 1;
+    private static final int DEVELOPER = 1 << 2;
+    private static final int PUBLISHER = 1 << 3;
+    private static final int GENRE = 1 << 4;
+    private static final int RELEASE_YEAR = 1 << 5;
+    private static final int PRICE = 1 << 6;
+    private static final int CREATED_AT = 1 << 7;
+    private static final int UPDATED_AT = 1 << 8;
+
+    private GameRecordCodec() {
+    }
+
+    static byte[] encode(GameResponseDTO game) {
+        Writer writer = new Writer();
+        int mask = (game.getTitle() != null ? TITLE : 0)
+                | (game.getDescription() != null ? DESCRIPTION : 0)
+                | (game.getDeveloper() != null ? DEVELOPER : 0)
+                | (game.getPublisher() != null ? PUBLISHER : 0)
+                | (game.getGenre() != null ? GENRE : 0)
+                | (game.getReleaseYear() != null ? RELEASE_YEAR : 0)
+                | (game.getPrice() != null ? PRICE : 0)
+                | (game.getCreatedAt() != null ? CREATED_AT : 0)
+                | (game.getUpdatedAt() != null ? UPDATED_AT : 0);
+        writer.writeShort(mask);
+        writer.writeString(game.getTitle());
+        writer.writeString(game.getDescription());
+        writer.writeString(game.getDeveloper());
+        writer.writeString(game.getPublisher());
+        writer.writeString(game.getGenre());
+        if (game.getReleaseYear() != null) {
+            writer.writeVarLong(game.getReleaseYear());
+        }
+        if (game.getPrice() != null) {
+            writer.writeLong(Double.doubleToRawLongBits(game.getPrice()));
+        }
+        writer.writeDateTime(game.getCreatedAt());
+        writer.writeDateTime(game.getUpdatedAt());
+        return writer.toByteArray();
+    }
+
+    static GameResponseDTO decode(long id, byte[] payload) {
+        Reader reader = new Reader(payload);
+        int mask = reader.readShort();
+        GameResponseDTO game = new GameResponseDTO();
+        game.setId(id);
+        game.setTitle((mask & TITLE) != 0 ? reader.readString() : null);
+        game.setDescription((mask & DESCRIPTION) != 0 ? reader.readString() : null);
+        game.setDeveloper((mask & DEVELOPER) != 0 ? reader.readString() : null);
+        game.setPublisher((mask & PUBLISHER) != 0 ? reader.readString() : null);
+        game.setGenre((mask & GENRE) != 0 ? reader.readString() : null);
+        game.setReleaseYear((mask & RELEASE_YEAR) != 0 ? (int) reader.readVarLong() : null);
+        game.setPrice((mask & PRICE) != 0 ? Double.longBitsToDouble(reader.readLong()) : null);
+        game.setCreatedAt((mask & CREATED_AT) != 0 ? reader.readDateTime() : null);
+        game.setUpdatedAt((mask & UPDATED_AT) != 0 ? reader.readDateTime() : null);
+        return game;
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[128];
+        private int size;
+
+        void writeShort(int value) {
+            ensureCapacity(2);
+            buffer[size++] = (byte) (value >>> 8);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            ensureCapacity(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        // Valores não negativos; negativos ocupam 10 bytes mas continuam corretos
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeDateTime(LocalDateTime value) {
+            if (value == null) {
+                return;
+            }
+            writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(value.getNano());
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readShort() {
+            return ((buffer[position++] & 0xFF) << 8) | (buffer[position++] & 0xFF);
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = buffer[position++];
+                value |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return value;
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        LocalDateTime readDateTime() {
+            long seconds = readVarLong();
+            int nanos = (int) readVarLong();
+            return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        }
+    }
+}
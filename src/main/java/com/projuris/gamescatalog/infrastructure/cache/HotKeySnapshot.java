@@ -0,0 +1,28 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chaves mais acessadas dos caches, gravadas em disco pelo CacheWarmer
+ * As listas seguem a ordem de "calor" do Caffeine (mais acessadas primeiro);
+ * pages guarda as chaves do cache de páginas serializadas (genre|page|size).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotKeySnapshot {
+    private Instant createdAt;
+    private List<Long> gameIds = new ArrayList<>();
+    private List<String> genres = new ArrayList<>();
+    private List<String> pages = new ArrayList<>();
+
+    public int size() {
+        return gameIds.size() + genres.size() + pages.size();
+    }
+}
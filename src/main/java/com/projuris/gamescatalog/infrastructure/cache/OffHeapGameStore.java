@@ -0,0 +1,252 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Segundo nível (L2) do cache gameById, fora do heap
+ * Os games ficam codificados (GameRecordCodec) em segmentos de ByteBuffer
+ * direto, usados como um anel: os registros são acrescentados ao segmento
+ * corrente e, quando o anel dá a volta, o segmento mais antigo é descartado
+ * inteiro (FIFO por segmento). No heap fica apenas o índice ID -> posição.
+ * Os segmentos são alocados sob demanda, então a capacidade configurada só é
+ * ocupada à medida que o cache enche. Leituras usam o lock de leitura e copiam
+ * os bytes do registro antes de decodificar; escritas, remoções e a
+ * reciclagem de segmentos usam o lock de escrita.
+ */
+@Slf4j
+public class OffHeapGameStore {
+
+    // Tamanho do payload (int) + ID (long) + instante da escrita em ms (long)
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Long.BYTES;
+
+    private final int segmentBytes;
+    private final ByteBuffer[] segments;
+    private final int[] segmentEnd;
+    private final long expireAfterWriteMillis;
+    private final Map<Long, Long> index = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Avança a cada remoção; escritas iniciadas antes de uma remoção são descartadas
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong evictedBytes = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    private int writeSegment;
+    private int writeOffset;
+
+    public OffHeapGameStore(long capacityBytes, int segmentBytes, Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        if (segmentBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Segmento do cache off-heap muito pequeno: " + segmentBytes);
+        }
+        int segmentCount = (int) Math.max(2, capacityBytes / segmentBytes);
+        this.segmentBytes = segmentBytes;
+        this.segments = new ByteBuffer[segmentCount];
+        this.segmentEnd = new int[segmentCount];
+        this.expireAfterWriteMillis = expireAfterWrite != null ? expireAfterWrite.toMillis() : Long.MAX_VALUE;
+
+        this.hitCounter = Counter.builder("games.cache.offheap.gets")
+                .description("Leituras do cache off-heap")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("games.cache.offheap.gets")
+                .description("Leituras do cache off-heap")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("games.cache.offheap.evictions")
+                .description("Games descartados com a reciclagem do segmento mais antigo")
+                .register(meterRegistry);
+        Gauge.builder("games.cache.offheap.entries", index, Map::size)
+                .description("Games no cache off-heap")
+                .register(meterRegistry);
+        Gauge.builder("games.cache.offheap.used.bytes", usedBytes, AtomicLong::get)
+                .description("Bytes ocupados nos segmentos, incluindo registros substituídos")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("games.cache.offheap.capacity.bytes", this, OffHeapGameStore::capacityBytes)
+                .description("Capacidade do cache off-heap")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        log.info("OffHeapGameStore - Cache off-heap configurado: segmentos={}, segmentBytes={}, expireAfterWrite={}",
+                segmentCount, segmentBytes, expireAfterWrite);
+    }
+
+    public GameResponseDTO get(long id) {
+        byte[] payload;
+        lock.readLock().lock();
+        try {
+            Long location = index.get(id);
+            if (location == null) {
+                missCounter.increment();
+                return null;
+            }
+            ByteBuffer segment = segments[segmentOf(location)];
+            int offset = offsetOf(location);
+            long writtenAt = segment.getLong(offset + Integer.BYTES + Long.BYTES);
+            if (System.currentTimeMillis() - writtenAt >= expireAfterWriteMillis) {
+                // A remoção condicional no mapa concorrente não altera os segmentos
+                index.remove(id, location);
+                missCounter.increment();
+                return null;
+            }
+            payload = new byte[segment.getInt(offset)];
+            segment.get(offset + HEADER_BYTES, payload);
+        } finally {
+            lock.readLock().unlock();
+        }
+        hitCounter.increment();
+        return GameRecordCodec.decode(id, payload);
+    }
+
+    /**
+     * Grava o game se nenhuma remoção ocorreu desde expectedGeneration (lida antes da carga)
+     */
+    public boolean put(long id, GameResponseDTO game, long expectedGeneration) {
+        byte[] payload = GameRecordCodec.encode(game);
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes > segmentBytes) {
+            log.debug("OffHeapGameStore.put - Game maior que o segmento não armazenado: id={}, bytes={}",
+                    id, recordBytes);
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            if (generation.get() != expectedGeneration) {
+                return false;
+            }
+            if (writeOffset + recordBytes > segmentBytes) {
+                advanceSegment();
+            }
+            ByteBuffer segment = segment(writeSegment);
+            int offset = writeOffset;
+            segment.putInt(offset, payload.length);
+            segment.putLong(offset + Integer.BYTES, id);
+            segment.putLong(offset + Integer.BYTES + Long.BYTES, System.currentTimeMillis());
+            segment.put(offset + HEADER_BYTES, payload);
+            writeOffset += recordBytes;
+            segmentEnd[writeSegment] = writeOffset;
+            usedBytes.addAndGet(recordBytes);
+            index.put(id, location(writeSegment, offset));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void evict(long id) {
+        lock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            index.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            index.clear();
+            Arrays.fill(segmentEnd, 0);
+            writeSegment = 0;
+            writeOffset = 0;
+            usedBytes.set(0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("OffHeapGameStore.clear - Cache off-heap esvaziado");
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public long size() {
+        return index.size();
+    }
+
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    public long capacityBytes() {
+        return (long) segments.length * segmentBytes;
+    }
+
+    public long hitCount() {
+        return (long) hitCounter.count();
+    }
+
+    public long missCount() {
+        return (long) missCounter.count();
+    }
+
+    public long evictionCount() {
+        return (long) evictionCounter.count();
+    }
+
+    public long evictionBytes() {
+        return evictedBytes.get();
+    }
+
+    /**
+     * Passa para o próximo segmento do anel, descartando os games que ainda apontam para ele
+     */
+    private void advanceSegment() {
+        writeSegment = (writeSegment + 1) % segments.length;
+        writeOffset = 0;
+        int end = segmentEnd[writeSegment];
+        if (end == 0) {
+            return;
+        }
+        ByteBuffer segment = segments[writeSegment];
+        int evicted = 0;
+        for (int offset = 0; offset < end; offset += HEADER_BYTES + segment.getInt(offset)) {
+            long id = segment.getLong(offset + Integer.BYTES);
+            if (index.remove(id, location(writeSegment, offset))) {
+                evicted++;
+            }
+        }
+        segmentEnd[writeSegment] = 0;
+        usedBytes.addAndGet(-end);
+        evictedBytes.addAndGet(end);
+        evictionCounter.increment(evicted);
+        log.debug("OffHeapGameStore.advanceSegment - Segmento reciclado: segmento={}, descartados={}",
+                writeSegment, evicted);
+    }
+
+    private ByteBuffer segment(int segmentIndex) {
+        if (segments[segmentIndex] == null) {
+            segments[segmentIndex] = ByteBuffer.allocateDirect(segmentBytes);
+        }
+        return segments[segmentIndex];
+    }
+
+    private static long location(int segmentIndex, int offset) {
+        return ((long) segmentIndex << 32) | offset;
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+}
@@ -0,0 +1,99 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import io.micrometer.core.instrument.Counter;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache gameById em dois níveis: Caffeine no heap (L1) e OffHeapGameStore (L2)
+ * Uma falha no L1 consulta o L2 antes do banco, dentro da carga única do
+ * Caffeine, e o game encontrado volta ao L1. Games carregados do banco ou
+ * gravados por @CachePut vão para os dois níveis; evict e clear (chamados pelo
+ * GameCacheEventHandler) removem dos dois, então a invalidação por eventos
+ * continua sendo a mesma. As recargas do refresh-ahead atualizam só o L1; o L2
+ * tem expiração própria após a escrita.
+ */
+public class OffHeapTieredCache extends CoalescingCaffeineCache {
+
+    private final OffHeapGameStore offHeapStore;
+
+    public OffHeapTieredCache(String name, Cache<Object, Object> cache,
+            boolean allowNullValues, Counter coalescedCounter, OffHeapGameStore offHeapStore) {
+        super(name, cache, allowNullValues, coalescedCounter);
+        this.offHeapStore = offHeapStore;
+    }
+
+    public OffHeapGameStore getOffHeapStore() {
+        return offHeapStore;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        if (value != null || !(key instanceof Long id)) {
+            return value;
+        }
+        // Promoção atômica em relação a um evict concorrente da mesma chave
+        return getNativeCache().get(key, k -> offHeapStore.get(id));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (!(key instanceof Long id)) {
+            return super.get(key, valueLoader);
+        }
+        return super.get(key, () -> {
+            GameResponseDTO cached = offHeapStore.get(id);
+            if (cached != null) {
+                return (T) cached;
+            }
+            long generation = offHeapStore.generation();
+            T value = valueLoader.call();
+            if (value instanceof GameResponseDTO game) {
+                offHeapStore.put(id, game, generation);
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        if (key instanceof Long id && value instanceof GameResponseDTO game) {
+            offHeapStore.put(id, game, offHeapStore.generation());
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        if (key instanceof Long id) {
+            offHeapStore.evict(id);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        if (key instanceof Long id) {
+            offHeapStore.evict(id);
+        }
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        offHeapStore.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = super.invalidate();
+        offHeapStore.clear();
+        return notEmpty;
+    }
+}
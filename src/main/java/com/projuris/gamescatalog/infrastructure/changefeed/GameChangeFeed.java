@@ -0,0 +1,348 @@
+package com.projuris.gamescatalog.infrastructure.changefeed;
+
+import com.projuris.gamescatalog.application.dto.GameChangeDTO;
+import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
+import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
+import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
+import com.projuris.gamescatalog.domain.events.GamesBatchCreatedEvent;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.events.DomainEventBus;
+import com.projuris.gamescatalog.infrastructure.events.RelayedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feed de mudanças do catálogo via Server-Sent Events
+ * Consome os eventos de domínio confirmados do DomainEventBus, atribui a cada
+ * mudança uma sequência monotônica e a guarda em um buffer circular de
+ * app.change-feed.replay-size posições, usado para retomar a partir do
+ * Last-Event-ID. Reentregas do outbox (at-least-once) são descartadas pelo
+ * id da linha de origem, guardado para as últimas replay-size linhas. Cada
+ * cliente tem uma fila própria esvaziada por uma tarefa de envio, no pool
+ * limitado changeFeedExecutor: o consumidor do barramento nunca espera o
+ * socket de um cliente, e o
+ * cliente que acumula mais de app.change-feed.client-buffer-size mudanças em
+ * tempo real é desconectado (reconecta e retoma do buffer); o replay, limitado
+ * pelo buffer, não conta para esse limite. A sequência vive em memória, então
+ * o id do evento SSE leva o epoch da instância ("epoch-sequência", como o ETag
+ * das listagens): um Last-Event-ID de antes de um reinício, ou que não está
+ * mais no buffer, recebe um evento "reset" e o cliente deve recarregar o
+ * catálogo.
+ */
+@Component
+@Slf4j
+public class GameChangeFeed {
+
+    static final String RESET_EVENT = "reset";
+
+    private final DomainEventBus domainEventBus;
+    private final TaskExecutor executor;
+    private final GameChangeDTO[] replay;
+    private final int clientBufferSize;
+    private final long timeoutMillis;
+    private final Object lock = new Object();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    // Linhas do outbox já sequenciadas, das mais antigas às mais novas; protegido por lock
+    private final Set<Long> sequencedOutboxIds;
+    private final Counter overflowCounter;
+    private final Counter duplicateCounter;
+    // Epoch da instância em base 36, prefixo dos ids dos eventos
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    // Última sequência atribuída; protegida por lock
+    private long sequence;
+
+    public GameChangeFeed(DomainEventBus domainEventBus, @Qualifier("changeFeedExecutor") TaskExecutor executor,
+            ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        ApplicationProperties.ChangeFeed properties = applicationProperties.getChangeFeed();
+        this.domainEventBus = domainEventBus;
+        this.executor = executor;
+        this.replay = new GameChangeDTO[Math.max(1, properties.getReplaySize())];
+        this.clientBufferSize = Math.max(1, properties.getClientBufferSize());
+        this.timeoutMillis = properties.getTimeout().toMillis();
+        int remembered = replay.length;
+        this.sequencedOutboxIds = Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > remembered;
+            }
+        });
+
+        this.overflowCounter = Counter.builder("games.changefeed.overflows")
+                .description("Clientes desconectados por acumular mudanças sem consumir")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("games.changefeed.duplicates")
+                .description("Reentregas do outbox descartadas por já estarem no feed")
+                .register(meterRegistry);
+        Gauge.builder("games.changefeed.subscribers", subscribers, List::size)
+                .description("Clientes conectados ao feed de mudanças")
+                .register(meterRegistry);
+        Gauge.builder("games.changefeed.sequence", this, GameChangeFeed::currentSequence)
+                .description("Última sequência publicada no feed de mudanças")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribeToEvents() {
+        domainEventBus.subscribe("changeFeed", Object.class, this::publish);
+    }
+
+    @PreDestroy
+    void completeAll() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    /**
+     * Abre um stream; com lastEventId reenvia antes as mudanças posteriores a ele que ainda estão no buffer
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis));
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(error -> subscribers.remove(subscriber));
+
+        synchronized (lock) {
+            if (lastEventId != null) {
+                long resumeFrom = sequenceOf(lastEventId);
+                long oldest = Math.max(1, sequence - replay.length + 1);
+                if (resumeFrom < 0 || resumeFrom > sequence || resumeFrom < oldest - 1) {
+                    subscriber.replay(SseEmitter.event().name(RESET_EVENT).id(eventId(sequence)).data(sequence));
+                    log.info("GameChangeFeed.subscribe - Last-Event-ID fora do buffer, enviando reset: "
+                            + "lastEventId={}, buffer=[{}, {}]", lastEventId, eventId(oldest), eventId(sequence));
+                } else {
+                    for (long seq = resumeFrom + 1; seq <= sequence; seq++) {
+                        subscriber.replay(change(replay[index(seq)]));
+                    }
+                }
+            }
+            // Registrado sob o mesmo lock da publicação: nada se perde nem se repete entre replay e tempo real
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        log.debug("GameChangeFeed.subscribe - Cliente conectado: lastEventId={}, clientes={}", lastEventId,
+                subscribers.size());
+        return subscriber.emitter;
+    }
+
+    /**
+     * Publica os eventos de domínio de um lote do barramento como mudanças do
+     * feed; retorna a última sequência atribuída
+     */
+    public long publish(List<Object> events) {
+        long last;
+        synchronized (lock) {
+            List<GameChangeDTO> changes = toChanges(firstDeliveries(events));
+            if (changes.isEmpty()) {
+                return sequence;
+            }
+            for (GameChangeDTO change : changes) {
+                change.setSequence(++sequence);
+                replay[index(sequence)] = change;
+            }
+            for (Subscriber subscriber : subscribers) {
+                for (GameChangeDTO change : changes) {
+                    if (!subscriber.offer(change(change))) {
+                        overflow(subscriber);
+                        break;
+                    }
+                }
+            }
+            last = sequence;
+        }
+        subscribers.forEach(Subscriber::schedule);
+        return last;
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.heartbeat-interval:PT15S}",
+            initialDelayString = "${app.change-feed.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(SseEmitter.event().comment("heartbeat"))) {
+                subscriber.schedule();
+            } else {
+                overflow(subscriber);
+            }
+        }
+    }
+
+    public long currentSequence() {
+        synchronized (lock) {
+            return sequence;
+        }
+    }
+
+    /**
+     * Id do evento SSE da sequência nesta instância
+     */
+    public String eventId(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    /**
+     * Sequência de um id emitido por esta instância; -1 se for de outro epoch ou inválido
+     */
+    private long sequenceOf(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(eventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Eventos do lote sem os RelayedEvent de linhas do outbox já sequenciadas;
+     * chamado sob lock
+     */
+    private List<Object> firstDeliveries(List<Object> events) {
+        List<Object> unseen = new ArrayList<>(events.size());
+        for (Object event : events) {
+            if (!(event instanceof RelayedEvent relayed)) {
+                unseen.add(event);
+            } else if (sequencedOutboxIds.add(relayed.outboxId())) {
+                unseen.add(relayed.event());
+            } else {
+                duplicateCounter.increment();
+                log.debug("GameChangeFeed.publish - Reentrega do outbox descartada: outboxId={}",
+                        relayed.outboxId());
+            }
+        }
+        return unseen;
+    }
+
+    private void overflow(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        overflowCounter.increment();
+        subscriber.emitter.complete();
+        log.warn("GameChangeFeed - Cliente lento desconectado: pendentes={}", subscriber.size.get());
+    }
+
+    private int index(long seq) {
+        return (int) (seq % replay.length);
+    }
+
+    private SseEmitter.SseEventBuilder change(GameChangeDTO change) {
+        return SseEmitter.event().id(eventId(change.getSequence())).data(change, MediaType.APPLICATION_JSON);
+    }
+
+    private static List<GameChangeDTO> toChanges(List<Object> events) {
+        List<GameChangeDTO> changes = new ArrayList<>(events.size());
+        for (Object event : events) {
+            if (event instanceof GameCreatedEvent created) {
+                changes.add(created(created));
+            } else if (event instanceof GamesBatchCreatedEvent batch) {
+                batch.getEvents().forEach(created -> changes.add(created(created)));
+            } else if (event instanceof GameUpdatedEvent updated) {
+                changes.add(new GameChangeDTO(0, GameChangeDTO.Type.UPDATED, updated.getGameId(),
+                        updated.getTitle(), updated.getGenre(), updated.getOccurredAt()));
+            } else if (event instanceof GameDeletedEvent deleted) {
+                changes.add(new GameChangeDTO(0, GameChangeDTO.Type.DELETED, deleted.getGameId(),
+                        deleted.getTitle(), deleted.getGenre(), deleted.getOccurredAt()));
+            }
+        }
+        return changes;
+    }
+
+    private static GameChangeDTO created(GameCreatedEvent event) {
+        return new GameChangeDTO(0, GameChangeDTO.Type.CREATED, event.getGameId(), event.getTitle(),
+                event.getGenre(), event.getOccurredAt());
+    }
+
+    /**
+     * Cliente conectado: filas de replay e de tempo real e no máximo uma tarefa de envio ativa por vez
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        // Preenchida apenas antes da inscrição, limitada pelo buffer de replay; enviada antes da fila
+        private final Queue<SseEmitter.SseEventBuilder> replayQueue = new ConcurrentLinkedQueue<>();
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        // Eventos em tempo real pendentes, comparados com o limite do cliente
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void replay(SseEmitter.SseEventBuilder event) {
+            replayQueue.add(event);
+        }
+
+        private boolean offer(SseEmitter.SseEventBuilder event) {
+            if (size.get() >= clientBufferSize) {
+                return false;
+            }
+            queue.add(event);
+            size.incrementAndGet();
+            return true;
+        }
+
+        private void schedule() {
+            if ((!replayQueue.isEmpty() || !queue.isEmpty()) && sending.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (TaskRejectedException e) {
+                    // Pool de envio saturado: o cliente reconecta e retoma do buffer
+                    sending.set(false);
+                    subscribers.remove(this);
+                    replayQueue.clear();
+                    queue.clear();
+                    emitter.complete();
+                    log.warn("GameChangeFeed - Pool de envio saturado, cliente desconectado");
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = replayQueue.poll()) != null) {
+                    emitter.send(event);
+                }
+                while ((event = queue.poll()) != null) {
+                    size.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado ou emitter já concluído
+                subscribers.remove(this);
+                replayQueue.clear();
+                queue.clear();
+                log.debug("GameChangeFeed - Envio interrompido: {}", e.getMessage());
+                return;
+            } finally {
+                sending.set(false);
+            }
+            // Eventos que chegaram depois do último poll
+            schedule();
+        }
+    }
+}
@@ -4,6 +4,11 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Propriedades da aplicação carregadas do application.properties
@@ -16,4 +21,299 @@ public class ApplicationProperties {
 
     private String version;
     private String name;
+    private Seed seed = new Seed();
+    private BulkImport bulkImport = new BulkImport();
+    private ReadModel readModel = new ReadModel();
+    private Search search = new Search();
+    private Suggest suggest = new Suggest();
+    private Facets facets = new Facets();
+    private Filter filter = new Filter();
+    private ResponseCache responseCache = new ResponseCache();
+    // Especificação por cache do Spring (app.cache.<nome>.*), nome em kebab-case (ex: game-by-id)
+    private Map<String, CacheSpec> cache = new HashMap<>();
+    private OffHeapCache offHeapCache = new OffHeapCache();
+    private CacheWarmup cacheWarmup = new CacheWarmup();
+    private Threads threads = new Threads();
+    private EventBus eventBus = new EventBus();
+    private EventCoalescing eventCoalescing = new EventCoalescing();
+    private Outbox outbox = new Outbox();
+    private ChangeFeed changeFeed = new ChangeFeed();
+    private Delta delta = new Delta();
+    private Merkle merkle = new Merkle();
+
+    /**
+     * Configuração da carga de dados sintéticos (GameDataLoader)
+     */
+    @Getter
+    @Setter
+    public static class Seed {
+        private boolean enabled = true;
+        private int count = 100;
+        private int batchSize = 1000;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        // Expoente da distribuição Zipf para popularidade de gênero/desenvolvedora
+        // (0 = distribuição uniforme)
+        private double zipfExponent = 1.0;
+    }
+
+    /**
+     * Configuração da importação em massa via NDJSON
+     */
+    @Getter
+    @Setter
+    public static class BulkImport {
+        // Games por transação/commit
+        private int chunkSize = 500;
+        // Limite de erros detalhados no relatório (os demais são apenas contados)
+        private int maxReportedErrors = 1000;
+        // Maior linha aceita, em caracteres; linhas maiores são descartadas sem serem carregadas e viram erro
+        private int maxLineLength = 16384;
+    }
+
+    /**
+     * Configuração do modelo de leitura colunar em memória (CatalogReadModel)
+     */
+    @Getter
+    @Setter
+    public static class ReadModel {
+        // Quando desabilitado as listagens são atendidas pelo JPA
+        private boolean enabled = true;
+    }
+
+    /**
+     * Configuração do índice de busca textual em memória (SearchIndex)
+     */
+    @Getter
+    @Setter
+    public static class Search {
+        // Quando desabilitado as buscas usam LIKE no banco
+        private boolean enabled = true;
+    }
+
+    /**
+     * Configuração do autocomplete de títulos (TitleSuggester)
+     */
+    @Getter
+    @Setter
+    public static class Suggest {
+        private boolean enabled = true;
+        // Critério de popularidade usado para ordenar as sugestões
+        private SuggestRanking ranking = SuggestRanking.RELEASE_YEAR;
+        // Quantidade máxima de prefixos com resultado memorizado
+        private int maxCachedPrefixes = 10000;
+    }
+
+    /**
+     * Configuração do índice de facetas em memória (FacetIndex)
+     */
+    @Getter
+    @Setter
+    public static class Facets {
+        // Quando desabilitado as facetas são calculadas percorrendo o banco
+        private boolean enabled = true;
+    }
+
+    /**
+     * Configuração dos filtros combinados de GET /api/games (GameQueryPlanner)
+     */
+    @Getter
+    @Setter
+    public static class Filter {
+        // Maior intervalo de anos aceito quando o ano é o único critério indexado
+        private int maxYearSpan = 5;
+        // Maior deslocamento (page * size) aceito nos filtros combinados
+        private long maxOffset = 10_000;
+    }
+
+    /**
+     * Configuração do cache de respostas serializadas (ResponseBytesCache)
+     */
+    @Getter
+    @Setter
+    public static class ResponseCache {
+        private boolean enabled = true;
+        // Limite em bytes (JSON + gzip) das respostas de game único
+        private long gameMaxBytes = 32L * 1024 * 1024;
+        // Limite em bytes (JSON + gzip) das páginas de listagem
+        private long pageMaxBytes = 32L * 1024 * 1024;
+        // Respostas menores não são comprimidas (o gzip não compensa)
+        private int gzipMinBytes = 1024;
+    }
+
+    /**
+     * Especificação de um cache Caffeine; atributos nulos não são aplicados
+     */
+    @Getter
+    @Setter
+    public static class CacheSpec {
+        // Limite em bytes estimados dos valores (CacheWeigher); tem precedência sobre maximumSize
+        private DataSize maximumWeight;
+        private Long maximumSize;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+        // Recarga em segundo plano da entrada acessada após o intervalo (refresh-ahead)
+        private Duration refreshAfterWrite;
+    }
+
+    /**
+     * Configuração do segundo nível fora do heap do cache gameById (OffHeapGameStore)
+     */
+    @Getter
+    @Setter
+    public static class OffHeapCache {
+        private boolean enabled = false;
+        // Memória direta máxima; limitada também por -XX:MaxDirectMemorySize
+        private DataSize capacity = DataSize.ofMegabytes(256);
+        // Unidade de alocação e de descarte (o segmento mais antigo sai inteiro)
+        private DataSize segmentSize = DataSize.ofMegabytes(8);
+        private Duration expireAfterWrite = Duration.ofMinutes(30);
+    }
+
+    /**
+     * Configuração do snapshot das chaves quentes e do aquecimento dos caches (CacheWarmer)
+     */
+    @Getter
+    @Setter
+    public static class CacheWarmup {
+        private boolean enabled = true;
+        private String snapshotFile = "data/cache-hot-keys.json";
+        // Intervalo de gravação do snapshot (também gravado no encerramento)
+        private Duration snapshotInterval = Duration.ofMinutes(5);
+        private int maxGameIds = 10000;
+        private int maxGenres = 100;
+        private int maxPages = 1000;
+        private int batchSize = 500;
+        private int parallelism = 4;
+        // Tempo máximo do aquecimento; as chaves restantes ficam para a primeira requisição
+        private Duration timeBudget = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Configuração do modo de threads (ThreadingConfig, AsyncConfig)
+     */
+    @Getter
+    @Setter
+    public static class Threads {
+        // Requisições do Tomcat e consumidores do DomainEventBus em virtual threads (requer Java 21)
+        private boolean virtual = false;
+        // No modo virtual, conexões simultâneas obtidas do DataSource (semáforo justo)
+        private int maxConcurrentConnections = 10;
+        // Espera máxima por uma permissão antes de falhar a obtenção da conexão
+        private Duration connectionAcquireTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Configuração do barramento de eventos de domínio (DomainEventBus)
+     */
+    @Getter
+    @Setter
+    public static class EventBus {
+        // Slots pré-alocados do anel; arredondado para potência de 2
+        private int ringSize = 4096;
+        // Máximo de eventos entregues a um handler por chamada
+        private int maxBatchSize = 256;
+        private EventBusWaitStrategy waitStrategy = EventBusWaitStrategy.BLOCKING;
+        private EventBusBackpressure backpressure = EventBusBackpressure.BLOCK;
+        // Com BLOCK, espera máxima por espaço no anel antes de descartar o evento
+        private Duration backpressureTimeout = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Configuração da consolidação de eventos por game antes do barramento (GameEventCoalescer)
+     */
+    @Getter
+    @Setter
+    public static class EventCoalescing {
+        // Janela em que os eventos do mesmo game são consolidados; zero desliga a consolidação
+        private Duration window = Duration.ofMillis(200);
+        // Games pendentes que antecipam a entrega, sem esperar o fim da janela
+        private int maxPending = 10_000;
+    }
+
+    /**
+     * Configuração do outbox transacional de eventos de domínio (OutboxRelay)
+     */
+    @Getter
+    @Setter
+    public static class Outbox {
+        // Eventos reservados e entregues por transação do relay
+        private int batchSize = 500;
+        // Intervalo de polling quando o outbox está vazio (commits antecipam o ciclo)
+        private Duration pollDelay = Duration.ofSeconds(1);
+        // Espera máxima pela confirmação de entrega de um lote; sem ela o lote é reenviado
+        private Duration deliveryTimeout = Duration.ofSeconds(10);
+        // Reserva das linhas em entrega; deve exceder delivery-timeout, expirada outra instância as assume
+        private Duration claimTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Configuração do feed de mudanças via Server-Sent Events (GameChangeFeed)
+     */
+    @Getter
+    @Setter
+    public static class ChangeFeed {
+        // Últimas mudanças mantidas em memória para retomada com Last-Event-ID
+        private int replaySize = 10_000;
+        // Mudanças em tempo real pendentes de envio por cliente (o replay não conta); acima disso o cliente lento é desconectado
+        private int clientBufferSize = 1_000;
+        private Duration timeout = Duration.ofMinutes(30);
+        // Comentário periódico que mantém a conexão aberta em proxies
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+        // Threads do pool de envio SSE; um cliente ocupa uma thread apenas enquanto esvazia a própria fila
+        private int sendThreads = 4;
+        // Clientes aguardando uma thread de envio; acima disso o cliente é desconectado
+        private int sendQueueCapacity = 10_000;
+    }
+
+    /**
+     * Configuração da sincronização incremental por versão (GET /api/games/delta)
+     */
+    @Getter
+    @Setter
+    public static class Delta {
+        // Tempo em que as deleções continuam visíveis no delta; depois disso o cliente precisa recarregar
+        private Duration tombstoneRetention = Duration.ofDays(7);
+        private Duration purgeInterval = Duration.ofHours(1);
+    }
+
+    /**
+     * Configuração da árvore de Merkle para verificação de réplicas (GET /api/games/merkle)
+     */
+    @Getter
+    @Setter
+    public static class Merkle {
+        // Quando desabilitado a árvore é montada percorrendo o banco a cada consulta
+        private boolean enabled = true;
+        // Faixa de IDs de cada bucket (folha)
+        private int bucketSize = 1024;
+        // Filhos por nó interno
+        private int fanOut = 16;
+    }
+
+    public enum EventBusWaitStrategy {
+        // Lock e condition: sem consumo de CPU ocioso, maior latência
+        BLOCKING,
+        // Dorme ~100 µs entre verificações
+        SLEEPING,
+        // Gira e depois cede o processador (Thread.yield)
+        YIELDING,
+        // Gira continuamente: menor latência, ocupa um núcleo por handler
+        BUSY_SPIN
+    }
+
+    public enum EventBusBackpressure {
+        // Publicador espera espaço no anel (até backpressureTimeout)
+        BLOCK,
+        // Evento descartado imediatamente com o anel cheio
+        DROP
+    }
+
+    public enum SuggestRanking {
+        // Lançamentos mais recentes primeiro
+        RELEASE_YEAR,
+        // Games alterados mais recentemente primeiro
+        LAST_UPDATED,
+        // Ordem alfabética do título
+        TITLE
+    }
 }
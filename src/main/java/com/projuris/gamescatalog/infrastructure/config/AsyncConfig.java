@@ -2,27 +2,39 @@ package com.projuris.gamescatalog.infrastructure.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
-
 /**
  * Configuração para processamento assíncrono de eventos
- * Necessário para a Programação Orientada a Eventos (POE)
+ * Necessário para a Programação Orientada a Eventos (POE). Os eventos de
+ * domínio são entregues pelo DomainEventBus, com uma thread consumidora
+ * dedicada por handler inscrito; o executor apenas cria essas threads (sem
+ * fila nem pool). Com app.threads.virtual os consumidores rodam em virtual
+ * threads. Os envios do feed de mudanças (SSE) têm um pool próprio e
+ * limitado: um socket lento ocupa uma dessas threads, não cria uma nova.
  */
 @Configuration
-@EnableAsync
 public class AsyncConfig {
 
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    @Bean(name = "eventBusExecutor")
+    public TaskExecutor eventBusExecutor(ApplicationProperties applicationProperties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("event-bus-");
+        executor.setVirtualThreads(ThreadingConfig.virtualThreadsEnabled(applicationProperties.getThreads()));
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    @Bean(name = "changeFeedExecutor")
+    public ThreadPoolTaskExecutor changeFeedExecutor(ApplicationProperties applicationProperties) {
+        ApplicationProperties.ChangeFeed properties = applicationProperties.getChangeFeed();
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("event-handler-");
-        executor.initialize();
+        executor.setThreadNamePrefix("change-feed-");
+        executor.setCorePoolSize(Math.max(1, properties.getSendThreads()));
+        executor.setMaxPoolSize(Math.max(1, properties.getSendThreads()));
+        executor.setQueueCapacity(Math.max(0, properties.getSendQueueCapacity()));
+        executor.setDaemon(true);
         return executor;
     }
 }
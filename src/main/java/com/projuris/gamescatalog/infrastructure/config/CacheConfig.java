@@ -1,39 +1,129 @@
 package com.projuris.gamescatalog.infrastructure.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projuris.gamescatalog.infrastructure.cache.CacheWeigher;
+import com.projuris.gamescatalog.infrastructure.cache.CoalescingCaffeineCache;
+import com.projuris.gamescatalog.infrastructure.cache.GameByIdCacheLoader;
+import com.projuris.gamescatalog.infrastructure.cache.OffHeapGameStore;
+import com.projuris.gamescatalog.infrastructure.cache.OffHeapTieredCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Configuração do Spring Cache usando Caffeine
- * Cache em memória para melhorar performance de consultas frequentes
+ * Cache em memória para melhorar performance de consultas frequentes. Cada
+ * cache tem a própria especificação em app.cache.<nome>.* e é limitado pelo
+ * peso estimado dos valores em bytes (CacheWeigher), não pelo número de
+ * entradas. O cache gameById carrega cada chave uma única vez para todas as
+ * requisições simultâneas e é recarregado em segundo plano (refresh-ahead).
+ * Com app.off-heap-cache.enabled ele ganha um segundo nível fora do heap
+ * (OffHeapTieredCache), consultado antes do banco nas falhas do Caffeine.
+ * As estatísticas são publicadas no Micrometer pelo Spring Boot (cache.*).
  */
 @Configuration
 @EnableCaching
+@Slf4j
 public class CacheConfig {
 
     public static final String GAMES_CACHE = "games";
     public static final String GAME_BY_ID_CACHE = "gameById";
     public static final String GAMES_BY_GENRE_CACHE = "gamesByGenre";
 
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                GAMES_CACHE,
-                GAME_BY_ID_CACHE,
-                GAMES_BY_GENRE_CACHE);
-
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(10, TimeUnit.MINUTES)
-                .expireAfterAccess(5, TimeUnit.MINUTES)
-                .recordStats());
+    public CacheManager cacheManager(ApplicationProperties applicationProperties,
+            GameByIdCacheLoader gameByIdCacheLoader, MeterRegistry meterRegistry) {
+        Counter coalescedCounter = Counter.builder("games.cache.coalesced")
+                .description("Falhas de cache atendidas pela carga de outra requisição")
+                .tag("cache", GAME_BY_ID_CACHE)
+                .register(meterRegistry);
+        OffHeapGameStore offHeapStore = offHeapStore(applicationProperties.getOffHeapCache(), meterRegistry);
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected CaffeineCache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                if (GAME_BY_ID_CACHE.equals(name) && offHeapStore != null) {
+                    return new OffHeapTieredCache(name, cache, isAllowNullValues(), coalescedCounter, offHeapStore);
+                }
+                if (GAME_BY_ID_CACHE.equals(name)) {
+                    return new CoalescingCaffeineCache(name, cache, isAllowNullValues(), coalescedCounter);
+                }
+                return new CaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+        // Apenas os caches registrados abaixo; nomes desconhecidos não criam caches sem limite
+        cacheManager.setCacheNames(List.of());
+
+        cacheManager.registerCustomCache(GAMES_CACHE,
+                caffeine(GAMES_CACHE, spec(applicationProperties, GAMES_CACHE), false).build());
+        cacheManager.registerCustomCache(GAMES_BY_GENRE_CACHE,
+                caffeine(GAMES_BY_GENRE_CACHE, spec(applicationProperties, GAMES_BY_GENRE_CACHE), false).build());
+        cacheManager.registerCustomCache(GAME_BY_ID_CACHE,
+                caffeine(GAME_BY_ID_CACHE, spec(applicationProperties, GAME_BY_ID_CACHE), true)
+                        .build(gameByIdCacheLoader));
 
         return cacheManager;
     }
+
+    /**
+     * Especificação do cache em app.cache.<nome em kebab-case>; sem especificação
+     * o cache fica limitado a DEFAULT_MAXIMUM_SIZE entradas
+     */
+    private static ApplicationProperties.CacheSpec spec(ApplicationProperties applicationProperties, String name) {
+        ApplicationProperties.CacheSpec spec = applicationProperties.getCache().get(toKebabCase(name));
+        return spec != null ? spec : new ApplicationProperties.CacheSpec();
+    }
+
+    private static Caffeine<Object, Object> caffeine(String name, ApplicationProperties.CacheSpec spec,
+            boolean hasLoader) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight().toBytes()).weigher(CacheWeigher.INSTANCE);
+        } else {
+            builder.maximumSize(spec.getMaximumSize() != null ? spec.getMaximumSize() : DEFAULT_MAXIMUM_SIZE);
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        if (spec.getRefreshAfterWrite() != null) {
+            if (!hasLoader) {
+                throw new IllegalStateException("Cache " + name + " não tem loader: refresh-after-write não suportado");
+            }
+            builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+        }
+        log.info("CacheConfig - Cache {}: maximumWeight={}, maximumSize={}, expireAfterWrite={}, "
+                + "expireAfterAccess={}, refreshAfterWrite={}", name, spec.getMaximumWeight(),
+                spec.getMaximumWeight() == null ? spec.getMaximumSize() : null, spec.getExpireAfterWrite(),
+                spec.getExpireAfterAccess(), spec.getRefreshAfterWrite());
+        return builder;
+    }
+
+    private static OffHeapGameStore offHeapStore(ApplicationProperties.OffHeapCache properties,
+            MeterRegistry meterRegistry) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        return new OffHeapGameStore(properties.getCapacity().toBytes(),
+                Math.toIntExact(properties.getSegmentSize().toBytes()), properties.getExpireAfterWrite(),
+                meterRegistry);
+    }
+
+    private static String toKebabCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,12 @@
+package com.projuris.gamescatalog.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas (@Scheduled) da aplicação
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,71 @@
+package com.projuris.gamescatalog.infrastructure.config;
+
+import com.projuris.gamescatalog.infrastructure.persistence.datasource.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuração do modo de virtual threads (app.threads.virtual)
+ * As requisições do Tomcat usam virtual threads pelo Spring Boot
+ * (spring.threads.virtual.enabled, mapeado para app.threads.virtual) e os
+ * consumidores do DomainEventBus pelo AsyncConfig. Como as threads deixam de
+ * limitar a concorrência, o DataSource é envolvido por um
+ * ConcurrencyLimitedDataSource.
+ */
+@Configuration
+@Slf4j
+public class ThreadingConfig {
+
+    /**
+     * Falha na inicialização se o modo virtual for pedido sem Java 21
+     */
+    public static boolean virtualThreadsEnabled(ApplicationProperties.Threads threads) {
+        if (!threads.isVirtual()) {
+            return false;
+        }
+        if (!JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            throw new IllegalStateException("app.threads.virtual=true requer Java 21 ou superior (mvn -Pjava21); "
+                    + "versão atual: " + JavaVersion.getJavaVersion());
+        }
+        return true;
+    }
+
+    // static: o post processor é criado antes dos demais beans e não depende das ApplicationProperties
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                ApplicationProperties.Threads threads = Binder.get(environment)
+                        .bindOrCreate("app.threads", ApplicationProperties.Threads.class);
+                if (!virtualThreadsEnabled(threads)) {
+                    return bean;
+                }
+                log.info("ThreadingConfig - DataSource {} limitado a {} conexões simultâneas (timeout={})", beanName,
+                        threads.getMaxConcurrentConnections(), threads.getConnectionAcquireTimeout());
+                return new ConcurrencyLimitedDataSource(dataSource, threads.getMaxConcurrentConnections(),
+                        threads.getConnectionAcquireTimeout());
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dataSourcePermitsMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+                limited.bindTo(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,332 @@
+package com.projuris.gamescatalog.infrastructure.events;
+
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Barramento de eventos de domínio em anel pré-alocado (estilo Disruptor)
+ * Os publicadores reservam uma sequência do cursor (CAS), gravam o evento no
+ * slot e o marcam como publicado. Cada handler inscrito tem uma thread
+ * consumidora e a própria sequência: lê todos os slots publicados desde a
+ * última leitura e recebe, em uma única chamada, os eventos do seu tipo (até
+ * app.event-bus.max-batch-size). Um slot só é reutilizado depois que todos os
+ * handlers passaram por ele; com o anel cheio o publicador espera ou descarta
+ * o evento (app.event-bus.backpressure), em vez da TaskRejectedException do
+ * antigo pool com fila limitada. Um RelayedEvent chega desembrulhado aos
+ * handlers inscritos no tipo do evento e como envelope aos inscritos em Object.
+ */
+@Component
+@Slf4j
+public class DomainEventBus {
+
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int YIELD_AFTER_SPINS = 100;
+
+    private final Object[] entries;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final int maxBatchSize;
+    private final ApplicationProperties.EventBusWaitStrategy waitStrategy;
+    private final ApplicationProperties.EventBusBackpressure backpressure;
+    private final long backpressureTimeoutNanos;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition availableSignal = lock.newCondition();
+    private final TaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private volatile boolean running = true;
+
+    public DomainEventBus(ApplicationProperties applicationProperties, MeterRegistry meterRegistry,
+            @Qualifier("eventBusExecutor") TaskExecutor executor) {
+        ApplicationProperties.EventBus properties = applicationProperties.getEventBus();
+        int ringSize = ringSize(properties.getRingSize());
+        this.entries = new Object[ringSize];
+        this.published = new AtomicLongArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            published.set(i, -1);
+        }
+        this.mask = ringSize - 1;
+        this.maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        this.waitStrategy = properties.getWaitStrategy();
+        this.backpressure = properties.getBackpressure();
+        this.backpressureTimeoutNanos = properties.getBackpressureTimeout().toNanos();
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+
+        this.publishedCounter = Counter.builder("games.events.bus.published")
+                .description("Eventos publicados no barramento")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("games.events.bus.dropped")
+                .description("Eventos descartados com o anel cheio")
+                .register(meterRegistry);
+        Gauge.builder("games.events.bus.depth", this, DomainEventBus::depth)
+                .description("Eventos publicados ainda não consumidos pelo handler mais atrasado")
+                .register(meterRegistry);
+        Gauge.builder("games.events.bus.capacity", this, bus -> bus.entries.length)
+                .description("Slots do anel")
+                .register(meterRegistry);
+
+        log.info("DomainEventBus - Barramento iniciado: ringSize={}, maxBatchSize={}, waitStrategy={}, "
+                + "backpressure={}", ringSize, maxBatchSize, waitStrategy, backpressure);
+    }
+
+    /**
+     * Inscreve um handler para os eventos do tipo informado, entregues em lotes
+     * na ordem de publicação; recebe apenas eventos publicados após a inscrição
+     */
+    public <E> void subscribe(String name, Class<E> eventType, Consumer<List<E>> handler) {
+        Subscription<E> subscription = new Subscription<>(name, eventType, handler, cursor.get(), meterRegistry);
+        subscriptions.add(subscription);
+        Gauge.builder("games.events.bus.lag", subscription, s -> s.lag(cursor.get()))
+                .description("Eventos publicados ainda não consumidos pelo handler")
+                .tag("handler", name)
+                .register(meterRegistry);
+        executor.execute(() -> consume(subscription));
+        log.info("DomainEventBus.subscribe - Handler inscrito: handler={}, evento={}", name,
+                eventType.getSimpleName());
+    }
+
+    /**
+     * Publica o evento; retorna false se ele foi descartado pela política de backpressure
+     */
+    public boolean publish(Object event) {
+        long sequence = claim();
+        if (sequence < 0) {
+            droppedCounter.increment();
+            log.warn("DomainEventBus.publish - Anel cheio, evento descartado: tipo={}, profundidade={}",
+                    event.getClass().getSimpleName(), depth());
+            return false;
+        }
+        int index = index(sequence);
+        entries[index] = event;
+        // Escrita volátil: torna o evento do slot visível para os consumidores
+        published.set(index, sequence);
+        publishedCounter.increment();
+        if (waitStrategy == ApplicationProperties.EventBusWaitStrategy.BLOCKING) {
+            lock.lock();
+            try {
+                availableSignal.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Eventos publicados e ainda não consumidos pelo handler mais atrasado
+     */
+    public long depth() {
+        return cursor.get() - minimumSequence();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        lock.lock();
+        try {
+            availableSignal.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Subscription<?> subscription : subscriptions) {
+            try {
+                if (!subscription.stopped.await(5, TimeUnit.SECONDS)) {
+                    log.warn("DomainEventBus.shutdown - Handler não terminou de consumir: handler={}, atraso={}",
+                            subscription.name, subscription.lag(cursor.get()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        log.info("DomainEventBus.shutdown - Barramento encerrado: publicados={}, descartados={}",
+                (long) publishedCounter.count(), (long) droppedCounter.count());
+    }
+
+    private long claim() {
+        long deadline = 0;
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            if (next - entries.length > minimumSequence()) {
+                if (backpressure == ApplicationProperties.EventBusBackpressure.DROP || !running) {
+                    return -1;
+                }
+                long now = System.nanoTime();
+                if (deadline == 0) {
+                    deadline = now + backpressureTimeoutNanos;
+                } else if (now >= deadline) {
+                    return -1;
+                }
+                LockSupport.parkNanos(SLEEP_NANOS);
+                continue;
+            }
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private <E> void consume(Subscription<E> subscription) {
+        try {
+            while (true) {
+                long next = subscription.sequence.get() + 1;
+                long available = waitFor(next);
+                long highest = available < next ? next - 1
+                        : highestPublished(next, Math.min(available, next + maxBatchSize - 1));
+                if (highest < next) {
+                    if (!running) {
+                        return;
+                    }
+                    // Sequência reservada mas ainda não publicada
+                    Thread.onSpinWait();
+                    continue;
+                }
+                List<E> batch = new ArrayList<>();
+                for (long sequence = next; sequence <= highest; sequence++) {
+                    Object event = entries[index(sequence)];
+                    if (!subscription.eventType.isInstance(event) && event instanceof RelayedEvent relayed) {
+                        event = relayed.event();
+                    }
+                    if (subscription.eventType.isInstance(event)) {
+                        batch.add(subscription.eventType.cast(event));
+                    }
+                }
+                // O lote já foi copiado: os slots podem ser reutilizados durante a entrega
+                subscription.sequence.set(highest);
+                if (!batch.isEmpty()) {
+                    deliver(subscription, batch);
+                }
+            }
+        } finally {
+            subscription.stopped.countDown();
+        }
+    }
+
+    private <E> void deliver(Subscription<E> subscription, List<E> batch) {
+        subscription.batchSize.record(batch.size());
+        try {
+            subscription.handler.accept(batch);
+        } catch (RuntimeException e) {
+            subscription.errors.increment();
+            log.error("DomainEventBus.deliver - Falha no handler: handler={}, eventos={}", subscription.name,
+                    batch.size(), e);
+        }
+    }
+
+    /**
+     * Espera o cursor alcançar a sequência; retorna o cursor (menor que a
+     * sequência apenas no encerramento, quando não há mais nada a consumir)
+     */
+    private long waitFor(long sequence) {
+        long available;
+        int spins = 0;
+        while ((available = cursor.get()) < sequence && running) {
+            switch (waitStrategy) {
+                case BUSY_SPIN -> Thread.onSpinWait();
+                case YIELDING -> {
+                    if (++spins < YIELD_AFTER_SPINS) {
+                        Thread.onSpinWait();
+                    } else {
+                        Thread.yield();
+                    }
+                }
+                case SLEEPING -> LockSupport.parkNanos(SLEEP_NANOS);
+                case BLOCKING -> {
+                    lock.lock();
+                    try {
+                        if (cursor.get() < sequence && running) {
+                            availableSignal.await(1, TimeUnit.MILLISECONDS);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return cursor.get();
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        }
+        return available;
+    }
+
+    private long highestPublished(long from, long to) {
+        for (long sequence = from; sequence <= to; sequence++) {
+            if (published.get(index(sequence)) != sequence) {
+                return sequence - 1;
+            }
+        }
+        return to;
+    }
+
+    private long minimumSequence() {
+        long minimum = cursor.get();
+        for (Subscription<?> subscription : subscriptions) {
+            minimum = Math.min(minimum, subscription.sequence.get());
+        }
+        return minimum;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    private static int ringSize(int requested) {
+        return requested <= 2 ? 2 : Integer.highestOneBit(requested - 1) << 1;
+    }
+
+    private static final class Subscription<E> {
+
+        private final String name;
+        private final Class<E> eventType;
+        private final Consumer<List<E>> handler;
+        private final AtomicLong sequence;
+        private final CountDownLatch stopped = new CountDownLatch(1);
+        private final Counter errors;
+        private final DistributionSummary batchSize;
+
+        private Subscription(String name, Class<E> eventType, Consumer<List<E>> handler, long startSequence,
+                MeterRegistry meterRegistry) {
+            this.name = name;
+            this.eventType = eventType;
+            this.handler = handler;
+            this.sequence = new AtomicLong(startSequence);
+            this.errors = Counter.builder("games.events.bus.handler.errors")
+                    .description("Lotes em que o handler lançou exceção")
+                    .tag("handler", name)
+                    .register(meterRegistry);
+            this.batchSize = DistributionSummary.builder("games.events.bus.batch.size")
+                    .description("Eventos entregues por chamada do handler")
+                    .tag("handler", name)
+                    .register(meterRegistry);
+        }
+
+        private long lag(long cursor) {
+            return cursor - sequence.get();
+        }
+    }
+}
@@ -3,15 +3,25 @@ package com.projuris.gamescatalog.infrastructure.events;
 import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
 import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
 import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
+import com.projuris.gamescatalog.domain.events.GamesBatchCreatedEvent;
 import com.projuris.gamescatalog.domain.model.Game;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Publicador de eventos de domínio
- * Converte eventos de domínio em eventos do Spring e os publica
+ * Converte eventos de domínio em eventos do Spring e os publica. Os handlers
+ * síncronos (invalidação de cache) e transacionais continuam sendo eventos do
+ * Spring; para os demais o evento é gravado no outbox na mesma transação da
+ * alteração e entregue ao DomainEventBus pelo OutboxRelay após o commit.
  */
 @Component
 @RequiredArgsConstructor
@@ -19,6 +29,8 @@ import org.springframework.stereotype.Component;
 public class DomainEventPublisher {
 
     private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
+    private final OutboxRelay outboxRelay;
 
     public void publishDomainEvents(Game game) {
         game.getDomainEvents().forEach(event -> {
@@ -26,20 +38,62 @@ public class DomainEventPublisher {
                 GameCreatedEvent createdEvent = (GameCreatedEvent) event;
                 log.info("Publicando evento: Game criado - ID: {}, Título: {}",
                         createdEvent.getGameId(), createdEvent.getTitle());
-                eventPublisher.publishEvent(createdEvent);
+                publish(createdEvent);
             } else if (event instanceof GameUpdatedEvent) {
                 GameUpdatedEvent updatedEvent = (GameUpdatedEvent) event;
                 log.info("Publicando evento: Game atualizado - ID: {}, Título: {}",
                         updatedEvent.getGameId(), updatedEvent.getTitle());
-                eventPublisher.publishEvent(updatedEvent);
+                publish(updatedEvent);
             } else if (event instanceof GameDeletedEvent) {
                 GameDeletedEvent deletedEvent = (GameDeletedEvent) event;
                 log.info("Publicando evento: Game deletado - ID: {}, Título: {}",
                         deletedEvent.getGameId(), deletedEvent.getTitle());
-                eventPublisher.publishEvent(deletedEvent);
+                publish(deletedEvent);
             }
         });
 
         game.clearDomainEvents();
     }
+
+    /**
+     * Publica os eventos de um lote de games
+     * Os eventos de criação são agrupados em um único GamesBatchCreatedEvent
+     */
+    public void publishDomainEvents(Collection<Game> games) {
+        List<GameCreatedEvent> createdEvents = new ArrayList<>();
+        for (Game game : games) {
+            for (Object event : game.getDomainEvents()) {
+                if (event instanceof GameCreatedEvent createdEvent) {
+                    createdEvents.add(createdEvent);
+                }
+            }
+        }
+
+        if (!createdEvents.isEmpty()) {
+            log.info("Publicando evento: Lote de games criado - Quantidade: {}", createdEvents.size());
+            publish(new GamesBatchCreatedEvent(createdEvents));
+        }
+
+        for (Game game : games) {
+            game.getDomainEvents().stream()
+                    .filter(event -> !(event instanceof GameCreatedEvent))
+                    .forEach(this::publish);
+            game.clearDomainEvents();
+        }
+    }
+
+    private void publish(Object event) {
+        eventPublisher.publishEvent(event);
+        outboxWriter.append(event);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.wakeUp();
+                }
+            });
+        } else {
+            outboxRelay.wakeUp();
+        }
+    }
 }
@@ -0,0 +1,246 @@
+package com.projuris.gamescatalog.infrastructure.events;
+
+import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
+import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
+import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consolida os eventos do mesmo game antes do DomainEventBus
+ * Durante a ingestão um game pode ser atualizado várias vezes por segundo; os
+ * eventos confirmados ficam pendentes por gameId até o fim da janela
+ * (app.event-coalescing.window) e são fundidos: criação + atualização vira
+ * uma criação com o estado final, atualizações seguidas viram uma só,
+ * atualização + deleção vira a deleção e criação + deleção se anulam. Assim
+ * os handlers do barramento fazem uma unidade de trabalho por game por
+ * janela. Eventos que não são de um único game (ex: GamesBatchCreatedEvent)
+ * seguem direto para o barramento. Cada submit devolve a confirmação da
+ * entrega: true quando o barramento aceitou o evento consolidado que o contém
+ * (ou quando ele foi anulado), false quando o barramento o descartou. Eventos
+ * com outboxId vão ao barramento como RelayedEvent, com o id da linha mais
+ * recente fundida.
+ */
+@Component
+@Slf4j
+public class GameEventCoalescer {
+
+    private final DomainEventBus domainEventBus;
+    private final Duration window;
+    private final int maxPending;
+    private final Map<Long, Pending> pending = new LinkedHashMap<>();
+    // Serializa as entregas: dois flushes simultâneos não podem intercalar eventos do mesmo game
+    private final Object flushLock = new Object();
+    private final Counter receivedCounter;
+    private final Counter emittedCounter;
+    private ScheduledExecutorService scheduler;
+
+    public GameEventCoalescer(DomainEventBus domainEventBus, ApplicationProperties applicationProperties,
+            MeterRegistry meterRegistry) {
+        this.domainEventBus = domainEventBus;
+        this.window = applicationProperties.getEventCoalescing().getWindow();
+        this.maxPending = Math.max(1, applicationProperties.getEventCoalescing().getMaxPending());
+
+        this.receivedCounter = Counter.builder("games.events.coalescer.received")
+                .description("Eventos de game recebidos para consolidação")
+                .register(meterRegistry);
+        this.emittedCounter = Counter.builder("games.events.coalescer.emitted")
+                .description("Eventos de game entregues ao barramento após a consolidação")
+                .register(meterRegistry);
+        Gauge.builder("games.events.coalescer.pending", this, GameEventCoalescer::pendingCount)
+                .description("Games com eventos aguardando o fim da janela")
+                .register(meterRegistry);
+        Gauge.builder("games.events.coalescer.merge.ratio", this, GameEventCoalescer::mergeRatio)
+                .description("Eventos recebidos por evento entregue (1 = nenhuma consolidação)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!isEnabled()) {
+            log.info("GameEventCoalescer - Consolidação desligada (app.event-coalescing.window=0)");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long windowMillis = Math.max(1, window.toMillis());
+        scheduler.scheduleAtFixedRate(this::flushSafely, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        log.info("GameEventCoalescer - Consolidação iniciada: janela={}, maxPending={}", window, maxPending);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flush();
+    }
+
+    /**
+     * Recebe um evento confirmado; os eventos de game ficam pendentes até o fim
+     * da janela. A confirmação completa quando o evento é entregue ao barramento
+     */
+    public CompletableFuture<Boolean> submit(Object event) {
+        return submit(event, null);
+    }
+
+    /**
+     * Como submit(event), para um evento lido da linha outboxId do outbox
+     */
+    public CompletableFuture<Boolean> submit(Object event, Long outboxId) {
+        Long gameId = gameId(event);
+        if (gameId == null || !isEnabled()) {
+            if (gameId != null) {
+                receivedCounter.increment();
+                emittedCounter.increment();
+            }
+            return CompletableFuture.completedFuture(domainEventBus.publish(relayed(event, outboxId)));
+        }
+        receivedCounter.increment();
+        CompletableFuture<Boolean> delivered = new CompletableFuture<>();
+        boolean full;
+        synchronized (pending) {
+            Pending previous = pending.remove(gameId);
+            Object merged = merge(previous == null ? null : previous.event(), event);
+            List<CompletableFuture<Boolean>> acknowledgements = previous == null
+                    ? new ArrayList<>(1) : previous.acknowledgements();
+            acknowledgements.add(delivered);
+            if (merged != null) {
+                pending.put(gameId, new Pending(merged,
+                        latest(previous == null ? null : previous.outboxId(), outboxId), acknowledgements));
+            } else {
+                // Criação e deleção se anularam: nada a entregar
+                acknowledgements.forEach(acknowledgement -> acknowledgement.complete(true));
+            }
+            full = pending.size() >= maxPending;
+        }
+        if (full) {
+            flush();
+        }
+        return delivered;
+    }
+
+    /**
+     * Entrega ao barramento os eventos consolidados pendentes, na ordem de
+     * chegada dos games; um flush por vez
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<Pending> events;
+            synchronized (pending) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                events = new ArrayList<>(pending.values());
+                pending.clear();
+            }
+            // Fora do lock de pending: submit segue acumulando enquanto o barramento aplica backpressure
+            for (Pending event : events) {
+                try {
+                    event.complete(domainEventBus.publish(relayed(event.event(), event.outboxId())));
+                } catch (RuntimeException e) {
+                    event.acknowledgements().forEach(acknowledgement -> acknowledgement.completeExceptionally(e));
+                    log.error("GameEventCoalescer.flush - Falha ao entregar evento: tipo={}",
+                            event.event().getClass().getSimpleName(), e);
+                }
+            }
+            emittedCounter.increment(events.size());
+            log.debug("GameEventCoalescer.flush - Eventos consolidados entregues: quantidade={}", events.size());
+        }
+    }
+
+    /**
+     * Funde o evento pendente do game com o novo; null quando os dois se anulam
+     */
+    static Object merge(Object previous, Object next) {
+        if (previous instanceof GameCreatedEvent created) {
+            if (next instanceof GameUpdatedEvent updated) {
+                return created.withUpdate(updated);
+            }
+            if (next instanceof GameDeletedEvent) {
+                return null;
+            }
+        }
+        if (previous instanceof GameUpdatedEvent updated && next instanceof GameUpdatedEvent later) {
+            return updated.mergedWith(later);
+        }
+        return next;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("GameEventCoalescer.flush - Falha ao entregar eventos consolidados", e);
+        }
+    }
+
+    private boolean isEnabled() {
+        return !window.isZero() && !window.isNegative();
+    }
+
+    private int pendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    private double mergeRatio() {
+        double emitted = emittedCounter.count();
+        return emitted == 0 ? 1.0 : receivedCounter.count() / emitted;
+    }
+
+    private static Long latest(Long previous, Long next) {
+        if (previous == null) {
+            return next;
+        }
+        return next == null ? previous : Long.valueOf(Math.max(previous, next));
+    }
+
+    private static Object relayed(Object event, Long outboxId) {
+        return outboxId == null ? event : new RelayedEvent(event, outboxId);
+    }
+
+    static Long gameId(Object event) {
+        if (event instanceof GameCreatedEvent created) {
+            return created.getGameId();
+        }
+        if (event instanceof GameUpdatedEvent updated) {
+            return updated.getGameId();
+        }
+        if (event instanceof GameDeletedEvent deleted) {
+            return deleted.getGameId();
+        }
+        return null;
+    }
+
+    /**
+     * Evento consolidado de um game, a linha mais recente do outbox fundida
+     * nele (null fora do outbox) e as confirmações dos eventos fundidos
+     */
+    private record Pending(Object event, Long outboxId, List<CompletableFuture<Boolean>> acknowledgements) {
+
+        private void complete(boolean delivered) {
+            acknowledgements.forEach(acknowledgement -> acknowledgement.complete(delivered));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.projuris.gamescatalog.infrastructure.events;
+
+import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
+import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
+import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
+import com.projuris.gamescatalog.domain.events.GamesBatchCreatedEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Serialização dos eventos de domínio gravados no outbox
+ * Os eventos já são Serializable (com serialVersionUID fixo); a
+ * desserialização aceita apenas os eventos de domínio gravados pelo
+ * OutboxWriter e os tipos do JDK que eles usam (String, Long, LocalDateTime
+ * e a lista imutável do lote), com profundidade limitada.
+ */
+final class OutboxEventCodec {
+
+    private static final Set<Class<?>> ALLOWED_CLASSES = Set.of(
+            GameCreatedEvent.class, GameUpdatedEvent.class, GameDeletedEvent.class, GamesBatchCreatedEvent.class,
+            String.class, Long.class, LocalDateTime.class, Number.class, Object[].class);
+    // Classes internas do JDK: proxies de serialização de LocalDateTime e de List.copyOf e as listas que eles resolvem
+    private static final Set<String> ALLOWED_JDK_CLASSES = Set.of("java.time.Ser", "java.util.CollSer",
+            "java.util.ImmutableCollections$ListN", "java.util.ImmutableCollections$List12");
+    // Lote > lista > evento > Long > Number
+    private static final long MAX_DEPTH = 5;
+
+    private OutboxEventCodec() {
+    }
+
+    static byte[] encode(Object event) {
+        if (!(event instanceof Serializable)) {
+            throw new IllegalArgumentException("Evento não serializável: " + event.getClass().getName());
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(event);
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao serializar evento " + event.getClass().getName(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Object decode(byte[] payload) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            in.setObjectInputFilter(OutboxEventCodec::filter);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Falha ao desserializar evento do outbox", e);
+        }
+    }
+
+    private static ObjectInputFilter.Status filter(ObjectInputFilter.FilterInfo info) {
+        if (info.depth() > MAX_DEPTH) {
+            return ObjectInputFilter.Status.REJECTED;
+        }
+        Class<?> type = info.serialClass();
+        if (type == null || ALLOWED_CLASSES.contains(type) || ALLOWED_JDK_CLASSES.contains(type.getName())) {
+            return ObjectInputFilter.Status.ALLOWED;
+        }
+        return ObjectInputFilter.Status.REJECTED;
+    }
+}
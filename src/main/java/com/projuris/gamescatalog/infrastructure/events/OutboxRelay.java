@@ -0,0 +1,256 @@
+package com.projuris.gamescatalog.infrastructure.events;
+
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.persistence.entity.OutboxEventEntity;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Relay do outbox: entrega ao GameEventCoalescer (e dele ao DomainEventBus)
+ * os eventos gravados em OUTBOX_EVENTS
+ * Uma thread drena a tabela em lotes de app.outbox.batch-size, na ordem de
+ * gravação. Cada lote é reservado numa transação curta (FOR UPDATE SKIP LOCKED
+ * e CLAIMED_UNTIL por app.outbox.claim-timeout), entregue sem transação nem
+ * trava aberta e só então removido: apaga-se o prefixo do lote cuja entrega
+ * o coalescer confirmou, e o restante é liberado para o próximo ciclo. Com
+ * isso nenhum evento se perde se a consolidação ou o barramento o descartarem
+ * (at-least-once; um game pode receber de novo um evento já entregue). Sem
+ * eventos, a thread espera app.outbox.poll-delay ou o aviso de commit do
+ * DomainEventPublisher (wakeUp). A mesma thread amostra o total de eventos
+ * pendentes no máximo uma vez por poll-delay; o gauge lê essa amostra, sem
+ * COUNT a cada coleta de métricas.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final JpaOutboxEventRepository outboxEventRepository;
+    private final GameEventCoalescer gameEventCoalescer;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+    private final int batchSize;
+    private final long pollDelayMillis;
+    private final Duration deliveryTimeout;
+    private final Duration claimTimeout;
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private volatile boolean running;
+    // Última amostra de COUNT(*) do outbox, lida pelo gauge
+    private volatile long pending;
+    // Acessado apenas pela thread do relay
+    private long lastPendingSample;
+
+    public OutboxRelay(JpaOutboxEventRepository outboxEventRepository, GameEventCoalescer gameEventCoalescer,
+            PlatformTransactionManager transactionManager, ApplicationProperties applicationProperties,
+            @Qualifier("eventBusExecutor") TaskExecutor executor, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.gameEventCoalescer = gameEventCoalescer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.batchSize = Math.max(1, applicationProperties.getOutbox().getBatchSize());
+        this.pollDelayMillis = Math.max(1, applicationProperties.getOutbox().getPollDelay().toMillis());
+        this.deliveryTimeout = applicationProperties.getOutbox().getDeliveryTimeout();
+        this.claimTimeout = applicationProperties.getOutbox().getClaimTimeout();
+
+        this.relayedCounter = Counter.builder("games.outbox.relayed")
+                .description("Eventos entregues a partir do outbox")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("games.outbox.failed")
+                .description("Eventos do outbox descartados por falha de desserialização")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("games.outbox.retried")
+                .description("Eventos do outbox liberados sem confirmação de entrega, para nova tentativa")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("games.outbox.batch.size")
+                .description("Eventos entregues por lote do relay")
+                .register(meterRegistry);
+        Gauge.builder("games.outbox.pending", this, relay -> relay.pending)
+                .description("Eventos gravados no outbox e ainda não entregues (amostrado a cada poll-delay)")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        executor.execute(this::run);
+        log.info("OutboxRelay - Relay iniciado: batchSize={}, pollDelay={} ms", batchSize, pollDelayMillis);
+    }
+
+    /**
+     * Avisa que há eventos novos confirmados, antecipando o próximo ciclo
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        wakeUps.release();
+        try {
+            stopped.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Drena um lote; retorna a quantidade de linhas removidas do outbox
+     */
+    public int drain() {
+        List<OutboxEventEntity> claimed = transactionTemplate.execute(status -> claim());
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<Boolean>> deliveries = new ArrayList<>(claimed.size());
+        for (OutboxEventEntity entity : claimed) {
+            try {
+                deliveries.add(gameEventCoalescer.submit(OutboxEventCodec.decode(entity.getPayload()), entity.getId()));
+            } catch (IllegalStateException e) {
+                failedCounter.increment();
+                log.error("OutboxRelay.drain - Evento descartado: id={}, tipo={}", entity.getId(),
+                        entity.getEventType(), e);
+                deliveries.add(CompletableFuture.completedFuture(true));
+            }
+        }
+        if (claimed.size() == batchSize) {
+            // Há fila no outbox: o próprio lote já foi consolidado, não há por que esperar a janela
+            gameEventCoalescer.flush();
+        }
+
+        int confirmed = confirmedPrefix(deliveries);
+        List<Long> delivered = ids(claimed.subList(0, confirmed));
+        List<Long> released = ids(claimed.subList(confirmed, claimed.size()));
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(delivered);
+            }
+            if (!released.isEmpty()) {
+                outboxEventRepository.updateClaim(released, null);
+            }
+        });
+        if (!released.isEmpty()) {
+            retriedCounter.increment(released.size());
+            log.warn("OutboxRelay.drain - Entrega não confirmada, eventos liberados para nova tentativa: "
+                    + "confirmados={}, liberados={}", confirmed, released.size());
+        }
+        if (confirmed > 0) {
+            relayedCounter.increment(confirmed);
+            batchSizeSummary.record(confirmed);
+            log.debug("OutboxRelay.drain - Lote entregue: eventos={}", confirmed);
+        }
+        return confirmed;
+    }
+
+    /**
+     * Trava os eventos mais antigos sem reserva vigente e os reserva por
+     * claim-timeout; a trava termina com a transação, a reserva não
+     */
+    private List<OutboxEventEntity> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventEntity> claimed = outboxEventRepository.claimOldest(now, batchSize);
+        if (!claimed.isEmpty()) {
+            outboxEventRepository.updateClaim(ids(claimed), now.plus(claimTimeout));
+        }
+        return claimed;
+    }
+
+    /**
+     * Quantidade de eventos do início do lote com entrega confirmada: depois do
+     * primeiro não confirmado, tudo é reenviado para que um evento mais antigo
+     * de um game nunca chegue depois de um mais novo
+     */
+    private int confirmedPrefix(List<CompletableFuture<Boolean>> deliveries) {
+        long deadline = System.nanoTime() + deliveryTimeout.toNanos();
+        for (int i = 0; i < deliveries.size(); i++) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                if (!Boolean.TRUE.equals(deliveries.get(i).get(remaining, TimeUnit.NANOSECONDS))) {
+                    return i;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return i;
+            } catch (ExecutionException | TimeoutException e) {
+                return i;
+            }
+        }
+        return deliveries.size();
+    }
+
+    /**
+     * Atualiza a amostra do gauge de pendentes se a anterior tem mais de poll-delay
+     */
+    void samplePending() {
+        long now = System.currentTimeMillis();
+        if (now - lastPendingSample < pollDelayMillis) {
+            return;
+        }
+        lastPendingSample = now;
+        pending = outboxEventRepository.count();
+    }
+
+    private static List<Long> ids(List<OutboxEventEntity> entities) {
+        List<Long> ids = new ArrayList<>(entities.size());
+        for (OutboxEventEntity entity : entities) {
+            ids.add(entity.getId());
+        }
+        return ids;
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                int drained;
+                try {
+                    drained = drain();
+                    samplePending();
+                } catch (RuntimeException e) {
+                    log.error("OutboxRelay.run - Falha ao drenar o outbox, nova tentativa em {} ms",
+                            pollDelayMillis, e);
+                    drained = 0;
+                }
+                if (drained < batchSize) {
+                    wakeUps.tryAcquire(pollDelayMillis, TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stopped.countDown();
+        }
+    }
+}
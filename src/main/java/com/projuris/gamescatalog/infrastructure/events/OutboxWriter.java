@@ -0,0 +1,28 @@
+package com.projuris.gamescatalog.infrastructure.events;
+
+import com.projuris.gamescatalog.infrastructure.persistence.entity.OutboxEventEntity;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Grava eventos de domínio no outbox (OUTBOX_EVENTS)
+ * Participa da transação do use case: o evento só existe se a alteração em
+ * GAMES for confirmada.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final JpaOutboxEventRepository outboxEventRepository;
+
+    @Transactional
+    public void append(Object event) {
+        OutboxEventEntity entity = new OutboxEventEntity();
+        entity.setEventType(event.getClass().getSimpleName());
+        entity.setAggregateId(GameEventCoalescer.gameId(event));
+        entity.setPayload(OutboxEventCodec.encode(event));
+        outboxEventRepository.save(entity);
+    }
+}
@@ -0,0 +1,11 @@
+package com.projuris.gamescatalog.infrastructure.events;
+
+/**
+ * Evento entregue pelo OutboxRelay, com o id da linha do outbox de origem
+ * O DomainEventBus entrega o evento desembrulhado aos handlers inscritos no
+ * tipo dele; quem se inscreve em Object recebe o envelope e pode descartar
+ * reentregas (a entrega do outbox é at-least-once) pelo outboxId. Quando o
+ * GameEventCoalescer funde eventos, o id é o da linha mais recente do game.
+ */
+public record RelayedEvent(Object event, long outboxId) {
+}
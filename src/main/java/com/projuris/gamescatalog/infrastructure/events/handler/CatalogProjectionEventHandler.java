@@ -0,0 +1,181 @@
+package com.projuris.gamescatalog.infrastructure.events.handler;
+
+import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
+import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
+import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
+import com.projuris.gamescatalog.domain.events.GamesBatchCreatedEvent;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.projection.CatalogProjection;
+import com.projuris.gamescatalog.infrastructure.projection.CatalogVersionTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Handler que mantém as projeções em memória do catálogo (CatalogProjection)
+ * Executa após o commit, carrega o estado atual do game uma única vez e o
+ * repassa a todas as projeções; só então incrementa a versão do catálogo
+ * (CatalogVersionTracker). Na inicialização reconstrói as projeções
+ * percorrendo o catálogo em streaming.
+ * <p>
+ * A reconstrução roda com a aplicação já aceitando escritas: uma linha lida
+ * pelo streaming antes de um commit pode ser aplicada depois do evento desse
+ * commit e sobrescrevê-lo. Por isso, durante a reconstrução os eventos apenas
+ * registram os IDs alterados, que são recarregados do banco ao final do
+ * streaming, antes de as projeções passarem a responder consultas (o que
+ * também evita que games novos entrem no meio das colunas do CatalogReadModel
+ * enquanto o streaming ainda percorre IDs menores).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogProjectionEventHandler {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final GameRepository gameRepository;
+    private final List<CatalogProjection> projections;
+    private final CatalogVersionTracker catalogVersionTracker;
+
+    // IDs alterados por eventos durante a reconstrução; null fora dela (protegido por rebuildLock)
+    private final Object rebuildLock = new Object();
+    private Set<Long> changedDuringRebuild;
+
+    // Antes do aquecimento dos caches (CacheWarmer), que lê das projeções
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void rebuild() {
+        if (projections.isEmpty()) {
+            return;
+        }
+        log.info("CatalogProjectionEventHandler - Reconstruindo {} projeções do catálogo", projections.size());
+        long start = System.currentTimeMillis();
+        synchronized (rebuildLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        projections.forEach(CatalogProjection::onRebuildStarted);
+        long loaded;
+        long reloaded;
+        try {
+            loaded = gameRepository.streamAll(null, null, this::upsert);
+        } finally {
+            reloaded = reloadChangedDuringRebuild();
+        }
+        projections.forEach(CatalogProjection::onRebuildCompleted);
+        if (reloaded > 0) {
+            catalogVersionTracker.bump();
+        }
+        log.info("CatalogProjectionEventHandler - Projeções reconstruídas: {} games em {} ms, {} recarregados",
+                loaded, System.currentTimeMillis() - start, reloaded);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameCreated(GameCreatedEvent event) {
+        if (!deferredByRebuild(event.getGameId())) {
+            refresh(event.getGameId());
+            changesApplied();
+        }
+        catalogVersionTracker.bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGamesBatchCreated(GamesBatchCreatedEvent event) {
+        List<Long> ids = event.getEvents().stream().map(GameCreatedEvent::getGameId).toList();
+        if (deferredByRebuild(ids)) {
+            return;
+        }
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()));
+            gameRepository.findAllById(chunk).forEach(this::upsert);
+        }
+        changesApplied();
+        catalogVersionTracker.bump();
+        log.debug("CatalogProjectionEventHandler - Projeções atualizadas para lote de {} games", ids.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameUpdated(GameUpdatedEvent event) {
+        if (!deferredByRebuild(event.getGameId())) {
+            refresh(event.getGameId());
+            changesApplied();
+        }
+        catalogVersionTracker.bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameDeleted(GameDeletedEvent event) {
+        log.debug("CatalogProjectionEventHandler - Removendo game das projeções: id={}", event.getGameId());
+        if (!deferredByRebuild(event.getGameId())) {
+            projections.forEach(projection -> projection.onDelete(event.getGameId()));
+            changesApplied();
+        }
+        catalogVersionTracker.bump();
+    }
+
+    /**
+     * Recarrega os IDs adiados até não sobrar nenhum; eventos que chegam
+     * durante a recarga continuam adiados e entram na próxima rodada, então
+     * nenhum é aplicado em paralelo com a recarga do mesmo ID
+     */
+    private long reloadChangedDuringRebuild() {
+        long reloaded = 0;
+        List<Long> changedIds;
+        do {
+            synchronized (rebuildLock) {
+                changedIds = List.copyOf(changedDuringRebuild);
+                changedDuringRebuild.clear();
+                if (changedIds.isEmpty()) {
+                    // A partir daqui os eventos são aplicados diretamente
+                    changedDuringRebuild = null;
+                }
+            }
+            changedIds.forEach(this::refresh);
+            reloaded += changedIds.size();
+        } while (!changedIds.isEmpty());
+        return reloaded;
+    }
+
+    /**
+     * Registra o ID para recarga ao final da reconstrução em andamento
+     *
+     * @return true se o evento foi adiado (o chamador não deve aplicá-lo)
+     */
+    private boolean deferredByRebuild(Long gameId) {
+        return deferredByRebuild(List.of(gameId));
+    }
+
+    private boolean deferredByRebuild(Collection<Long> gameIds) {
+        synchronized (rebuildLock) {
+            if (changedDuringRebuild == null) {
+                return false;
+            }
+            changedDuringRebuild.addAll(gameIds);
+            return true;
+        }
+    }
+
+    private void refresh(Long gameId) {
+        gameRepository.findById(gameId).ifPresentOrElse(this::upsert, () -> {
+            log.debug("CatalogProjectionEventHandler - Game {} não existe mais, removendo das projeções", gameId);
+            projections.forEach(projection -> projection.onDelete(gameId));
+        });
+    }
+
+    private void changesApplied() {
+        projections.forEach(CatalogProjection::onChangesApplied);
+    }
+
+    private void upsert(Game game) {
+        projections.forEach(projection -> projection.onUpsert(game));
+    }
+}
@@ -0,0 +1,132 @@
+package com.projuris.gamescatalog.infrastructure.events.handler;
+
+import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
+import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
+import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
+import com.projuris.gamescatalog.domain.events.GamesBatchCreatedEvent;
+import com.projuris.gamescatalog.infrastructure.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * Handler que invalida os caches do Spring (gameById, games, gamesByGenre)
+ * Único ponto de invalidação desses caches: remove apenas as chaves afetadas
+ * (o ID alterado e os gêneros antigo e novo) em vez de limpar os caches
+ * inteiros. Invalida duas vezes, como o ResponseBytesCache: de forma síncrona
+ * na publicação do evento, como o @CacheEvict que substitui, e de novo após o
+ * commit, para descartar o que uma leitura concorrente recarregou do banco
+ * antes do INSERT/UPDATE/DELETE ficar visível. A criação grava o novo game em gameById
+ * após o commit (GameByIdCacheWriter).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameCacheEventHandler {
+
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void handleGameCreated(GameCreatedEvent event) {
+        log.debug("GameCacheEventHandler - Game criado: invalidando games e gamesByGenre[{}]", event.getGenre());
+        evictCreated(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameCreatedAfterCommit(GameCreatedEvent event) {
+        log.debug("GameCacheEventHandler - Game criado (após commit): invalidando games e gamesByGenre[{}]",
+                event.getGenre());
+        evictCreated(event);
+    }
+
+    @EventListener
+    public void handleGamesBatchCreated(GamesBatchCreatedEvent event) {
+        evictBatchCreated(event);
+        log.debug("GameCacheEventHandler - Lote de {} games criado: caches de listagem invalidados", event.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGamesBatchCreatedAfterCommit(GamesBatchCreatedEvent event) {
+        evictBatchCreated(event);
+        log.debug("GameCacheEventHandler - Lote de {} games criado (após commit): caches de listagem invalidados",
+                event.size());
+    }
+
+    @EventListener
+    public void handleGameUpdated(GameUpdatedEvent event) {
+        log.debug("GameCacheEventHandler - Game atualizado: invalidando gameById[{}] e gamesByGenre[{}, {}]",
+                event.getGameId(), event.getPreviousGenre(), event.getGenre());
+        evictUpdated(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameUpdatedAfterCommit(GameUpdatedEvent event) {
+        log.debug("GameCacheEventHandler - Game atualizado (após commit): invalidando gameById[{}]", event.getGameId());
+        evictUpdated(event);
+    }
+
+    @EventListener
+    public void handleGameDeleted(GameDeletedEvent event) {
+        log.debug("GameCacheEventHandler - Game deletado: invalidando gameById[{}] e gamesByGenre[{}]",
+                event.getGameId(), event.getGenre());
+        evictDeleted(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameDeletedAfterCommit(GameDeletedEvent event) {
+        log.debug("GameCacheEventHandler - Game deletado (após commit): invalidando gameById[{}]", event.getGameId());
+        evictDeleted(event);
+    }
+
+    private void evictCreated(GameCreatedEvent event) {
+        evictAllGames();
+        evictGenre(event.getGenre());
+    }
+
+    private void evictBatchCreated(GamesBatchCreatedEvent event) {
+        evictAllGames();
+        event.getEvents().stream()
+                .map(GameCreatedEvent::getGenre)
+                .distinct()
+                .forEach(this::evictGenre);
+    }
+
+    private void evictUpdated(GameUpdatedEvent event) {
+        cache(CacheConfig.GAME_BY_ID_CACHE).evict(event.getGameId());
+        evictAllGames();
+        evictGenre(event.getGenre());
+        if (!Objects.equals(event.getPreviousGenre(), event.getGenre())) {
+            evictGenre(event.getPreviousGenre());
+        }
+    }
+
+    private void evictDeleted(GameDeletedEvent event) {
+        cache(CacheConfig.GAME_BY_ID_CACHE).evict(event.getGameId());
+        evictAllGames();
+        evictGenre(event.getGenre());
+    }
+
+    /**
+     * O cache games guarda a lista completa em uma única chave (método sem parâmetros)
+     */
+    private void evictAllGames() {
+        cache(CacheConfig.GAMES_CACHE).evict(SimpleKey.EMPTY);
+    }
+
+    private void evictGenre(String genre) {
+        if (genre != null) {
+            cache(CacheConfig.GAMES_BY_GENRE_CACHE).evict(genre);
+        }
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), name);
+    }
+}
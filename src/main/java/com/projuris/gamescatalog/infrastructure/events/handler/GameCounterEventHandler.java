@@ -0,0 +1,50 @@
+package com.projuris.gamescatalog.infrastructure.events.handler;
+
+import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
+import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
+import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
+import com.projuris.gamescatalog.domain.events.GamesBatchCreatedEvent;
+import com.projuris.gamescatalog.infrastructure.persistence.counter.GameCounterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Handler que mantém os contadores de games atualizados
+ * Executa após o commit para não contar escritas que sofreram rollback
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameCounterEventHandler {
+
+    private final GameCounterRegistry counterRegistry;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameCreated(GameCreatedEvent event) {
+        log.debug("GameCounterEventHandler - Incrementando contadores: id={}, genre={}", event.getGameId(),
+                event.getGenre());
+        counterRegistry.increment(event.getGenre());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGamesBatchCreated(GamesBatchCreatedEvent event) {
+        log.debug("GameCounterEventHandler - Incrementando contadores para lote de {} games", event.size());
+        event.getEvents().forEach(created -> counterRegistry.increment(created.getGenre()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameUpdated(GameUpdatedEvent event) {
+        log.debug("GameCounterEventHandler - Movendo contadores: id={}, de {} para {}", event.getGameId(),
+                event.getPreviousGenre(), event.getGenre());
+        counterRegistry.move(event.getPreviousGenre(), event.getGenre());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGameDeleted(GameDeletedEvent event) {
+        log.debug("GameCounterEventHandler - Decrementando contadores: id={}, genre={}", event.getGameId(),
+                event.getGenre());
+        counterRegistry.decrement(event.getGenre());
+    }
+}
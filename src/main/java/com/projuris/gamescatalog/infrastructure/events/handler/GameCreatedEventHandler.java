@@ -1,43 +1,56 @@
 package com.projuris.gamescatalog.infrastructure.events.handler;
 
 import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
-import com.projuris.gamescatalog.infrastructure.config.CacheConfig;
+import com.projuris.gamescatalog.domain.events.GamesBatchCreatedEvent;
+import com.projuris.gamescatalog.infrastructure.events.DomainEventBus;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Handler para eventos de criação de games
+ * Consome do DomainEventBus após o commit, em lotes
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class GameCreatedEventHandler {
 
-    private final CacheManager cacheManager;
+    private final DomainEventBus domainEventBus;
+
+    @PostConstruct
+    void subscribe() {
+        domainEventBus.subscribe("gameCreated", GameCreatedEvent.class, this::handleGamesCreated);
+        domainEventBus.subscribe("gamesBatchCreated", GamesBatchCreatedEvent.class, this::handleGamesBatchCreated);
+    }
 
-    @EventListener
-    @Async
-    public void handleGameCreated(GameCreatedEvent event) {
-        log.info("=== EVENTO PROCESSADO: Game Criado ===");
-        log.info("ID do Game: {}", event.getGameId());
-        log.info("Título: {}", event.getTitle());
-        log.info("Desenvolvedora: {}", event.getDeveloper());
-        log.info("Data/Hora: {}", event.getOccurredAt());
+    public void handleGamesCreated(List<GameCreatedEvent> events) {
+        log.info("=== EVENTO PROCESSADO: Game Criado ({} eventos) ===", events.size());
+        for (GameCreatedEvent event : events) {
+            log.info("ID do Game: {}, Título: {}, Desenvolvedora: {}, Data/Hora: {}", event.getGameId(),
+                    event.getTitle(), event.getDeveloper(), event.getOccurredAt());
+        }
         log.info("=====================================");
 
-        // Invalidando cache relacionado ao novo game
-        log.debug("GameCreatedEventHandler - Invalidando caches: games, gamesByGenre");
-        cacheManager.getCache(CacheConfig.GAMES_CACHE).clear();
-        cacheManager.getCache(CacheConfig.GAMES_BY_GENRE_CACHE).clear();
-        log.debug("GameCreatedEventHandler - Caches invalidados com sucesso");
+        // Os caches são invalidados de forma síncrona pelo GameCacheEventHandler
 
         // Aqui pode ser implementada lógica adicional como:
         // - Enviar notificação por email (ex: EmailService ou Slack)
         // - Registrar em sistema de analytics (ex: Google Analytics)
-        // - Enviar para fila de mensageria (ex: Kafka ou RabbitMQ)
+        // - Enviar para fila de mensageria (ex: Kafka ou RabbitMQ), um envio por lote
+    }
+
+    public void handleGamesBatchCreated(List<GamesBatchCreatedEvent> events) {
+        log.info("=== EVENTO PROCESSADO: Lote de Games Criado ===");
+        for (GamesBatchCreatedEvent event : events) {
+            log.info("Quantidade: {}, Data/Hora: {}", event.size(), event.getOccurredAt());
+        }
+        log.info("===============================================");
+
+        // Os caches de listagem são invalidados uma única vez por lote pelo
+        // GameCacheEventHandler, não é necessário limpá-los por game
     }
 }
@@ -0,0 +1,61 @@
+package com.projuris.gamescatalog.infrastructure.persistence.adapter;
+
+import com.projuris.gamescatalog.application.port.GameDeltaPort;
+import com.projuris.gamescatalog.application.port.GameTombstone;
+import com.projuris.gamescatalog.application.port.VersionedGame;
+import com.projuris.gamescatalog.infrastructure.persistence.mapper.GameEntityMapper;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaGameRepository;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaGameTombstoneRepository;
+import com.projuris.gamescatalog.infrastructure.persistence.version.CatalogVersionAllocator;
+import com.projuris.gamescatalog.infrastructure.persistence.version.TombstoneRetentionJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adapter que implementa o port GameDeltaPort
+ * Consulta GAMES e GAME_TOMBSTONES pelo índice de CATALOG_VERSION
+ */
+@Component
+@RequiredArgsConstructor
+public class GameDeltaAdapter implements GameDeltaPort {
+
+    private final JpaGameRepository jpaGameRepository;
+    private final JpaGameTombstoneRepository jpaGameTombstoneRepository;
+    private final GameEntityMapper gameEntityMapper;
+    private final CatalogVersionAllocator catalogVersionAllocator;
+    private final TombstoneRetentionJob tombstoneRetentionJob;
+
+    @Override
+    public long currentVersion() {
+        return catalogVersionAllocator.safeVersion();
+    }
+
+    @Override
+    public long purgedThroughVersion() {
+        return tombstoneRetentionJob.getPurgedThroughVersion();
+    }
+
+    @Override
+    public List<VersionedGame> findGamesChangedAfter(long since, long upTo, int limit) {
+        return jpaGameRepository
+                .findByCatalogVersionGreaterThanAndCatalogVersionLessThanEqualOrderByCatalogVersionAsc(since, upTo,
+                        Limit.of(limit))
+                .stream()
+                .map(entity -> new VersionedGame(gameEntityMapper.toDomain(entity), entity.getCatalogVersion()))
+                .toList();
+    }
+
+    @Override
+    public List<GameTombstone> findTombstonesAfter(long since, long upTo, int limit) {
+        return jpaGameTombstoneRepository
+                .findByCatalogVersionGreaterThanAndCatalogVersionLessThanEqualOrderByCatalogVersionAsc(since, upTo,
+                        Limit.of(limit))
+                .stream()
+                .map(entity -> new GameTombstone(entity.getGameId(), entity.getCatalogVersion(),
+                        entity.getDeletedAt()))
+                .toList();
+    }
+}
@@ -1,17 +1,48 @@
 package com.projuris.gamescatalog.infrastructure.persistence.adapter;
 
 import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.model.GameAttribute;
+import com.projuris.gamescatalog.domain.model.GameFilter;
 import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.persistence.counter.GameCounterRegistry;
 import com.projuris.gamescatalog.infrastructure.persistence.entity.GameEntity;
+import com.projuris.gamescatalog.infrastructure.persistence.entity.GameTombstoneEntity;
 import com.projuris.gamescatalog.infrastructure.persistence.mapper.GameEntityMapper;
+import com.projuris.gamescatalog.infrastructure.persistence.query.GameQueryPlanner;
+import com.projuris.gamescatalog.infrastructure.persistence.query.GameSpecifications;
+import com.projuris.gamescatalog.infrastructure.persistence.query.QueryPlan;
+import com.projuris.gamescatalog.infrastructure.persistence.query.QueryShape;
 import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaGameRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adapter que implementa o port GameRepository
@@ -24,6 +55,13 @@ public class GameRepositoryAdapter implements GameRepository {
 
     private final JpaGameRepository jpaGameRepository;
     private final GameEntityMapper gameEntityMapper;
+    private final GameCounterRegistry counterRegistry;
+    private final EntityManager entityManager;
+    private final GameQueryPlanner queryPlanner;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
 
     @Override
     public Game save(Game game) {
@@ -34,6 +72,32 @@ public class GameRepositoryAdapter implements GameRepository {
         return gameEntityMapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public List<Game> saveAll(List<Game> games) {
+        log.trace("GameRepositoryAdapter.saveAll - Salvando lote de {} games", games.size());
+        List<Game> result = new ArrayList<>(games.size());
+        for (int i = 0; i < games.size(); i++) {
+            GameEntity entity = gameEntityMapper.toEntity(games.get(i));
+            if (entity.getId() == null) {
+                entityManager.persist(entity);
+            } else {
+                entity = entityManager.merge(entity);
+            }
+            result.add(gameEntityMapper.toDomain(entity));
+
+            // Envia o lote ao banco e limpa o contexto para manter a memória constante
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        log.trace("GameRepositoryAdapter.saveAll - Lote de {} games salvo", result.size());
+        return result;
+    }
+
     @Override
     public Optional<Game> findById(Long id) {
         log.trace("GameRepositoryAdapter.findById - Buscando game: id={}", id);
@@ -43,6 +107,16 @@ public class GameRepositoryAdapter implements GameRepository {
         return result;
     }
 
+    @Override
+    public List<Game> findAllById(Collection<Long> ids) {
+        log.trace("GameRepositoryAdapter.findAllById - Buscando {} games por ID", ids.size());
+        List<Game> result = jpaGameRepository.findAllById(ids).stream()
+                .map(gameEntityMapper::toDomain)
+                .collect(Collectors.toList());
+        log.trace("GameRepositoryAdapter.findAllById - Encontrados {} games", result.size());
+        return result;
+    }
+
     @Override
     public List<Game> findAll() {
         log.trace("GameRepositoryAdapter.findAll - Buscando todos os games");
@@ -56,7 +130,7 @@ public class GameRepositoryAdapter implements GameRepository {
     @Override
     public List<Game> findAll(int page, int size) {
         log.trace("GameRepositoryAdapter.findAll - Buscando games paginados: page={}, size={}", page, size);
-        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, size);
         List<Game> result = jpaGameRepository.findAll(pageable).getContent().stream()
                 .map(gameEntityMapper::toDomain)
                 .collect(Collectors.toList());
@@ -78,7 +152,7 @@ public class GameRepositoryAdapter implements GameRepository {
     public List<Game> findByGenre(String genre, int page, int size) {
         log.trace("GameRepositoryAdapter.findByGenre - Buscando games por gênero paginados: genre={}, page={}, size={}",
                 genre, page, size);
-        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, size);
         List<Game> result = jpaGameRepository.findByGenre(genre, pageable).getContent().stream()
                 .map(gameEntityMapper::toDomain)
                 .collect(Collectors.toList());
@@ -87,10 +161,195 @@ public class GameRepositoryAdapter implements GameRepository {
         return result;
     }
 
+    @Override
+    public List<Game> findAllAfter(long afterId, int size) {
+        log.trace("GameRepositoryAdapter.findAllAfter - Buscando games por keyset: afterId={}, size={}", afterId, size);
+        List<Game> result = jpaGameRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size)).stream()
+                .map(gameEntityMapper::toDomain)
+                .collect(Collectors.toList());
+        log.trace("GameRepositoryAdapter.findAllAfter - Encontrados {} games após id {}", result.size(), afterId);
+        return result;
+    }
+
+    @Override
+    public List<Game> searchByText(String text, int page, int size) {
+        log.trace("GameRepositoryAdapter.searchByText - Buscando games por texto: text={}, page={}, size={}", text,
+                page, size);
+        Pageable pageable = PageRequest.of(page, size);
+        List<Game> result = jpaGameRepository.searchByText(text, pageable).getContent().stream()
+                .map(gameEntityMapper::toDomain)
+                .collect(Collectors.toList());
+        log.trace("GameRepositoryAdapter.searchByText - Encontrados {} games na página {}", result.size(), page);
+        return result;
+    }
+
+    @Override
+    public long countByText(String text) {
+        log.trace("GameRepositoryAdapter.countByText - Contando games por texto: {}", text);
+        long count = jpaGameRepository.searchByText(text, PageRequest.of(0, 1)).getTotalElements();
+        log.trace("GameRepositoryAdapter.countByText - Total de games para texto {}: {}", text, count);
+        return count;
+    }
+
+    @Override
+    public List<Game> findByTitlePrefix(String prefix, int limit) {
+        log.trace("GameRepositoryAdapter.findByTitlePrefix - Buscando games por prefixo do título: prefix={}, limit={}",
+                prefix, limit);
+        List<Game> result = jpaGameRepository
+                .findByTitleStartingWithIgnoreCaseOrderByTitleAsc(prefix, Limit.of(limit)).stream()
+                .map(gameEntityMapper::toDomain)
+                .collect(Collectors.toList());
+        log.trace("GameRepositoryAdapter.findByTitlePrefix - Encontrados {} games", result.size());
+        return result;
+    }
+
+    @Override
+    public List<Game> findByFilter(GameFilter filter, int page, int size) {
+        QueryPlan plan = queryPlanner.plan(filter);
+        log.trace("GameRepositoryAdapter.findByFilter - Buscando games por filtro: shape={}, page={}, size={}",
+                plan.getShape(), page, size);
+
+        // Criteria direto (sem Page) para não executar o COUNT junto com a página
+        List<GameEntity> entities = filterTimer(plan.getShape(), "list").record(() -> {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<GameEntity> query = cb.createQuery(GameEntity.class);
+            Root<GameEntity> root = query.from(GameEntity.class);
+            query.where(plan.getSpecification().toPredicate(root, query, cb)).orderBy(cb.asc(root.get("id")));
+            return entityManager.createQuery(query)
+                    // Limitado por app.filter.max-offset no use case; toIntExact só protege outros chamadores
+                    .setFirstResult(Math.toIntExact((long) page * size))
+                    .setMaxResults(size)
+                    .getResultList();
+        });
+
+        List<Game> result = entities.stream()
+                .map(gameEntityMapper::toDomain)
+                .collect(Collectors.toList());
+        log.trace("GameRepositoryAdapter.findByFilter - Encontrados {} games na página {}", result.size(), page);
+        return result;
+    }
+
+    @Override
+    public long countByFilter(GameFilter filter) {
+        QueryPlan plan = queryPlanner.plan(filter);
+        long count = filterTimer(plan.getShape(), "count")
+                .record(() -> jpaGameRepository.count(plan.getSpecification()));
+        log.trace("GameRepositoryAdapter.countByFilter - Total de games para o filtro: shape={}, total={}",
+                plan.getShape(), count);
+        return count;
+    }
+
+    @Override
+    public long countMatching(GameFilter filter) {
+        long count = jpaGameRepository.count(GameSpecifications.matching(filter));
+        log.trace("GameRepositoryAdapter.countMatching - Total de games para o filtro: filter={}, total={}", filter,
+                count);
+        return count;
+    }
+
+    @Override
+    public Map<String, Long> countMatchingGroupedBy(GameFilter filter, GameAttribute attribute) {
+        String field = switch (attribute) {
+            case GENRE -> "genre";
+            case DEVELOPER -> "developer";
+            case PUBLISHER -> "publisher";
+        };
+        return countGrouped("countMatchingGroupedBy", filter, root -> root.<String>get(field));
+    }
+
+    @Override
+    public Map<Integer, Long> countMatchingGroupedByReleaseYear(GameFilter filter) {
+        return countGrouped("countMatchingGroupedByReleaseYear", filter, root -> root.<Integer>get("releaseYear"));
+    }
+
+    @Override
+    public Map<Integer, Long> countMatchingGroupedByPriceRange(GameFilter filter, double[] upperBounds) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        return countGrouped("countMatchingGroupedByPriceRange", filter, root -> {
+            Expression<Double> price = root.get("price");
+            // Games sem preço caem no grupo nulo, descartado
+            CriteriaBuilder.Case<Integer> range = cb.<Integer>selectCase()
+                    .when(cb.isNull(price), cb.nullLiteral(Integer.class));
+            for (int i = 0; i < upperBounds.length; i++) {
+                range = range.when(cb.lessThan(price, upperBounds[i]), cb.literal(i));
+            }
+            return range.otherwise(cb.literal(upperBounds.length));
+        });
+    }
+
+    /**
+     * COUNT agrupado pela expressão, restrito aos games que atendem ao filtro;
+     * o grupo de valor nulo é descartado
+     */
+    private <K> Map<K, Long> countGrouped(String operation, GameFilter filter,
+            Function<Root<GameEntity>, Expression<K>> key) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<GameEntity> root = query.from(GameEntity.class);
+        Expression<K> group = key.apply(root);
+        Predicate predicate = GameSpecifications.matching(filter).toPredicate(root, query, cb);
+        query.multiselect(group, cb.count(root)).groupBy(group);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        Map<K, Long> counts = new HashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            @SuppressWarnings("unchecked")
+            K value = (K) tuple.get(0);
+            if (value != null) {
+                counts.put(value, tuple.get(1, Long.class));
+            }
+        }
+        log.trace("GameRepositoryAdapter.{} - {} grupos para o filtro: {}", operation, counts.size(), filter);
+        return counts;
+    }
+
+    private Timer filterTimer(QueryShape shape, String operation) {
+        return Timer.builder("games.filter.query")
+                .description("Latência das consultas de filtro por formato (índice usado)")
+                .tag("shape", shape.name())
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<Game> findByGenreAfter(String genre, long afterId, int size) {
+        log.trace("GameRepositoryAdapter.findByGenreAfter - Buscando games por gênero e keyset: genre={}, afterId={}, size={}",
+                genre, afterId, size);
+        List<Game> result = jpaGameRepository
+                .findByGenreAndIdGreaterThanOrderByIdAsc(genre, afterId, Limit.of(size)).stream()
+                .map(gameEntityMapper::toDomain)
+                .collect(Collectors.toList());
+        log.trace("GameRepositoryAdapter.findByGenreAfter - Encontrados {} games para gênero {} após id {}",
+                result.size(), genre, afterId);
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamAll(String genre, LocalDateTime updatedSince, Consumer<Game> consumer) {
+        log.trace("GameRepositoryAdapter.streamAll - Iniciando streaming de games: genre={}, updatedSince={}", genre,
+                updatedSince);
+        int chunkSize = Integer.parseInt(JpaGameRepository.STREAM_FETCH_SIZE);
+        long count = 0;
+        try (Stream<GameEntity> stream = jpaGameRepository.streamAll(genre, updatedSince)) {
+            Iterator<GameEntity> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(gameEntityMapper.toDomain(iterator.next()));
+                // Limpa o contexto de persistência a cada bloco para manter a memória constante
+                if (++count % chunkSize == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        log.trace("GameRepositoryAdapter.streamAll - Streaming concluído: {} games", count);
+        return count;
+    }
+
     @Override
     public long count() {
         log.trace("GameRepositoryAdapter.count - Contando total de games");
-        long count = jpaGameRepository.count();
+        long count = counterRegistry.isSeeded() ? counterRegistry.total() : jpaGameRepository.count();
         log.trace("GameRepositoryAdapter.count - Total de games: {}", count);
         return count;
     }
@@ -98,7 +357,9 @@ public class GameRepositoryAdapter implements GameRepository {
     @Override
     public long countByGenre(String genre) {
         log.trace("GameRepositoryAdapter.countByGenre - Contando games por gênero: {}", genre);
-        long count = jpaGameRepository.countByGenre(genre);
+        long count = counterRegistry.isSeeded()
+                ? counterRegistry.countByGenre(genre)
+                : jpaGameRepository.countByGenre(genre);
         log.trace("GameRepositoryAdapter.countByGenre - Total de games para gênero {}: {}", genre, count);
         return count;
     }
@@ -115,9 +376,12 @@ public class GameRepositoryAdapter implements GameRepository {
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         log.trace("GameRepositoryAdapter.deleteById - Deletando game: id={}", id);
         jpaGameRepository.deleteById(id);
+        // Tombstone na mesma transação: a deleção aparece na sincronização incremental (GET /api/games/delta)
+        entityManager.persist(new GameTombstoneEntity(id));
         log.trace("GameRepositoryAdapter.deleteById - Game deletado: id={}", id);
     }
 
@@ -128,4 +392,12 @@ public class GameRepositoryAdapter implements GameRepository {
         log.trace("GameRepositoryAdapter.existsById - Game {} existe: {}", id, exists);
         return exists;
     }
+
+    @Override
+    public boolean existsAny() {
+        log.trace("GameRepositoryAdapter.existsAny - Verificando se existem games");
+        boolean exists = jpaGameRepository.existsByIdNotNull();
+        log.trace("GameRepositoryAdapter.existsAny - Existem games: {}", exists);
+        return exists;
+    }
 }
@@ -0,0 +1,53 @@
+package com.projuris.gamescatalog.infrastructure.persistence.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reconciliação periódica dos contadores em memória com o banco de dados
+ * Publica a divergência encontrada nas métricas games.counters.drift (acumulada)
+ * e games.counters.drift.last (última execução)
+ */
+@Component
+@Slf4j
+public class GameCounterReconciliationJob {
+
+    private final GameCounterRegistry counterRegistry;
+    private final Counter driftCounter;
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    public GameCounterReconciliationJob(GameCounterRegistry counterRegistry, MeterRegistry meterRegistry) {
+        this.counterRegistry = counterRegistry;
+        this.driftCounter = Counter.builder("games.counters.drift")
+                .description("Divergência acumulada entre os contadores em memória e o banco")
+                .register(meterRegistry);
+        meterRegistry.gauge("games.counters.drift.last", lastDrift);
+    }
+
+    @Scheduled(fixedDelayString = "${app.counters.reconcile-interval:PT1M}", initialDelayString = "${app.counters.reconcile-interval:PT1M}")
+    public void reconcile() {
+        if (!counterRegistry.isSeeded()) {
+            // Semeadura da inicialização descartada por eventos concorrentes: tenta de novo
+            counterRegistry.seed();
+            return;
+        }
+        long drift = counterRegistry.reconcile();
+        if (drift == GameCounterRegistry.SKIPPED) {
+            log.debug("GameCounterReconciliationJob.reconcile - Eventos aplicados durante a comparação, "
+                    + "reconciliação adiada para a próxima execução");
+            return;
+        }
+        lastDrift.set(drift);
+        if (drift > 0) {
+            driftCounter.increment(drift);
+            log.warn("GameCounterReconciliationJob.reconcile - Divergência corrigida nos contadores: {}", drift);
+        } else {
+            log.debug("GameCounterReconciliationJob.reconcile - Contadores consistentes com o banco");
+        }
+    }
+}
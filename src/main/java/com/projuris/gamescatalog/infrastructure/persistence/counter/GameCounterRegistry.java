@@ -0,0 +1,201 @@
+package com.projuris.gamescatalog.infrastructure.persistence.counter;
+
+import com.projuris.gamescatalog.infrastructure.persistence.repository.GenreCount;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaGameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Registro em memória da quantidade de games (total e por gênero)
+ * Semeado na inicialização e mantido pelos eventos de domínio, evita
+ * um COUNT(*) no banco a cada requisição paginada. Divergências são corrigidas
+ * pela reconciliação periódica (GameCounterReconciliationJob).
+ * <p>
+ * Os eventos chegam depois do commit, então o banco pode já contar uma escrita
+ * cujo evento ainda não foi aplicado. A reconciliação é descartada se algum
+ * evento for aplicado entre a consulta ao banco e o ajuste (época) e só corrige
+ * uma divergência que se repete, com o mesmo valor, em duas execuções seguidas.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameCounterRegistry {
+
+    /**
+     * Retorno de reconcile() quando eventos concorrentes invalidaram a comparação
+     */
+    public static final long SKIPPED = -1;
+
+    private static final int SEED_ATTEMPTS = 10;
+
+    private final JpaGameRepository jpaGameRepository;
+
+    private final LongAdder total = new LongAdder();
+    private final Map<String, LongAdder> byGenre = new ConcurrentHashMap<>();
+    // Atualizações: leitura (concorrentes entre si); reconciliação: escrita
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Época: quantidade de atualizações aplicadas pelos eventos
+    private final AtomicLong updates = new AtomicLong();
+    // Divergências vistas na última reconciliação e ainda não corrigidas; protegidas pelo lock de escrita
+    private Map<String, Long> observedGenreDrift = Map.of();
+    private long observedTotalDrift;
+    private volatile boolean seeded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        seed();
+    }
+
+    /**
+     * Semeia os contadores a partir do banco; se todas as tentativas forem
+     * descartadas por eventos concorrentes, os contadores continuam não semeados
+     * (contagens no banco) e a reconciliação periódica tenta de novo
+     *
+     * @return true se os contadores foram semeados
+     */
+    public boolean seed() {
+        if (seeded) {
+            return true;
+        }
+        log.info("GameCounterRegistry.seed - Semeando contadores a partir do banco de dados");
+        long drift = SKIPPED;
+        for (int attempt = 0; attempt < SEED_ATTEMPTS && drift == SKIPPED; attempt++) {
+            drift = reconcile(false);
+        }
+        if (drift == SKIPPED) {
+            log.warn("GameCounterRegistry.seed - Eventos concorrentes em todas as {} tentativas, "
+                    + "contagens seguem no banco até a próxima reconciliação", SEED_ATTEMPTS);
+            return false;
+        }
+        seeded = true;
+        log.info("GameCounterRegistry.seed - Contadores semeados: total={}, gêneros={}, ajuste={}",
+                total.sum(), byGenre.size(), drift);
+        return true;
+    }
+
+    /**
+     * Indica se os contadores já foram semeados; antes disso as contagens devem
+     * ser feitas no banco
+     */
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public long total() {
+        return total.sum();
+    }
+
+    public long countByGenre(String genre) {
+        LongAdder adder = byGenre.get(genre);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    public void increment(String genre) {
+        update(() -> {
+            total.increment();
+            genreAdder(genre).increment();
+        });
+    }
+
+    public void decrement(String genre) {
+        update(() -> {
+            total.decrement();
+            genreAdder(genre).decrement();
+        });
+    }
+
+    public void move(String fromGenre, String toGenre) {
+        if (fromGenre == null || fromGenre.equals(toGenre)) {
+            return;
+        }
+        update(() -> {
+            genreAdder(fromGenre).decrement();
+            genreAdder(toGenre).increment();
+        });
+    }
+
+    /**
+     * Compara os contadores com o banco e corrige as divergências confirmadas
+     * (mesmo valor na execução anterior)
+     *
+     * @return soma das diferenças absolutas corrigidas (total e por gênero), ou
+     *         SKIPPED se eventos foram aplicados durante a comparação
+     */
+    public long reconcile() {
+        return reconcile(true);
+    }
+
+    private long reconcile(boolean requireConfirmation) {
+        long epoch = updates.get();
+        Map<String, Long> dbCounts = new HashMap<>();
+        for (GenreCount genreCount : jpaGameRepository.countGroupByGenre()) {
+            dbCounts.put(genreCount.getGenre(), genreCount.getTotal());
+        }
+        long dbTotal = dbCounts.values().stream().mapToLong(Long::longValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            if (updates.get() != epoch) {
+                // A consulta pode ou não incluir a escrita desses eventos: compara de novo na próxima execução
+                observedGenreDrift = Map.of();
+                observedTotalDrift = 0;
+                return SKIPPED;
+            }
+            long corrected = 0;
+            long totalDrift = dbTotal - total.sum();
+            if (totalDrift != 0 && (!requireConfirmation || totalDrift == observedTotalDrift)) {
+                total.add(totalDrift);
+                corrected += Math.abs(totalDrift);
+                totalDrift = 0;
+            }
+
+            Map<String, Long> genreDrift = new HashMap<>();
+            Set<String> genres = new HashSet<>(byGenre.keySet());
+            genres.addAll(dbCounts.keySet());
+            for (String genre : genres) {
+                long drift = dbCounts.getOrDefault(genre, 0L) - countByGenre(genre);
+                if (drift == 0) {
+                    continue;
+                }
+                if (!requireConfirmation || observedGenreDrift.getOrDefault(genre, 0L) == drift) {
+                    genreAdder(genre).add(drift);
+                    corrected += Math.abs(drift);
+                } else {
+                    genreDrift.put(genre, drift);
+                }
+            }
+            byGenre.entrySet().removeIf(entry -> entry.getValue().sum() == 0 && !dbCounts.containsKey(entry.getKey()));
+            observedTotalDrift = totalDrift;
+            observedGenreDrift = genreDrift;
+            return corrected;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void update(Runnable change) {
+        lock.readLock().lock();
+        try {
+            change.run();
+            updates.incrementAndGet();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private LongAdder genreAdder(String genre) {
+        return byGenre.computeIfAbsent(genre, key -> new LongAdder());
+    }
+}
@@ -0,0 +1,120 @@
+package com.projuris.gamescatalog.infrastructure.persistence.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que limita as conexões simultâneas com um semáforo justo
+ * Usado no modo de virtual threads: sem o limite do pool de threads do Tomcat,
+ * milhares de requisições disputariam o pool do Hikari ao mesmo tempo. Aqui
+ * elas aguardam em fila FIFO por uma permissão, liberada no close() da
+ * conexão, e a espera excedente falha com SQLTransientConnectionException.
+ */
+@Slf4j
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource implements MeterBinder {
+
+    private final Semaphore permits;
+    private final int maxConcurrentConnections;
+    private final long acquireTimeoutNanos;
+    private Counter timeoutCounter;
+
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, int maxConcurrentConnections,
+            Duration acquireTimeout) {
+        super(targetDataSource);
+        this.maxConcurrentConnections = maxConcurrentConnections;
+        this.permits = new Semaphore(maxConcurrentConnections, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasing(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasing(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("games.datasource.permits.available", permits, Semaphore::availablePermits)
+                .description("Permissões livres para obter conexões")
+                .register(registry);
+        Gauge.builder("games.datasource.permits.waiting", permits, Semaphore::getQueueLength)
+                .description("Threads aguardando permissão para obter conexão")
+                .register(registry);
+        timeoutCounter = Counter.builder("games.datasource.permits.timeouts")
+                .description("Obtenções de conexão que excederam o tempo de espera")
+                .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                if (timeoutCounter != null) {
+                    timeoutCounter.increment();
+                }
+                log.warn("ConcurrencyLimitedDataSource.acquire - Tempo de espera por conexão esgotado: limite={}, "
+                        + "aguardando={}", maxConcurrentConnections, permits.getQueueLength());
+                throw new SQLTransientConnectionException(
+                        "Limite de " + maxConcurrentConnections + " conexões simultâneas atingido");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão", e);
+        }
+    }
+
+    /**
+     * Proxy da conexão que devolve a permissão no primeiro close()
+     */
+    private Connection releasing(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -1,5 +1,7 @@
 package com.projuris.gamescatalog.infrastructure.persistence.entity;
 
+import com.projuris.gamescatalog.infrastructure.persistence.version.CatalogVersionListener;
+import com.projuris.gamescatalog.infrastructure.persistence.version.CatalogVersioned;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -10,18 +12,24 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "GAMES", indexes = {
         @Index(name = "idx_games_genre", columnList = "genre"),
+        @Index(name = "idx_games_genre_id", columnList = "genre,id"),
         @Index(name = "idx_games_developer", columnList = "developer"),
         @Index(name = "idx_games_title", columnList = "title"),
         @Index(name = "idx_games_release_year", columnList = "releaseYear"),
-        @Index(name = "idx_games_genre_release_year", columnList = "genre,releaseYear")
+        @Index(name = "idx_games_genre_release_year", columnList = "genre,releaseYear"),
+        @Index(name = "idx_games_catalog_version", columnList = "catalogVersion")
 })
+@EntityListeners(CatalogVersionListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class GameEntity {
+public class GameEntity implements CatalogVersioned {
 
+    // Sequence com alocação em blocos (pooled): permite que o Hibernate agrupe os
+    // INSERTs em lotes JDBC, o que não é possível com IDENTITY
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "GAMES_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -51,6 +59,10 @@ public class GameEntity {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // Versão do catálogo da última escrita (CatalogVersionListener); base da sincronização incremental
+    @Column(nullable = false)
+    private Long catalogVersion;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,43 @@
+package com.projuris.gamescatalog.infrastructure.persistence.entity;
+
+import com.projuris.gamescatalog.infrastructure.persistence.version.CatalogVersionListener;
+import com.projuris.gamescatalog.infrastructure.persistence.version.CatalogVersioned;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de um game deletado (tombstone)
+ * Gravado na transação da deleção com a versão do catálogo em que ela
+ * ocorreu, para que a sincronização incremental informe as deleções; removido
+ * após a janela de retenção (TombstoneRetentionJob).
+ */
+@Entity
+@Table(name = "GAME_TOMBSTONES", indexes = {
+        @Index(name = "idx_game_tombstones_catalog_version", columnList = "catalogVersion"),
+        @Index(name = "idx_game_tombstones_deleted_at", columnList = "deletedAt")
+})
+@EntityListeners(CatalogVersionListener.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameTombstoneEntity implements CatalogVersioned {
+
+    // ID do game deletado
+    @Id
+    private Long gameId;
+
+    @Column(nullable = false)
+    private Long catalogVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    public GameTombstoneEntity(Long gameId) {
+        this.gameId = gameId;
+        this.deletedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,48 @@
+package com.projuris.gamescatalog.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de domínio pendente de entrega (transactional outbox)
+ * Gravado na mesma transação da alteração em GAMES e removido pelo
+ * OutboxRelay depois que a entrega é confirmada.
+ */
+@Entity
+@Table(name = "OUTBOX_EVENTS")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventEntity {
+
+    // A ordem do id é a ordem de entrega; alocação em blocos para agrupar os INSERTs
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "OUTBOX_EVENTS_SEQ", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    // Game do evento; nulo para eventos de lote
+    private Long aggregateId;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Reserva do relay que está entregando o evento; expirada, outra instância pode assumi-lo
+    private LocalDateTime claimedUntil;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -2,6 +2,7 @@ package com.projuris.gamescatalog.infrastructure.persistence.loader;
 
 import com.projuris.gamescatalog.domain.model.Game;
 import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -9,13 +10,24 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * DataLoader para popular o banco de dados com games iniciais
  * Executa automaticamente na inicialização da aplicação
  * observação: classe foi feita apenas para facilitar a carga de dados iniciais,
  * não é necessária para o funcionamento da aplicação.
+ * A quantidade, o tamanho dos lotes, o paralelismo e a assimetria (Zipf) de
+ * gêneros/desenvolvedoras são configurados em app.seed.*, o que permite gerar
+ * catálogos de milhões de games para testes de performance.
  */
 @Component
 @RequiredArgsConstructor
@@ -23,7 +35,7 @@ import java.util.Random;
 public class GameDataLoader implements CommandLineRunner {
 
     private final GameRepository gameRepository;
-    private final Random random = new Random();
+    private final ApplicationProperties applicationProperties;
 
     private static final String[] TITLES = {
             "The Witcher 3: Wild Hunt", "Cyberpunk 2077", "Red Dead Redemption 2",
@@ -88,46 +100,81 @@ public class GameDataLoader implements CommandLineRunner {
 
     @Override
     public void run(String... args) {
+        ApplicationProperties.Seed seed = applicationProperties.getSeed();
+        if (!seed.isEnabled()) {
+            log.info("GameDataLoader - Carga de dados desabilitada (app.seed.enabled=false)");
+            return;
+        }
+
         log.info("GameDataLoader - Iniciando carregamento de dados iniciais...");
 
-        long count = gameRepository.findAll().size();
-        if (count > 0) {
-            log.info("GameDataLoader - Banco de dados já possui {} games. Pulando carregamento inicial.", count);
+        if (gameRepository.existsAny()) {
+            log.info("GameDataLoader - Banco de dados já possui games. Pulando carregamento inicial.");
             return;
         }
 
-        List<Game> games = generateGames(100);
-
-        log.info("GameDataLoader - Salvando {} games no banco de dados...", games.size());
-        int saved = 0;
-        for (Game game : games) {
-            try {
-                gameRepository.save(game);
-                saved++;
-                if (saved % 10 == 0) {
-                    log.debug("GameDataLoader - Salvos {} games...", saved);
-                }
-            } catch (Exception e) {
-                log.error("GameDataLoader - Erro ao salvar game: {}", game.getTitle(), e);
+        int batchSize = Math.max(1, seed.getBatchSize());
+        int parallelism = Math.max(1, seed.getParallelism());
+        int batches = (seed.getCount() + batchSize - 1) / batchSize;
+        log.info("GameDataLoader - Gerando {} games em {} lotes de até {} (paralelismo={}, zipf={})",
+                seed.getCount(), batches, batchSize, parallelism, seed.getZipfExponent());
+
+        ZipfSampler genreSampler = new ZipfSampler(GENRES.length, seed.getZipfExponent());
+        ZipfSampler developerSampler = new ZipfSampler(DEVELOPERS.length, seed.getZipfExponent());
+        ZipfSampler publisherSampler = new ZipfSampler(PUBLISHERS.length, seed.getZipfExponent());
+        Map<String, AtomicInteger> titleOccurrences = new ConcurrentHashMap<>();
+        AtomicInteger saved = new AtomicInteger();
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> futures = new ArrayList<>(batches);
+            for (int batch = 0; batch < batches; batch++) {
+                int quantity = Math.min(batchSize, seed.getCount() - batch * batchSize);
+                futures.add(executor.submit(() -> {
+                    List<Game> games = generateGames(quantity, genreSampler, developerSampler, publisherSampler,
+                            titleOccurrences);
+                    try {
+                        gameRepository.saveAll(games);
+                        int total = saved.addAndGet(games.size());
+                        log.debug("GameDataLoader - Salvos {} games...", total);
+                    } catch (Exception e) {
+                        log.error("GameDataLoader - Erro ao salvar lote de {} games", games.size(), e);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("GameDataLoader - Carregamento interrompido");
+        } catch (ExecutionException e) {
+            log.error("GameDataLoader - Erro ao gerar games", e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
 
-        log.info("GameDataLoader - Carregamento concluído! {} games salvos com sucesso.", saved);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("GameDataLoader - Carregamento concluído! {} games salvos com sucesso em {} ms.", saved.get(),
+                elapsedMs);
     }
 
-    private List<Game> generateGames(int quantity) {
-        List<Game> games = new ArrayList<>();
+    private List<Game> generateGames(int quantity, ZipfSampler genreSampler, ZipfSampler developerSampler,
+            ZipfSampler publisherSampler, Map<String, AtomicInteger> titleOccurrences) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Game> games = new ArrayList<>(quantity);
 
         for (int i = 0; i < quantity; i++) {
             String baseTitle = TITLES[random.nextInt(TITLES.length)];
-            String developer = DEVELOPERS[random.nextInt(DEVELOPERS.length)];
-            String publisher = PUBLISHERS[random.nextInt(PUBLISHERS.length)];
-            String genre = GENRES[random.nextInt(GENRES.length)];
-            final int index = i;
-            final String base = baseTitle;
-            String title = games.stream().anyMatch(g -> g.getTitle().equals(base))
-                    ? base + " " + (index + 1)
-                    : base;
+            String developer = DEVELOPERS[developerSampler.sample(random)];
+            String publisher = PUBLISHERS[publisherSampler.sample(random)];
+            String genre = GENRES[genreSampler.sample(random)];
+
+            // Títulos repetidos recebem o número da ocorrência, o que os mantém únicos
+            int occurrence = titleOccurrences.computeIfAbsent(baseTitle, key -> new AtomicInteger())
+                    .incrementAndGet();
+            String title = occurrence == 1 ? baseTitle : baseTitle + " " + occurrence;
 
             String description = String.format(
                     "Um jogo incrível de %s desenvolvido por %s. Uma experiência única e envolvente.",
@@ -0,0 +1,31 @@
+package com.projuris.gamescatalog.infrastructure.persistence.loader;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Amostrador de índices com distribuição Zipf (o índice 0 é o mais popular)
+ * A CDF é pré-calculada, então cada amostra custa uma busca binária
+ */
+class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int size, double exponent) {
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int position = index >= 0 ? index : -index - 1;
+        return Math.min(position, cumulative.length - 1);
+    }
+}
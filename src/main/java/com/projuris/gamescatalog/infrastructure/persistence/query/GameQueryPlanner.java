@@ -0,0 +1,71 @@
+package com.projuris.gamescatalog.infrastructure.persistence.query;
+
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.domain.model.GameFilter;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.persistence.entity.GameEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import static com.projuris.gamescatalog.infrastructure.persistence.query.GameSpecifications.*;
+
+/**
+ * Planejador de consultas de filtro
+ * Escolhe o formato da consulta pelo índice mais seletivo disponível para os
+ * critérios informados e rejeita combinações sem índice que as conduza
+ * (somente publicadora, somente preço ou intervalo de anos amplo), que
+ * resultariam em varredura completa da tabela.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GameQueryPlanner {
+
+    private final ApplicationProperties applicationProperties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryPlan plan(GameFilter filter) {
+        validateRanges(filter);
+
+        QueryShape shape = chooseShape(filter);
+        Specification<GameEntity> specification = matching(filter);
+
+        log.debug("GameQueryPlanner.plan - Formato escolhido: shape={}, index={}, filter={}", shape,
+                shape.getIndex(), filter);
+        return new QueryPlan(shape, specification);
+    }
+
+    private QueryShape chooseShape(GameFilter filter) {
+        if (filter.getGenre() != null && filter.hasYearRange()) {
+            return QueryShape.GENRE_YEAR_RANGE;
+        }
+        if (filter.getDeveloper() != null) {
+            return QueryShape.DEVELOPER;
+        }
+        if (filter.getGenre() != null) {
+            return QueryShape.GENRE;
+        }
+        int maxYearSpan = applicationProperties.getFilter().getMaxYearSpan();
+        if (filter.getYearFrom() != null && filter.getYearTo() != null
+                && filter.getYearTo() - filter.getYearFrom() < maxYearSpan) {
+            return QueryShape.YEAR_RANGE;
+        }
+        meterRegistry.counter("games.filter.rejected").increment();
+        log.debug("GameQueryPlanner.plan - Filtro rejeitado (varredura completa): filter={}", filter);
+        throw new InvalidRequestException("Filtro sem critério indexado: informe genre, developer ou um intervalo "
+                + "yearFrom/yearTo de até " + maxYearSpan + " anos (publisher e preço só podem refinar esses critérios)");
+    }
+
+    private static void validateRanges(GameFilter filter) {
+        if (filter.getYearFrom() != null && filter.getYearTo() != null && filter.getYearFrom() > filter.getYearTo()) {
+            throw new InvalidRequestException("yearFrom deve ser menor ou igual a yearTo");
+        }
+        if (filter.getPriceMin() != null && filter.getPriceMax() != null
+                && filter.getPriceMin() > filter.getPriceMax()) {
+            throw new InvalidRequestException("priceMin deve ser menor ou igual a priceMax");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.projuris.gamescatalog.infrastructure.persistence.query;
+
+import com.projuris.gamescatalog.domain.model.GameFilter;
+import com.projuris.gamescatalog.infrastructure.persistence.entity.GameEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specifications (Criteria API) para os critérios de filtro de GameEntity
+ * Critérios nulos resultam em null, que o Specification.where/and ignora.
+ */
+public final class GameSpecifications {
+
+    private GameSpecifications() {
+    }
+
+    /**
+     * Todos os critérios do filtro combinados com E
+     */
+    public static Specification<GameEntity> matching(GameFilter filter) {
+        return Specification.where(hasGenre(filter.getGenre()))
+                .and(hasDeveloper(filter.getDeveloper()))
+                .and(releasedBetween(filter.getYearFrom(), filter.getYearTo()))
+                .and(hasPublisher(filter.getPublisher()))
+                .and(pricedBetween(filter.getPriceMin(), filter.getPriceMax()));
+    }
+
+    public static Specification<GameEntity> hasGenre(String genre) {
+        return genre == null ? null : (root, query, cb) -> cb.equal(root.get("genre"), genre);
+    }
+
+    public static Specification<GameEntity> hasDeveloper(String developer) {
+        return developer == null ? null : (root, query, cb) -> cb.equal(root.get("developer"), developer);
+    }
+
+    public static Specification<GameEntity> hasPublisher(String publisher) {
+        return publisher == null ? null : (root, query, cb) -> cb.equal(root.get("publisher"), publisher);
+    }
+
+    public static Specification<GameEntity> releasedBetween(Integer from, Integer to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThanOrEqualTo(root.get("releaseYear"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get("releaseYear"), from);
+            }
+            return cb.between(root.get("releaseYear"), from, to);
+        };
+    }
+
+    public static Specification<GameEntity> pricedBetween(Double min, Double max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (min == null) {
+                return cb.lessThanOrEqualTo(root.get("price"), max);
+            }
+            if (max == null) {
+                return cb.greaterThanOrEqualTo(root.get("price"), min);
+            }
+            return cb.between(root.get("price"), min, max);
+        };
+    }
+}
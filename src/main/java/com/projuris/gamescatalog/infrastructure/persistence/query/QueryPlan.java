@@ -0,0 +1,17 @@
+package com.projuris.gamescatalog.infrastructure.persistence.query;
+
+import com.projuris.gamescatalog.infrastructure.persistence.entity.GameEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Plano de execução de um filtro: formato escolhido e a Specification completa
+ */
+@Getter
+@AllArgsConstructor
+public class QueryPlan {
+
+    private final QueryShape shape;
+    private final Specification<GameEntity> specification;
+}
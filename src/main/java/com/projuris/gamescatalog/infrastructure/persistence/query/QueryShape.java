@@ -0,0 +1,28 @@
+package com.projuris.gamescatalog.infrastructure.persistence.query;
+
+/**
+ * Formato de consulta escolhido pelo GameQueryPlanner, identificado pelo
+ * índice que conduz a busca (os demais critérios são aplicados como filtro
+ * residual sobre as linhas encontradas pelo índice)
+ */
+public enum QueryShape {
+
+    // genre = ? AND releaseYear BETWEEN ? AND ? -> idx_games_genre_release_year
+    GENRE_YEAR_RANGE("idx_games_genre_release_year"),
+    // developer = ? -> idx_games_developer
+    DEVELOPER("idx_games_developer"),
+    // genre = ? -> idx_games_genre_id
+    GENRE("idx_games_genre_id"),
+    // releaseYear BETWEEN ? AND ? (intervalo limitado) -> idx_games_release_year
+    YEAR_RANGE("idx_games_release_year");
+
+    private final String index;
+
+    QueryShape(String index) {
+        this.index = index;
+    }
+
+    public String getIndex() {
+        return index;
+    }
+}
@@ -0,0 +1,11 @@
+package com.projuris.gamescatalog.infrastructure.persistence.repository;
+
+/**
+ * Projeção com a contagem de games por gênero (resultado de GROUP BY)
+ */
+public interface GenreCount {
+
+    String getGenre();
+
+    long getTotal();
+}
@@ -1,24 +1,74 @@
 package com.projuris.gamescatalog.infrastructure.persistence.repository;
 
 import com.projuris.gamescatalog.infrastructure.persistence.entity.GameEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface JpaGameRepository extends JpaRepository<GameEntity, Long> {
+public interface JpaGameRepository extends JpaRepository<GameEntity, Long>, JpaSpecificationExecutor<GameEntity> {
+
+    // Quantidade de linhas buscadas por ida ao banco durante o streaming
+    String STREAM_FETCH_SIZE = "1000";
 
     List<GameEntity> findByGenre(String genre);
 
     Page<GameEntity> findByGenre(String genre, Pageable pageable);
 
+    List<GameEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<GameEntity> findByGenreAndIdGreaterThanOrderByIdAsc(String genre, Long id, Limit limit);
+
+    List<GameEntity> findByCatalogVersionGreaterThanAndCatalogVersionLessThanEqualOrderByCatalogVersionAsc(
+            Long since, Long upTo, Limit limit);
+
+    @Query("SELECT MAX(g.catalogVersion) FROM GameEntity g")
+    Long findMaxCatalogVersion();
+
     @Query("SELECT COUNT(g) FROM GameEntity g WHERE g.genre = :genre")
     long countByGenre(@Param("genre") String genre);
 
+    @Query("SELECT g.genre AS genre, COUNT(g) AS total FROM GameEntity g GROUP BY g.genre")
+    List<GenreCount> countGroupByGenre();
+
     List<GameEntity> findByDeveloper(String developer);
+
+    List<GameEntity> findByTitleStartingWithIgnoreCaseOrderByTitleAsc(String prefix, Limit limit);
+
+    /**
+     * Busca textual por substring em título e descrição (varredura completa da
+     * tabela; usada apenas quando o índice de busca em memória não está disponível)
+     */
+    @Query(value = "SELECT g FROM GameEntity g WHERE LOWER(g.title) LIKE LOWER(CONCAT('%', :text, '%')) "
+            + "OR LOWER(g.description) LIKE LOWER(CONCAT('%', :text, '%')) ORDER BY g.id",
+            countQuery = "SELECT COUNT(g) FROM GameEntity g WHERE LOWER(g.title) LIKE LOWER(CONCAT('%', :text, '%')) "
+                    + "OR LOWER(g.description) LIKE LOWER(CONCAT('%', :text, '%'))")
+    Page<GameEntity> searchByText(@Param("text") String text, Pageable pageable);
+
+    boolean existsByIdNotNull();
+
+    /**
+     * Stream somente leitura de todos os games (filtros opcionais), ordenado por
+     * ID; deve ser consumido dentro de uma transação e fechado ao final
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT g FROM GameEntity g WHERE (:genre IS NULL OR g.genre = :genre) "
+            + "AND (:updatedSince IS NULL OR g.updatedAt > :updatedSince) ORDER BY g.id")
+    Stream<GameEntity> streamAll(@Param("genre") String genre, @Param("updatedSince") LocalDateTime updatedSince);
 }
@@ -0,0 +1,29 @@
+package com.projuris.gamescatalog.infrastructure.persistence.repository;
+
+import com.projuris.gamescatalog.infrastructure.persistence.entity.GameTombstoneEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JpaGameTombstoneRepository extends JpaRepository<GameTombstoneEntity, Long> {
+
+    List<GameTombstoneEntity> findByCatalogVersionGreaterThanAndCatalogVersionLessThanEqualOrderByCatalogVersionAsc(
+            Long since, Long upTo, Limit limit);
+
+    @Query("SELECT MAX(t.catalogVersion) FROM GameTombstoneEntity t")
+    Long findMaxCatalogVersion();
+
+    @Query("SELECT MAX(t.catalogVersion) FROM GameTombstoneEntity t WHERE t.deletedAt < :cutoff")
+    Long findMaxCatalogVersionDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM GameTombstoneEntity t WHERE t.deletedAt < :cutoff")
+    int deleteDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
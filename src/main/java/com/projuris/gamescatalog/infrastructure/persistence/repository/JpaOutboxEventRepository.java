@@ -0,0 +1,31 @@
+package com.projuris.gamescatalog.infrastructure.persistence.repository;
+
+import com.projuris.gamescatalog.infrastructure.persistence.entity.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Eventos mais antigos sem reserva vigente, travados para a transação
+     * corrente; linhas já travadas por outra instância do relay são puladas em
+     * vez de esperadas
+     */
+    @Query(value = "SELECT * FROM OUTBOX_EVENTS WHERE CLAIMED_UNTIL IS NULL OR CLAIMED_UNTIL < :now "
+            + "ORDER BY ID LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEventEntity> claimOldest(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Reserva os eventos até o instante informado (ou libera, com null)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.claimedUntil = :until WHERE e.id IN :ids")
+    int updateClaim(@Param("ids") List<Long> ids, @Param("until") LocalDateTime until);
+}
@@ -0,0 +1,93 @@
+package com.projuris.gamescatalog.infrastructure.persistence.version;
+
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaGameRepository;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaGameTombstoneRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Gera as versões do catálogo (CATALOG_VERSION de GAMES e GAME_TOMBSTONES)
+ * Cada escrita recebe uma versão única e crescente. Como transações
+ * confirmam fora da ordem em que reservaram versões, a sincronização
+ * incremental só expõe versões até a marca segura (safeVersion): a menor
+ * versão ainda em transação aberta, menos um. Assim um cliente nunca avança
+ * o cursor além de uma escrita que ainda pode aparecer. Contador em memória,
+ * iniciado pelo maior valor já gravado; assume uma única instância escrevendo
+ * no banco (como o restante do estado em memória da aplicação).
+ */
+@Component
+@Slf4j
+public class CatalogVersionAllocator {
+
+    private final JpaGameRepository jpaGameRepository;
+    private final JpaGameTombstoneRepository jpaGameTombstoneRepository;
+    // Primeira versão reservada por cada transação ainda aberta
+    private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private final Object lock = new Object();
+    private long lastVersion;
+
+    public CatalogVersionAllocator(JpaGameRepository jpaGameRepository,
+            JpaGameTombstoneRepository jpaGameTombstoneRepository, MeterRegistry meterRegistry) {
+        this.jpaGameRepository = jpaGameRepository;
+        this.jpaGameTombstoneRepository = jpaGameTombstoneRepository;
+        Gauge.builder("games.catalog.version", this, CatalogVersionAllocator::safeVersion)
+                .description("Versão do catálogo visível para a sincronização incremental")
+                .register(meterRegistry);
+        Gauge.builder("games.catalog.version.in.flight", inFlight, ConcurrentSkipListSet::size)
+                .description("Transações com versões do catálogo reservadas e ainda não concluídas")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void seed() {
+        long max = Math.max(orZero(jpaGameRepository.findMaxCatalogVersion()),
+                orZero(jpaGameTombstoneRepository.findMaxCatalogVersion()));
+        synchronized (lock) {
+            lastVersion = Math.max(lastVersion, max);
+        }
+        log.info("CatalogVersionAllocator - Versão do catálogo iniciada em {}", max);
+    }
+
+    /**
+     * Reserva a próxima versão; a primeira reserva da transação a mantém abaixo
+     * da marca segura até o commit ou rollback
+     */
+    public long next() {
+        synchronized (lock) {
+            long version = ++lastVersion;
+            if (TransactionSynchronizationManager.isSynchronizationActive()
+                    && !TransactionSynchronizationManager.hasResource(this)) {
+                TransactionSynchronizationManager.bindResource(this, version);
+                inFlight.add(version);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        inFlight.remove(version);
+                        TransactionSynchronizationManager.unbindResourceIfPossible(CatalogVersionAllocator.this);
+                    }
+                });
+            }
+            return version;
+        }
+    }
+
+    /**
+     * Maior versão sem nenhuma escrita anterior ainda pendente de commit
+     */
+    public long safeVersion() {
+        synchronized (lock) {
+            return inFlight.isEmpty() ? lastVersion : inFlight.first() - 1;
+        }
+    }
+
+    private static long orZero(Long value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,30 @@
+package com.projuris.gamescatalog.infrastructure.persistence.version;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entity listener que atribui a versão do catálogo a cada INSERT/UPDATE
+ * Instanciado pelo Hibernate via container de beans do Spring, o que permite
+ * a injeção do CatalogVersionAllocator (lazy: o listener é criado junto com
+ * o EntityManagerFactory, do qual o allocator depende).
+ */
+@Component
+public class CatalogVersionListener {
+
+    private final CatalogVersionAllocator catalogVersionAllocator;
+
+    public CatalogVersionListener(@Lazy CatalogVersionAllocator catalogVersionAllocator) {
+        this.catalogVersionAllocator = catalogVersionAllocator;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void assignVersion(Object entity) {
+        if (entity instanceof CatalogVersioned versioned) {
+            versioned.setCatalogVersion(catalogVersionAllocator.next());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.projuris.gamescatalog.infrastructure.persistence.version;
+
+/**
+ * Entidade que recebe uma nova versão do catálogo a cada escrita (CatalogVersionListener)
+ */
+public interface CatalogVersioned {
+
+    void setCatalogVersion(Long catalogVersion);
+}
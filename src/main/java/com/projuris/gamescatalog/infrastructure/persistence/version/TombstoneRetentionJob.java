@@ -0,0 +1,59 @@
+package com.projuris.gamescatalog.infrastructure.persistence.version;
+
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaGameTombstoneRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remoção periódica dos tombstones mais antigos que app.delta.tombstone-retention
+ * Guarda a maior versão removida: clientes que pedem o delta a partir de uma
+ * versão anterior a ela podem ter perdido deleções e precisam recarregar o
+ * catálogo. A marca fica em memória, como o banco da aplicação.
+ */
+@Component
+@Slf4j
+public class TombstoneRetentionJob {
+
+    private final JpaGameTombstoneRepository jpaGameTombstoneRepository;
+    private final ApplicationProperties applicationProperties;
+    private final AtomicLong purgedThroughVersion = new AtomicLong();
+    private final Counter purgedCounter;
+
+    public TombstoneRetentionJob(JpaGameTombstoneRepository jpaGameTombstoneRepository,
+            ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this.jpaGameTombstoneRepository = jpaGameTombstoneRepository;
+        this.applicationProperties = applicationProperties;
+        this.purgedCounter = Counter.builder("games.tombstones.purged")
+                .description("Tombstones removidos após a janela de retenção")
+                .register(meterRegistry);
+        meterRegistry.gauge("games.tombstones.purged.through.version", purgedThroughVersion);
+    }
+
+    @Scheduled(fixedDelayString = "${app.delta.purge-interval:PT1H}", initialDelayString = "${app.delta.purge-interval:PT1H}")
+    @Transactional
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(applicationProperties.getDelta().getTombstoneRetention());
+        Long maxVersion = jpaGameTombstoneRepository.findMaxCatalogVersionDeletedBefore(cutoff);
+        if (maxVersion == null) {
+            log.debug("TombstoneRetentionJob.purge - Nenhum tombstone anterior a {}", cutoff);
+            return;
+        }
+        int purged = jpaGameTombstoneRepository.deleteDeletedBefore(cutoff);
+        purgedThroughVersion.accumulateAndGet(maxVersion, Math::max);
+        purgedCounter.increment(purged);
+        log.info("TombstoneRetentionJob.purge - {} tombstones removidos (deletados antes de {}), versão {}",
+                purged, cutoff, maxVersion);
+    }
+
+    public long getPurgedThroughVersion() {
+        return purgedThroughVersion.get();
+    }
+}
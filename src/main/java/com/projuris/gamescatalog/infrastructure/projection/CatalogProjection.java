@@ -0,0 +1,37 @@
+package com.projuris.gamescatalog.infrastructure.projection;
+
+import com.projuris.gamescatalog.domain.model.Game;
+
+/**
+ * Projeção em memória do catálogo mantida pelos eventos de domínio
+ * Cada implementação recebe o estado atual do game após o commit (carregado
+ * uma única vez para todas as projeções) e é reconstruída na inicialização.
+ */
+public interface CatalogProjection {
+
+    /**
+     * Game criado ou atualizado (recebe o estado completo e atual)
+     */
+    void onUpsert(Game game);
+
+    void onDelete(Long gameId);
+
+    /**
+     * Fim da aplicação de um evento (um game ou um lote inteiro), antes de a
+     * versão do catálogo avançar; para trabalho feito uma vez por evento
+     */
+    default void onChangesApplied() {
+    }
+
+    /**
+     * Início da reconstrução completa: a projeção deve descartar o estado atual
+     */
+    default void onRebuildStarted() {
+    }
+
+    /**
+     * Fim da reconstrução completa: a projeção pode passar a responder consultas
+     */
+    default void onRebuildCompleted() {
+    }
+}
@@ -0,0 +1,84 @@
+package com.projuris.gamescatalog.infrastructure.projection;
+
+import com.projuris.gamescatalog.infrastructure.readmodel.CatalogReadModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versão global do catálogo usada nas requisições condicionais (ETag/Last-Modified)
+ * A versão é incrementada pelo CatalogProjectionEventHandler depois que todas as
+ * projeções aplicaram a alteração, então um ETag novo nunca é emitido com dados
+ * antigos. O epoch da instância entra no ETag das listagens para que uma versão
+ * emitida antes de um restart não seja confundida com a versão atual.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogVersionTracker {
+
+    private final CatalogReadModel catalogReadModel;
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong version = new AtomicLong();
+    private volatile long lastModified = epoch;
+
+    /**
+     * Registra uma alteração no catálogo (chamado após o commit)
+     */
+    public void bump() {
+        version.incrementAndGet();
+        lastModified = System.currentTimeMillis();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Instante (epoch millis) da última alteração observada nesta instância
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * ETag fraco das listagens: qualquer alteração no catálogo o invalida
+     */
+    public String listETag() {
+        return "W/\"" + Long.toString(epoch, 36) + "-" + version.get() + "\"";
+    }
+
+    /**
+     * updatedAt do game segundo o modelo de leitura, permitindo responder 304
+     * sem executar o use case; vazio se o modelo não está disponível ou não
+     * conhece o ID
+     */
+    public Optional<LocalDateTime> findUpdatedAt(long id) {
+        if (!catalogReadModel.isAvailable()) {
+            return Optional.empty();
+        }
+        return catalogReadModel.findUpdatedAt(id);
+    }
+
+    /**
+     * ETag forte de um game: ID + instante da última alteração
+     */
+    public static String gameETag(long id, LocalDateTime updatedAt) {
+        long stamp = updatedAt != null
+                ? updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + updatedAt.getNano()
+                : 0L;
+        return "\"" + id + "-" + Long.toString(stamp, 36) + "\"";
+    }
+
+    /**
+     * Last-Modified de um game (updatedAt é gravado no fuso do servidor)
+     */
+    public static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1L;
+    }
+}
@@ -0,0 +1,106 @@
+package com.projuris.gamescatalog.infrastructure.readmodel;
+
+import com.projuris.gamescatalog.application.dto.MerkleBucketDTO;
+import com.projuris.gamescatalog.application.dto.MerkleNodeDTO;
+import com.projuris.gamescatalog.application.merkle.MerkleTree;
+import com.projuris.gamescatalog.application.port.CatalogMerklePort;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.projection.CatalogProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Árvore de Merkle do catálogo mantida pelos eventos de domínio
+ * Cada criação, atualização ou deleção recalcula apenas o hash do game e
+ * invalida a folha e os ancestrais; os hashes dos nós são recalculados na
+ * próxima consulta. As consultas também gravam o cache de hashes da árvore,
+ * por isso leitura e escrita usam o mesmo monitor.
+ */
+@Component
+@Slf4j
+public class CatalogMerkleIndex implements CatalogProjection, CatalogMerklePort {
+
+    private final ApplicationProperties applicationProperties;
+    private final MerkleTree tree;
+
+    private volatile boolean ready;
+
+    public CatalogMerkleIndex(ApplicationProperties applicationProperties) {
+        ApplicationProperties.Merkle properties = applicationProperties.getMerkle();
+        this.applicationProperties = applicationProperties;
+        this.tree = new MerkleTree(properties.getBucketSize(), properties.getFanOut());
+    }
+
+    private boolean enabled() {
+        return applicationProperties.getMerkle().isEnabled();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return ready && enabled();
+    }
+
+    // ---------------------------------------------------------------------
+    // CatalogProjection
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void onRebuildStarted() {
+        ready = false;
+        synchronized (tree) {
+            tree.clear();
+        }
+    }
+
+    @Override
+    public void onRebuildCompleted() {
+        if (!enabled()) {
+            log.info("CatalogMerkleIndex - Árvore de Merkle desabilitada, será montada pelo banco a cada consulta");
+            return;
+        }
+        ready = true;
+        synchronized (tree) {
+            log.info("CatalogMerkleIndex - Árvore de Merkle pronta: games={}, raiz={}", tree.getGameCount(),
+                    tree.node(0, 0).getHash());
+        }
+    }
+
+    @Override
+    public void onUpsert(Game game) {
+        if (!enabled()) {
+            return;
+        }
+        synchronized (tree) {
+            tree.upsert(game);
+        }
+    }
+
+    @Override
+    public void onDelete(Long gameId) {
+        if (!enabled()) {
+            return;
+        }
+        synchronized (tree) {
+            tree.remove(gameId);
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // CatalogMerklePort
+    // ---------------------------------------------------------------------
+
+    @Override
+    public MerkleNodeDTO node(int level, long index) {
+        synchronized (tree) {
+            return tree.node(level, index);
+        }
+    }
+
+    @Override
+    public MerkleBucketDTO bucket(long bucket) {
+        synchronized (tree) {
+            return tree.bucket(bucket);
+        }
+    }
+}
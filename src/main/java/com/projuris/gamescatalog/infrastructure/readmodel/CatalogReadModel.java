@@ -0,0 +1,429 @@
+package com.projuris.gamescatalog.infrastructure.readmodel;
+
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.port.GameQueryPort;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.projection.CatalogProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Modelo de leitura colunar em memória do catálogo
+ * Mantém os games em arrays primitivos ordenados por ID (um array por coluna),
+ * com gênero, desenvolvedora e publicadora codificados por dicionário e um
+ * índice de IDs por gênero. É reconstruído na inicialização e atualizado pelos
+ * eventos de domínio (via CatalogProjectionEventHandler), atendendo as
+ * listagens sem acessar o banco e sem materializar Game/GameEntity.
+ * Remoções apenas marcam a posição como removida (as listagens a pulam, com o
+ * offset traduzido pelo LiveSlotIndex); quando a fração de removidas passa do
+ * limite as colunas são compactadas em uma única passada.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogReadModel implements CatalogProjection, GameQueryPort {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NULL_YEAR = Integer.MIN_VALUE;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final int MIN_SLOTS_TO_COMPACT = 1024;
+    private static final double MAX_DELETED_RATIO = 0.25;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final StringDictionary genres = new StringDictionary();
+    private final StringDictionary developers = new StringDictionary();
+    private final StringDictionary publishers = new StringDictionary();
+    private final List<SortedLongArray> idsByGenre = new ArrayList<>();
+
+    // Colunas (posição i de cada array pertence ao mesmo game, ordenado por ID)
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] releaseYears = new int[INITIAL_CAPACITY];
+    private long[] priceCents = new long[INITIAL_CAPACITY];
+    private int[] genreCodes = new int[INITIAL_CAPACITY];
+    private int[] developerCodes = new int[INITIAL_CAPACITY];
+    private int[] publisherCodes = new int[INITIAL_CAPACITY];
+    private long[] createdAtNanos = new long[INITIAL_CAPACITY];
+    private long[] updatedAtNanos = new long[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+    private String[] descriptions = new String[INITIAL_CAPACITY];
+    // Posições ocupadas, incluindo as removidas ainda não compactadas
+    private int size;
+    private final BitSet deletedSlots = new BitSet();
+    private int deletedCount;
+    private LiveSlotIndex liveSlots = new LiveSlotIndex(INITIAL_CAPACITY);
+
+    private volatile boolean ready;
+
+    private boolean enabled() {
+        return applicationProperties.getReadModel().isEnabled();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return ready && enabled();
+    }
+
+    /**
+     * Quantidade de games no modelo (desconsidera as posições removidas)
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // CatalogProjection
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void onRebuildStarted() {
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            genres.clear();
+            developers.clear();
+            publishers.clear();
+            idsByGenre.clear();
+            Arrays.fill(titles, 0, size, null);
+            Arrays.fill(descriptions, 0, size, null);
+            size = 0;
+            deletedSlots.clear();
+            deletedCount = 0;
+            liveSlots.rebuild(ids.length, 0, deletedSlots);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRebuildCompleted() {
+        if (!enabled()) {
+            log.info("CatalogReadModel - Modelo de leitura desabilitado, listagens serão atendidas pelo JPA");
+            return;
+        }
+        ready = true;
+        log.info("CatalogReadModel - Modelo de leitura pronto: {} games, {} gêneros", size(), genres.size());
+    }
+
+    @Override
+    public void onUpsert(Game game) {
+        if (!enabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            long id = game.getId();
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                pos = insertSlot(id, -pos - 1);
+            } else if (deletedSlots.get(pos)) {
+                // Removido e recriado antes da compactação: reaproveita a posição
+                deletedSlots.clear(pos);
+                deletedCount--;
+                liveSlots.add(pos, 1);
+            } else {
+                idsByGenre.get(genreCodes[pos]).remove(id);
+            }
+            write(pos, game);
+            genreIds(genreCodes[pos]).add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDelete(Long gameId) {
+        if (!enabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int pos = Arrays.binarySearch(ids, 0, size, gameId);
+            if (pos < 0 || deletedSlots.get(pos)) {
+                return;
+            }
+            idsByGenre.get(genreCodes[pos]).remove(gameId);
+            deletedSlots.set(pos);
+            deletedCount++;
+            liveSlots.add(pos, -1);
+            titles[pos] = null;
+            descriptions[pos] = null;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // GameQueryPort
+    // ---------------------------------------------------------------------
+
+    @Override
+    public List<GameResponseDTO> findAll(int page, int size) {
+        lock.readLock().lock();
+        try {
+            long offset = (long) page * size;
+            int live = this.size - deletedCount;
+            if (offset >= live) {
+                return Collections.emptyList();
+            }
+            return collectLive(liveSlots.select((int) offset), (int) Math.min(size, live - offset));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<GameResponseDTO> findByGenre(String genre, int page, int size) {
+        lock.readLock().lock();
+        try {
+            SortedLongArray genreIds = existingGenreIds(genre);
+            long offset = (long) page * size;
+            if (genreIds == null || offset >= genreIds.size()) {
+                return Collections.emptyList();
+            }
+            return collect(genreIds, (int) offset, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<GameResponseDTO> findAllAfter(long afterId, int size) {
+        lock.readLock().lock();
+        try {
+            int pos = Arrays.binarySearch(ids, 0, this.size, afterId);
+            int from = pos >= 0 ? pos + 1 : -pos - 1;
+            return collectLive(deletedSlots.nextClearBit(from), size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<GameResponseDTO> findByGenreAfter(String genre, long afterId, int size) {
+        lock.readLock().lock();
+        try {
+            SortedLongArray genreIds = existingGenreIds(genre);
+            if (genreIds == null) {
+                return Collections.emptyList();
+            }
+            return collect(genreIds, genreIds.upperBound(afterId), size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Data da última alteração do game, sem montar o DTO; vazio se o ID não
+     * está no modelo. Usado para responder requisições condicionais
+     */
+    public Optional<LocalDateTime> findUpdatedAt(long id) {
+        lock.readLock().lock();
+        try {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            return pos >= 0 && !deletedSlots.get(pos) ? Optional.ofNullable(fromNanos(updatedAtNanos[pos]))
+                    : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Internos (chamados com o lock adquirido)
+    // ---------------------------------------------------------------------
+
+    /**
+     * Até limit games a partir da posição viva informada, pulando as removidas
+     */
+    private List<GameResponseDTO> collectLive(int from, int limit) {
+        List<GameResponseDTO> result = new ArrayList<>(Math.min(limit, Math.max(0, size - from)));
+        for (int pos = from; pos < size && result.size() < limit; pos = deletedSlots.nextClearBit(pos + 1)) {
+            result.add(toResponseDTO(pos));
+        }
+        return result;
+    }
+
+    private List<GameResponseDTO> collect(SortedLongArray genreIds, int from, int limit) {
+        int to = Math.min(genreIds.size(), from + limit);
+        List<GameResponseDTO> result = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            result.add(toResponseDTO(Arrays.binarySearch(ids, 0, size, genreIds.get(i))));
+        }
+        return result;
+    }
+
+    private SortedLongArray existingGenreIds(String genre) {
+        int code = genres.lookup(genre);
+        return code == StringDictionary.NULL_CODE ? null : idsByGenre.get(code);
+    }
+
+    private SortedLongArray genreIds(int code) {
+        while (idsByGenre.size() <= code) {
+            idsByGenre.add(new SortedLongArray());
+        }
+        return idsByGenre.get(code);
+    }
+
+    private void write(int pos, Game game) {
+        titles[pos] = game.getTitle();
+        descriptions[pos] = game.getDescription();
+        releaseYears[pos] = game.getReleaseYear() != null ? game.getReleaseYear() : NULL_YEAR;
+        priceCents[pos] = game.getPrice() != null ? Math.round(game.getPrice() * 100) : NULL_LONG;
+        genreCodes[pos] = genres.encode(game.getGenre());
+        developerCodes[pos] = developers.encode(game.getDeveloper());
+        publisherCodes[pos] = publishers.encode(game.getPublisher());
+        createdAtNanos[pos] = toNanos(game.getCreatedAt());
+        updatedAtNanos[pos] = toNanos(game.getUpdatedAt());
+    }
+
+    private GameResponseDTO toResponseDTO(int pos) {
+        return new GameResponseDTO(
+                ids[pos],
+                titles[pos],
+                descriptions[pos],
+                developers.decode(developerCodes[pos]),
+                publishers.decode(publisherCodes[pos]),
+                genres.decode(genreCodes[pos]),
+                releaseYears[pos] != NULL_YEAR ? releaseYears[pos] : null,
+                priceCents[pos] != NULL_LONG ? priceCents[pos] / 100.0 : null,
+                fromNanos(createdAtNanos[pos]),
+                fromNanos(updatedAtNanos[pos]));
+    }
+
+    /**
+     * Abre a posição do ID e retorna onde ele ficou. IDs novos chegam em ordem
+     * crescente (anexados no final, O(log n)); uma inserção no meio compacta e
+     * desloca as colunas, em O(n)
+     * <p>
+     * Inserções no meio acontecem quando os commits chegam fora da ordem dos
+     * IDs (transações concorrentes confirmadas em ordem inversa à da geração
+     * do ID); durante a reconstrução os eventos são adiados até o fim do
+     * streaming justamente para não cair aqui. Cada uma custa um deslocamento de
+     * todas as colunas após a posição mais a reconstrução do LiveSlotIndex,
+     * ou seja, k inserções fora de ordem custam O(k·n) com o lock de escrita
+     * tomado. Na prática k é pequeno (só a janela de commits concorrentes);
+     * uma carga massiva fora de ordem deve passar pela reconstrução completa.
+     */
+    private int insertSlot(long id, int pos) {
+        if (pos < size && deletedCount > 0) {
+            compact();
+            pos = -Arrays.binarySearch(ids, 0, size, id) - 1;
+        }
+        if (size == ids.length) {
+            grow();
+        }
+        int moved = size - pos;
+        if (moved > 0) {
+            System.arraycopy(ids, pos, ids, pos + 1, moved);
+            System.arraycopy(releaseYears, pos, releaseYears, pos + 1, moved);
+            System.arraycopy(priceCents, pos, priceCents, pos + 1, moved);
+            System.arraycopy(genreCodes, pos, genreCodes, pos + 1, moved);
+            System.arraycopy(developerCodes, pos, developerCodes, pos + 1, moved);
+            System.arraycopy(publisherCodes, pos, publisherCodes, pos + 1, moved);
+            System.arraycopy(createdAtNanos, pos, createdAtNanos, pos + 1, moved);
+            System.arraycopy(updatedAtNanos, pos, updatedAtNanos, pos + 1, moved);
+            System.arraycopy(titles, pos, titles, pos + 1, moved);
+            System.arraycopy(descriptions, pos, descriptions, pos + 1, moved);
+        }
+        ids[pos] = id;
+        size++;
+        if (moved > 0) {
+            liveSlots.rebuild(ids.length, size, deletedSlots);
+        } else {
+            liveSlots.add(pos, 1);
+        }
+        return pos;
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount < MIN_SLOTS_TO_COMPACT || deletedCount < size * MAX_DELETED_RATIO) {
+            return;
+        }
+        compact();
+    }
+
+    /**
+     * Remove as posições marcadas, movendo cada coluna uma única vez
+     */
+    private void compact() {
+        long start = System.currentTimeMillis();
+        int removed = deletedCount;
+        int next = 0;
+        for (int pos = 0; pos < size; pos++) {
+            if (deletedSlots.get(pos)) {
+                continue;
+            }
+            if (next != pos) {
+                ids[next] = ids[pos];
+                releaseYears[next] = releaseYears[pos];
+                priceCents[next] = priceCents[pos];
+                genreCodes[next] = genreCodes[pos];
+                developerCodes[next] = developerCodes[pos];
+                publisherCodes[next] = publisherCodes[pos];
+                createdAtNanos[next] = createdAtNanos[pos];
+                updatedAtNanos[next] = updatedAtNanos[pos];
+                titles[next] = titles[pos];
+                descriptions[next] = descriptions[pos];
+            }
+            next++;
+        }
+        Arrays.fill(titles, next, size, null);
+        Arrays.fill(descriptions, next, size, null);
+        size = next;
+        deletedSlots.clear();
+        deletedCount = 0;
+        liveSlots.rebuild(ids.length, size, deletedSlots);
+        log.debug("CatalogReadModel - Colunas compactadas: {} posições removidas em {} ms", removed,
+                System.currentTimeMillis() - start);
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        releaseYears = Arrays.copyOf(releaseYears, capacity);
+        priceCents = Arrays.copyOf(priceCents, capacity);
+        genreCodes = Arrays.copyOf(genreCodes, capacity);
+        developerCodes = Arrays.copyOf(developerCodes, capacity);
+        publisherCodes = Arrays.copyOf(publisherCodes, capacity);
+        createdAtNanos = Arrays.copyOf(createdAtNanos, capacity);
+        updatedAtNanos = Arrays.copyOf(updatedAtNanos, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        descriptions = Arrays.copyOf(descriptions, capacity);
+        liveSlots.rebuild(capacity, size, deletedSlots);
+    }
+
+    private static long toNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NULL_LONG;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+
+    private static LocalDateTime fromNanos(long nanos) {
+        if (nanos == NULL_LONG) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
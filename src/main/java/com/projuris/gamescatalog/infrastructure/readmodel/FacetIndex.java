@@ -0,0 +1,326 @@
+package com.projuris.gamescatalog.infrastructure.readmodel;
+
+import com.projuris.gamescatalog.application.dto.FacetsDTO;
+import com.projuris.gamescatalog.application.facet.FacetCounts;
+import com.projuris.gamescatalog.application.facet.PriceRanges;
+import com.projuris.gamescatalog.application.port.GameFacetPort;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.model.GameFilter;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.projection.CatalogProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de facetas em memória baseado em bitmaps comprimidos (Roaring)
+ * Cada game recebe um ID interno (doc) e cada valor de faceta (gênero,
+ * desenvolvedora, publicadora, ano e faixa de preço) tem um bitmap com os docs
+ * que o possuem. Filtros viram interseções de bitmaps e as contagens são
+ * cardinalidades de interseção, sem GROUP BY no banco.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FacetIndex implements CatalogProjection, GameFacetPort {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NONE = -1;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final StringDictionary genres = new StringDictionary();
+    private final StringDictionary developers = new StringDictionary();
+    private final StringDictionary publishers = new StringDictionary();
+    private final List<RoaringBitmap> genreBitmaps = new ArrayList<>();
+    private final List<RoaringBitmap> developerBitmaps = new ArrayList<>();
+    private final List<RoaringBitmap> publisherBitmaps = new ArrayList<>();
+    private final TreeMap<Integer, RoaringBitmap> yearBitmaps = new TreeMap<>();
+    private final RoaringBitmap[] priceBitmaps = new RoaringBitmap[PriceRanges.count()];
+    private final RoaringBitmap liveDocs = new RoaringBitmap();
+
+    // Valores atuais de cada doc, para retirar o doc dos bitmaps antigos na atualização
+    private final Map<Long, Integer> docByGameId = new HashMap<>();
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private int[] genreCodes = new int[INITIAL_CAPACITY];
+    private int[] developerCodes = new int[INITIAL_CAPACITY];
+    private int[] publisherCodes = new int[INITIAL_CAPACITY];
+    private int[] years = new int[INITIAL_CAPACITY];
+    private int[] priceRanges = new int[INITIAL_CAPACITY];
+    private int docCount;
+
+    private volatile boolean ready;
+
+    private boolean enabled() {
+        return applicationProperties.getFacets().isEnabled();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return ready && enabled();
+    }
+
+    // ---------------------------------------------------------------------
+    // CatalogProjection
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void onRebuildStarted() {
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            genres.clear();
+            developers.clear();
+            publishers.clear();
+            genreBitmaps.clear();
+            developerBitmaps.clear();
+            publisherBitmaps.clear();
+            yearBitmaps.clear();
+            Arrays.fill(priceBitmaps, null);
+            liveDocs.clear();
+            docByGameId.clear();
+            freeDocs.clear();
+            docCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRebuildCompleted() {
+        if (!enabled()) {
+            log.info("FacetIndex - Índice de facetas desabilitado, facetas serão calculadas pelo banco");
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            // Compacta sequências contínuas (run containers) após a carga inicial
+            genreBitmaps.forEach(RoaringBitmap::runOptimize);
+            developerBitmaps.forEach(RoaringBitmap::runOptimize);
+            publisherBitmaps.forEach(RoaringBitmap::runOptimize);
+            yearBitmaps.values().forEach(RoaringBitmap::runOptimize);
+            liveDocs.runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        log.info("FacetIndex - Índice de facetas pronto: {} games, {} gêneros, {} desenvolvedoras, {} publicadoras",
+                liveDocs.getLongCardinality(), genres.size(), developers.size(), publishers.size());
+    }
+
+    @Override
+    public void onUpsert(Game game) {
+        if (!enabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByGameId.get(game.getId());
+            int doc;
+            if (existing != null) {
+                doc = existing;
+                unindex(doc);
+            } else {
+                doc = allocateDoc();
+                docByGameId.put(game.getId(), doc);
+            }
+
+            genreCodes[doc] = genres.encode(game.getGenre());
+            developerCodes[doc] = developers.encode(game.getDeveloper());
+            publisherCodes[doc] = publishers.encode(game.getPublisher());
+            years[doc] = game.getReleaseYear() != null ? game.getReleaseYear() : NONE;
+            priceRanges[doc] = PriceRanges.of(game.getPrice());
+
+            add(genreBitmaps, genreCodes[doc], doc);
+            add(developerBitmaps, developerCodes[doc], doc);
+            add(publisherBitmaps, publisherCodes[doc], doc);
+            if (years[doc] != NONE) {
+                yearBitmaps.computeIfAbsent(years[doc], year -> new RoaringBitmap()).add(doc);
+            }
+            if (priceRanges[doc] != PriceRanges.NONE) {
+                if (priceBitmaps[priceRanges[doc]] == null) {
+                    priceBitmaps[priceRanges[doc]] = new RoaringBitmap();
+                }
+                priceBitmaps[priceRanges[doc]].add(doc);
+            }
+            liveDocs.add(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDelete(Long gameId) {
+        if (!enabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByGameId.remove(gameId);
+            if (doc == null) {
+                return;
+            }
+            unindex(doc);
+            liveDocs.remove(doc);
+            freeDocs.push(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // GameFacetPort
+    // ---------------------------------------------------------------------
+
+    @Override
+    public FacetsDTO count(GameFilter filter) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap selection = select(filter);
+            FacetCounts counts = new FacetCounts();
+            if (selection == null) {
+                countAll(counts);
+            } else if (!selection.isEmpty()) {
+                countSelection(counts, selection);
+            }
+            return counts.toDTO();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Internos (chamados com o lock adquirido)
+    // ---------------------------------------------------------------------
+
+    /**
+     * Bitmap dos docs que atendem ao filtro, ou null quando o filtro é vazio
+     * (todos os docs)
+     */
+    private RoaringBitmap select(GameFilter filter) {
+        if (filter.isEmpty()) {
+            return null;
+        }
+        RoaringBitmap selection = liveDocs;
+        if (filter.getGenre() != null) {
+            selection = RoaringBitmap.and(selection, valueBitmap(genres, genreBitmaps, filter.getGenre()));
+        }
+        if (filter.getDeveloper() != null) {
+            selection = RoaringBitmap.and(selection,
+                    valueBitmap(developers, developerBitmaps, filter.getDeveloper()));
+        }
+        if (filter.getYearFrom() != null || filter.getYearTo() != null) {
+            int from = filter.getYearFrom() != null ? filter.getYearFrom() : Integer.MIN_VALUE;
+            int to = filter.getYearTo() != null ? filter.getYearTo() : Integer.MAX_VALUE;
+            NavigableMap<Integer, RoaringBitmap> range = from > to
+                    ? new TreeMap<>()
+                    : yearBitmaps.subMap(from, true, to, true);
+            selection = RoaringBitmap.and(selection, RoaringBitmap.or(range.values().iterator()));
+        }
+        return selection;
+    }
+
+    private void countAll(FacetCounts counts) {
+        counts.setTotal(liveDocs.getLongCardinality());
+        for (int code = 0; code < genreBitmaps.size(); code++) {
+            counts.addGenre(genres.decode(code), genreBitmaps.get(code).getLongCardinality());
+        }
+        for (int code = 0; code < developerBitmaps.size(); code++) {
+            counts.addDeveloper(developers.decode(code), developerBitmaps.get(code).getLongCardinality());
+        }
+        for (int code = 0; code < publisherBitmaps.size(); code++) {
+            counts.addPublisher(publishers.decode(code), publisherBitmaps.get(code).getLongCardinality());
+        }
+        yearBitmaps.forEach((year, docs) -> counts.addReleaseYear(year, docs.getLongCardinality()));
+        for (int range = 0; range < priceBitmaps.length; range++) {
+            if (priceBitmaps[range] != null) {
+                counts.addPriceRange(range, priceBitmaps[range].getLongCardinality());
+            }
+        }
+    }
+
+    private void countSelection(FacetCounts counts, RoaringBitmap selection) {
+        counts.setTotal(selection.getLongCardinality());
+        for (int code = 0; code < genreBitmaps.size(); code++) {
+            counts.addGenre(genres.decode(code), RoaringBitmap.andCardinality(selection, genreBitmaps.get(code)));
+        }
+        for (int code = 0; code < developerBitmaps.size(); code++) {
+            counts.addDeveloper(developers.decode(code),
+                    RoaringBitmap.andCardinality(selection, developerBitmaps.get(code)));
+        }
+        for (int code = 0; code < publisherBitmaps.size(); code++) {
+            counts.addPublisher(publishers.decode(code),
+                    RoaringBitmap.andCardinality(selection, publisherBitmaps.get(code)));
+        }
+        yearBitmaps.forEach((year, docs) -> counts.addReleaseYear(year,
+                RoaringBitmap.andCardinality(selection, docs)));
+        for (int range = 0; range < priceBitmaps.length; range++) {
+            if (priceBitmaps[range] != null) {
+                counts.addPriceRange(range, RoaringBitmap.andCardinality(selection, priceBitmaps[range]));
+            }
+        }
+    }
+
+    private static RoaringBitmap valueBitmap(StringDictionary dictionary, List<RoaringBitmap> bitmaps, String value) {
+        int code = dictionary.lookup(value);
+        return code == StringDictionary.NULL_CODE ? new RoaringBitmap() : bitmaps.get(code);
+    }
+
+    private static void add(List<RoaringBitmap> bitmaps, int code, int doc) {
+        if (code == StringDictionary.NULL_CODE) {
+            return;
+        }
+        while (bitmaps.size() <= code) {
+            bitmaps.add(new RoaringBitmap());
+        }
+        bitmaps.get(code).add(doc);
+    }
+
+    private static void remove(List<RoaringBitmap> bitmaps, int code, int doc) {
+        if (code != StringDictionary.NULL_CODE) {
+            bitmaps.get(code).remove(doc);
+        }
+    }
+
+    private void unindex(int doc) {
+        remove(genreBitmaps, genreCodes[doc], doc);
+        remove(developerBitmaps, developerCodes[doc], doc);
+        remove(publisherBitmaps, publisherCodes[doc], doc);
+        if (years[doc] != NONE) {
+            yearBitmaps.get(years[doc]).remove(doc);
+        }
+        if (priceRanges[doc] != PriceRanges.NONE) {
+            priceBitmaps[priceRanges[doc]].remove(doc);
+        }
+    }
+
+    private int allocateDoc() {
+        if (!freeDocs.isEmpty()) {
+            return freeDocs.pop();
+        }
+        int doc = docCount++;
+        if (doc == genreCodes.length) {
+            int capacity = doc * 2;
+            genreCodes = Arrays.copyOf(genreCodes, capacity);
+            developerCodes = Arrays.copyOf(developerCodes, capacity);
+            publisherCodes = Arrays.copyOf(publisherCodes, capacity);
+            years = Arrays.copyOf(years, capacity);
+            priceRanges = Arrays.copyOf(priceRanges, capacity);
+        }
+        return doc;
+    }
+}
@@ -0,0 +1,62 @@
+package com.projuris.gamescatalog.infrastructure.readmodel;
+
+import java.util.BitSet;
+
+/**
+ * Árvore de Fenwick sobre as posições das colunas do CatalogReadModel
+ * Conta as posições vivas (não removidas) para traduzir o offset de uma
+ * página na posição da coluna em O(log n), mesmo com posições removidas
+ * ainda não compactadas.
+ * Não é thread-safe: o acesso é protegido pelo lock do CatalogReadModel.
+ */
+class LiveSlotIndex {
+
+    private int[] tree;
+
+    LiveSlotIndex(int capacity) {
+        tree = new int[capacity + 1];
+    }
+
+    /**
+     * Soma delta (+1 viva, -1 removida) na posição
+     */
+    void add(int pos, int delta) {
+        for (int i = pos + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Posição da k-ésima posição viva (k a partir de 0); deve existir
+     */
+    int select(int k) {
+        int pos = 0;
+        int remaining = k + 1;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next < tree.length && tree[next] < remaining) {
+                pos = next;
+                remaining -= tree[next];
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Reconstrói para as posições [0, size) com a capacidade informada, em O(capacity)
+     */
+    void rebuild(int capacity, int size, BitSet deleted) {
+        tree = new int[capacity + 1];
+        for (int pos = 0; pos < size; pos++) {
+            if (!deleted.get(pos)) {
+                tree[pos + 1] += 1;
+            }
+        }
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.projuris.gamescatalog.infrastructure.readmodel;
+
+import java.util.Arrays;
+
+/**
+ * Array ordenado de longs sem boxing, usado como lista de IDs por gênero
+ * Inserções no final (IDs crescentes) são O(1) amortizado.
+ * Não é thread-safe: o acesso é protegido pelo lock do CatalogReadModel.
+ */
+class SortedLongArray {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void add(long value) {
+        int pos = Arrays.binarySearch(values, 0, size, value);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+    }
+
+    void remove(long value) {
+        int pos = Arrays.binarySearch(values, 0, size, value);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+        size--;
+    }
+
+    /**
+     * Posição do primeiro valor estritamente maior que o informado
+     */
+    int upperBound(long value) {
+        int pos = Arrays.binarySearch(values, 0, size, value);
+        return pos >= 0 ? pos + 1 : -pos - 1;
+    }
+
+    long get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+}
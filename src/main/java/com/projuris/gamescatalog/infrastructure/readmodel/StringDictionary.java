@@ -0,0 +1,56 @@
+package com.projuris.gamescatalog.infrastructure.readmodel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dicionário de strings para codificação em int (colunas de baixa
+ * cardinalidade como gênero, desenvolvedora e publicadora)
+ * Códigos nunca são reaproveitados; null é representado por -1.
+ * Não é thread-safe: o acesso é protegido pelo lock do CatalogReadModel.
+ */
+class StringDictionary {
+
+    static final int NULL_CODE = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            values.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    /**
+     * Código de um valor existente, sem registrar valores novos
+     */
+    int lookup(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        return codes.getOrDefault(value, NULL_CODE);
+    }
+
+    String decode(int code) {
+        return code == NULL_CODE ? null : values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    void clear() {
+        codes.clear();
+        values.clear();
+    }
+}
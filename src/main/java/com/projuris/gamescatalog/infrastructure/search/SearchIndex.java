@@ -0,0 +1,440 @@
+package com.projuris.gamescatalog.infrastructure.search;
+
+import com.projuris.gamescatalog.application.port.GameSearchPort;
+import com.projuris.gamescatalog.application.port.SearchHits;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.projection.CatalogProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido em memória sobre título e descrição dos games
+ * Cada documento recebe um ID interno sequencial, então as listas de postings
+ * são arrays de int ordenados (pares docId/frequência) em que novos documentos
+ * são sempre anexados no final. Atualizações e remoções marcam o documento
+ * antigo como removido; quando a fração de removidos passa do limite o índice
+ * é compactado. O ranqueamento usa BM25 com peso maior para o título.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndex implements CatalogProjection, GameSearchPort {
+
+    // Termos do título contam como TITLE_BOOST ocorrências (BM25 com campo ponderado)
+    static final int TITLE_BOOST = 3;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_DOCS_TO_COMPACT = 1024;
+    private static final double MAX_DELETED_RATIO = 0.25;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docByGameId = new HashMap<>();
+    private final BitSet deletedDocs = new BitSet();
+    private long[] gameIdByDoc = new long[INITIAL_CAPACITY];
+    private int[] docLengths = new int[INITIAL_CAPACITY];
+    private int docCount;
+    private int liveDocs;
+    private long totalLength;
+
+    // Buffers de pontuação reaproveitados entre consultas (evita alocar um float[] por busca)
+    private final Queue<ScoreBuffer> scoreBuffers = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean ready;
+
+    private boolean enabled() {
+        return applicationProperties.getSearch().isEnabled();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return ready && enabled();
+    }
+
+    // ---------------------------------------------------------------------
+    // CatalogProjection
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void onRebuildStarted() {
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docByGameId.clear();
+            deletedDocs.clear();
+            docCount = 0;
+            liveDocs = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRebuildCompleted() {
+        if (!enabled()) {
+            log.info("SearchIndex - Índice de busca desabilitado, buscas serão atendidas pelo banco (LIKE)");
+            return;
+        }
+        ready = true;
+        lock.readLock().lock();
+        try {
+            log.info("SearchIndex - Índice de busca pronto: {} documentos, {} termos", liveDocs, postings.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onUpsert(Game game) {
+        if (!enabled()) {
+            return;
+        }
+        // Tokenização fora do lock
+        Map<String, Integer> frequencies = termFrequencies(game);
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = docByGameId.get(game.getId());
+            if (previous != null) {
+                deleteDoc(previous);
+            }
+            int doc = docCount++;
+            if (doc == gameIdByDoc.length) {
+                gameIdByDoc = Arrays.copyOf(gameIdByDoc, doc * 2);
+                docLengths = Arrays.copyOf(docLengths, doc * 2);
+            }
+            gameIdByDoc[doc] = game.getId();
+            docLengths[doc] = length;
+            docByGameId.put(game.getId(), doc);
+            liveDocs++;
+            totalLength += length;
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new PostingList())
+                    .add(doc, frequency));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDelete(Long gameId) {
+        if (!enabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByGameId.remove(gameId);
+            if (doc != null) {
+                deleteDoc(doc);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // GameSearchPort
+    // ---------------------------------------------------------------------
+
+    @Override
+    public SearchHits search(String query, long offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextNormalizer.tokenize(query)));
+        if (terms.isEmpty()) {
+            return new SearchHits(List.of(), 0);
+        }
+
+        ScoreBuffer buffer = scoreBuffers.poll();
+        if (buffer == null) {
+            buffer = new ScoreBuffer();
+        }
+        // Só volta ao pool zerado: uma falha entre score e topK deixaria pontuações residuais
+        boolean dirty = false;
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return new SearchHits(List.of(), 0);
+            }
+            buffer.ensureCapacity(docCount);
+            dirty = true;
+            int hits = score(terms, buffer);
+            List<Long> gameIds = topK(buffer, hits, offset, limit);
+            dirty = false;
+            return new SearchHits(gameIds, hits);
+        } finally {
+            lock.readLock().unlock();
+            if (!dirty) {
+                scoreBuffers.offer(buffer);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Internos (chamados com o lock adquirido)
+    // ---------------------------------------------------------------------
+
+    /**
+     * Acumula a pontuação BM25 de cada documento e retorna quantos documentos
+     * foram encontrados (registrados em buffer.touched)
+     */
+    private int score(List<String> terms, ScoreBuffer buffer) {
+        float[] scores = buffer.scores;
+        int[] touched = buffer.touched;
+        int hits = 0;
+        float averageLength = (float) totalLength / liveDocs;
+
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            // A frequência inclui documentos removidos ainda não compactados (aproximação)
+            int documentFrequency = Math.min(list.size, liveDocs);
+            double idf = Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            int[] data = list.data;
+            for (int i = 0; i < list.size; i++) {
+                int doc = data[i << 1];
+                if (deletedDocs.get(doc)) {
+                    continue;
+                }
+                int frequency = data[(i << 1) + 1];
+                float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                if (scores[doc] == 0) {
+                    touched[hits++] = doc;
+                }
+                scores[doc] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+            }
+        }
+        return hits;
+    }
+
+    private List<Long> topK(ScoreBuffer buffer, int hits, long offset, int limit) {
+        float[] scores = buffer.scores;
+        int[] touched = buffer.touched;
+        int k = (int) Math.min(hits, offset + limit);
+
+        TopDocs top = new TopDocs(k);
+        for (int i = 0; i < hits; i++) {
+            int doc = touched[i];
+            top.offer(doc, scores[doc]);
+            scores[doc] = 0;
+        }
+
+        int[] ranked = top.sorted();
+        int from = (int) Math.min(offset, ranked.length);
+        List<Long> gameIds = new ArrayList<>(ranked.length - from);
+        for (int i = from; i < ranked.length; i++) {
+            gameIds.add(gameIdByDoc[ranked[i]]);
+        }
+        return gameIds;
+    }
+
+    private void deleteDoc(int doc) {
+        deletedDocs.set(doc);
+        liveDocs--;
+        totalLength -= docLengths[doc];
+    }
+
+    private void compactIfNeeded() {
+        int deleted = docCount - liveDocs;
+        if (deleted < MIN_DOCS_TO_COMPACT || deleted < docCount * MAX_DELETED_RATIO) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deletedDocs.get(doc)) {
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = next;
+            gameIdByDoc[next] = gameIdByDoc[doc];
+            docLengths[next] = docLengths[doc];
+            docByGameId.put(gameIdByDoc[next], next);
+            next++;
+        }
+        Iterator<PostingList> lists = postings.values().iterator();
+        while (lists.hasNext()) {
+            PostingList list = lists.next();
+            list.remap(remap);
+            if (list.size == 0) {
+                lists.remove();
+            }
+        }
+        deletedDocs.clear();
+        docCount = next;
+        log.debug("SearchIndex - Índice compactado: {} documentos removidos em {} ms", deleted,
+                System.currentTimeMillis() - start);
+    }
+
+    private static Map<String, Integer> termFrequencies(Game game) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : TextNormalizer.tokenize(game.getTitle())) {
+            frequencies.merge(token, TITLE_BOOST, Integer::sum);
+        }
+        for (String token : TextNormalizer.tokenize(game.getDescription())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    /**
+     * Lista de postings: pares (docId, frequência) intercalados em um único
+     * int[], ordenados por docId
+     */
+    private static final class PostingList {
+
+        private int[] data = new int[2];
+        private int size;
+
+        void add(int doc, int frequency) {
+            if ((size << 1) == data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[size << 1] = doc;
+            data[(size << 1) + 1] = frequency;
+            size++;
+        }
+
+        // O remapeamento preserva a ordem, então a lista continua ordenada
+        void remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[data[i << 1]];
+                if (doc >= 0) {
+                    data[next << 1] = doc;
+                    data[(next << 1) + 1] = data[(i << 1) + 1];
+                    next++;
+                }
+            }
+            size = next;
+        }
+    }
+
+    /**
+     * Acumulador de pontuação por documento, zerado pelo topK após cada busca
+     */
+    private static final class ScoreBuffer {
+
+        private float[] scores = new float[0];
+        private int[] touched = new int[0];
+
+        void ensureCapacity(int docs) {
+            if (scores.length < docs) {
+                scores = new float[docs];
+                touched = new int[docs];
+            }
+        }
+    }
+
+    /**
+     * Heap mínimo de tamanho fixo com os k documentos de maior pontuação
+     * (empates favorecem o documento mais antigo)
+     */
+    private static final class TopDocs {
+
+        private final int[] docs;
+        private final float[] scores;
+        private int size;
+
+        TopDocs(int capacity) {
+            this.docs = new int[capacity];
+            this.scores = new float[capacity];
+        }
+
+        void offer(int doc, float score) {
+            if (docs.length == 0) {
+                return;
+            }
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (lessThan(docs[0], scores[0], doc, score)) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Documentos do maior para o menor score (esvazia o heap)
+         */
+        int[] sorted() {
+            int[] result = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = docs[0];
+                size--;
+                docs[0] = docs[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        private static boolean lessThan(int docA, float scoreA, int docB, float scoreB) {
+            return scoreA < scoreB || (scoreA == scoreB && docA > docB);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!lessThan(docs[index], scores[index], docs[parent], scores[parent])) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = (index << 1) + 1;
+                int right = left + 1;
+                if (left < size && lessThan(docs[left], scores[left], docs[smallest], scores[smallest])) {
+                    smallest = left;
+                }
+                if (right < size && lessThan(docs[right], scores[right], docs[smallest], scores[smallest])) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int doc = docs[i];
+            float score = scores[i];
+            docs[i] = docs[j];
+            scores[i] = scores[j];
+            docs[j] = doc;
+            scores[j] = score;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.projuris.gamescatalog.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de texto para o índice de busca
+ * Converte para minúsculas, remove acentos (ação -> acao) e quebra o texto em
+ * termos alfanuméricos, descartando stopwords do português.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "o", "as", "os", "e", "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos",
+            "um", "uma", "uns", "umas", "por", "para", "com", "que", "se", "ao", "aos", "the", "of");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Remove acentos e converte para minúsculas
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Forma normalizada para comparação por prefixo: sem acentos, minúsculas e
+     * com qualquer sequência de pontuação/espaços reduzida a um espaço
+     * ("Spider-Man: Miles" -> "spider man miles")
+     */
+    public static String normalizeKey(String text) {
+        return NON_ALPHANUMERIC.matcher(fold(text)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Termos indexáveis do texto (na ordem em que aparecem, com repetições)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_ALPHANUMERIC.split(fold(text))) {
+            if (!token.isEmpty() && !STOPWORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
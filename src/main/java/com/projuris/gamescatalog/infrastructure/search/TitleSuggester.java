@@ -0,0 +1,235 @@
+package com.projuris.gamescatalog.infrastructure.search;
+
+import com.projuris.gamescatalog.application.dto.GameSuggestionDTO;
+import com.projuris.gamescatalog.application.port.GameSuggestPort;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.projection.CatalogProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Autocomplete de títulos em memória
+ * Os títulos normalizados ficam em um ConcurrentSkipListMap (chave = título
+ * normalizado + separador + ID), então uma consulta por prefixo é um intervalo
+ * do mapa ordenado e as leituras não usam lock. O top-k de cada prefixo
+ * consultado é memorizado e invalidado quando um título que começa com o
+ * prefixo é criado, alterado ou removido.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TitleSuggester implements CatalogProjection, GameSuggestPort {
+
+    private static final char KEY_SEPARATOR = '\0';
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong((Suggestion suggestion) -> suggestion.score).reversed()
+            .thenComparing(suggestion -> suggestion.key);
+
+    private final ApplicationProperties applicationProperties;
+
+    private final ConcurrentSkipListMap<String, Suggestion> suggestions = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> keysById = new ConcurrentHashMap<>();
+    private final Map<String, List<Suggestion>> topByPrefix = new ConcurrentHashMap<>();
+    // Incrementado a cada escrita; impede memorizar um top-k calculado durante uma alteração
+    private final AtomicLong version = new AtomicLong();
+    private final Object writeLock = new Object();
+
+    private volatile boolean ready;
+
+    private ApplicationProperties.Suggest properties() {
+        return applicationProperties.getSuggest();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return ready && properties().isEnabled();
+    }
+
+    // ---------------------------------------------------------------------
+    // CatalogProjection
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void onRebuildStarted() {
+        ready = false;
+        synchronized (writeLock) {
+            suggestions.clear();
+            keysById.clear();
+            topByPrefix.clear();
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onRebuildCompleted() {
+        if (!properties().isEnabled()) {
+            log.info("TitleSuggester - Autocomplete desabilitado, sugestões serão atendidas pelo banco");
+            return;
+        }
+        ready = true;
+        log.info("TitleSuggester - Autocomplete pronto: {} títulos, ranking={}", suggestions.size(),
+                properties().getRanking());
+    }
+
+    @Override
+    public void onUpsert(Game game) {
+        if (!properties().isEnabled()) {
+            return;
+        }
+        String title = TextNormalizer.normalizeKey(game.getTitle());
+        String key = title + KEY_SEPARATOR + game.getId();
+        Suggestion suggestion = new Suggestion(key, game.getId(), game.getTitle(), game.getGenre(),
+                game.getReleaseYear(), score(game));
+
+        synchronized (writeLock) {
+            String previous = keysById.put(game.getId(), key);
+            if (previous != null && !previous.equals(key)) {
+                suggestions.remove(previous);
+            }
+            suggestions.put(key, suggestion);
+            version.incrementAndGet();
+            if (previous != null) {
+                invalidatePrefixes(titleOf(previous));
+            }
+            invalidatePrefixes(title);
+        }
+    }
+
+    @Override
+    public void onDelete(Long gameId) {
+        if (!properties().isEnabled()) {
+            return;
+        }
+        synchronized (writeLock) {
+            String previous = keysById.remove(gameId);
+            if (previous == null) {
+                return;
+            }
+            suggestions.remove(previous);
+            version.incrementAndGet();
+            invalidatePrefixes(titleOf(previous));
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // GameSuggestPort
+    // ---------------------------------------------------------------------
+
+    @Override
+    public List<GameSuggestionDTO> suggest(String prefix, int limit) {
+        String normalized = TextNormalizer.normalizeKey(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        List<Suggestion> top = topByPrefix.get(normalized);
+        if (top == null) {
+            long before = version.get();
+            top = computeTop(normalized);
+            // Verificação e put sob o lock de escrita: uma escrita entre as duas já teria invalidado o prefixo
+            synchronized (writeLock) {
+                if (version.get() == before) {
+                    if (topByPrefix.size() >= properties().getMaxCachedPrefixes()) {
+                        topByPrefix.clear();
+                    }
+                    topByPrefix.put(normalized, top);
+                }
+            }
+        }
+
+        int size = Math.min(limit, top.size());
+        List<GameSuggestionDTO> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Suggestion suggestion = top.get(i);
+            result.add(new GameSuggestionDTO(suggestion.id, suggestion.title, suggestion.genre,
+                    suggestion.releaseYear));
+        }
+        return result;
+    }
+
+    // ---------------------------------------------------------------------
+    // Internos
+    // ---------------------------------------------------------------------
+
+    /**
+     * Top MAX_LIMIT sugestões do prefixo; com ranking alfabético a ordem do mapa
+     * já é a ordem final e a varredura para no limite
+     */
+    private List<Suggestion> computeTop(String prefix) {
+        ConcurrentNavigableMap<String, Suggestion> range = suggestions.subMap(prefix, true,
+                prefix + Character.MAX_VALUE, false);
+
+        if (properties().getRanking() == ApplicationProperties.SuggestRanking.TITLE) {
+            List<Suggestion> top = new ArrayList<>(MAX_LIMIT);
+            for (Suggestion suggestion : range.values()) {
+                top.add(suggestion);
+                if (top.size() == MAX_LIMIT) {
+                    break;
+                }
+            }
+            return top;
+        }
+
+        PriorityQueue<Suggestion> heap = new PriorityQueue<>(MAX_LIMIT + 1, RANKING.reversed());
+        for (Suggestion suggestion : range.values()) {
+            heap.offer(suggestion);
+            if (heap.size() > MAX_LIMIT) {
+                heap.poll();
+            }
+        }
+        List<Suggestion> top = new ArrayList<>(heap);
+        top.sort(RANKING);
+        return top;
+    }
+
+    private void invalidatePrefixes(String title) {
+        for (int length = 1; length <= title.length(); length++) {
+            topByPrefix.remove(title.substring(0, length));
+        }
+    }
+
+    private long score(Game game) {
+        return switch (properties().getRanking()) {
+            case RELEASE_YEAR -> game.getReleaseYear() != null ? game.getReleaseYear() : 0;
+            case LAST_UPDATED -> game.getUpdatedAt() != null ? game.getUpdatedAt().toEpochSecond(ZoneOffset.UTC) : 0;
+            case TITLE -> 0;
+        };
+    }
+
+    private static String titleOf(String key) {
+        return key.substring(0, key.lastIndexOf(KEY_SEPARATOR));
+    }
+
+    private static final class Suggestion {
+
+        private final String key;
+        private final long id;
+        private final String title;
+        private final String genre;
+        private final Integer releaseYear;
+        private final long score;
+
+        private Suggestion(String key, long id, String title, String genre, Integer releaseYear, long score) {
+            this.key = key;
+            this.id = id;
+            this.title = title;
+            this.genre = genre;
+            this.releaseYear = releaseYear;
+            this.score = score;
+        }
+    }
+}
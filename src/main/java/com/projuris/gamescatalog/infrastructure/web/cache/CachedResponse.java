@@ -0,0 +1,31 @@
+package com.projuris.gamescatalog.infrastructure.web.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resposta JSON já serializada (UTF-8) e, quando compensa, também comprimida
+ * em gzip; updatedAt identifica a versão do game nas respostas de game único
+ */
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+
+    // Bytes estimados das referências e cabeçalhos dos arrays
+    private static final int OVERHEAD_BYTES = 64;
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final LocalDateTime updatedAt;
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    int weight() {
+        long bytes = OVERHEAD_BYTES + json.length + (gzip != null ? gzip.length : 0);
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+}
@@ -0,0 +1,332 @@
+package com.projuris.gamescatalog.infrastructure.web.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.projection.CatalogProjection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache das respostas HTTP já serializadas (JSON UTF-8 e gzip)
+ * Guarda os bytes das respostas de game único e das páginas de listagem, que
+ * num acerto são escritos direto no output stream sem passar pelo Jackson nem
+ * pelo compressor. O tamanho total é limitado por peso (bytes). A invalidação
+ * acontece após o commit, como projeção, antes da versão do catálogo avançar:
+ * cada game alterado é removido e as páginas são descartadas uma única vez por
+ * evento (um lote inteiro inclusive). As gerações impedem guardar uma resposta
+ * montada antes de uma invalidação: uma por faixa de IDs para os games, de
+ * modo que a escrita de um game não descarta a montagem dos demais, e uma
+ * única para as páginas.
+ */
+@Component
+@Slf4j
+public class ResponseBytesCache implements CatalogProjection {
+
+    public static final String GAMES_CACHE_NAME = "responseBytesGames";
+    public static final String PAGES_CACHE_NAME = "responseBytesPages";
+
+    private static final String GZIP = "gzip";
+    private static final int GAME_GENERATION_STRIPES = 1024;
+    private static final List<MediaType> JSON_TYPES =
+            List.of(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+
+    private final ApplicationProperties applicationProperties;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, CachedResponse> games;
+    private final Cache<String, CachedResponse> pages;
+    // Geração por faixa de IDs (id mod GAME_GENERATION_STRIPES), incrementada a cada invalidação de game da faixa
+    private final AtomicLongArray gameGenerations = new AtomicLongArray(GAME_GENERATION_STRIPES);
+    // Incrementada a cada invalidação das páginas
+    private final AtomicLong pageGeneration = new AtomicLong();
+    // Durante a reconstrução as escritas só são aplicadas no fim: nada é guardado até lá
+    private volatile boolean rebuilding;
+
+    public ResponseBytesCache(ApplicationProperties applicationProperties, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.applicationProperties = applicationProperties;
+        this.objectMapper = objectMapper;
+        ApplicationProperties.ResponseCache properties = applicationProperties.getResponseCache();
+        this.games = Caffeine.newBuilder()
+                .maximumWeight(properties.getGameMaxBytes())
+                .weigher((Long id, CachedResponse response) -> response.weight())
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(properties.getPageMaxBytes())
+                .weigher((String key, CachedResponse response) -> key.length() * 2 + response.weight())
+                .recordStats()
+                .build();
+        // Mesmas tags dos caches do Spring: o Prometheus exige o mesmo conjunto de tags por métrica
+        CaffeineCacheMetrics.monitor(meterRegistry, games, GAMES_CACHE_NAME, metricTags(GAMES_CACHE_NAME));
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, PAGES_CACHE_NAME, metricTags(PAGES_CACHE_NAME));
+    }
+
+    private static Tags metricTags(String name) {
+        return Tags.of("cache.manager", ResponseBytesCache.class.getSimpleName(), "name", name);
+    }
+
+    /**
+     * Caches Caffeine por nome, para inspeção (estatísticas e tamanho)
+     */
+    public Map<String, Cache<?, ?>> nativeCaches() {
+        return Map.of(GAMES_CACHE_NAME, games, PAGES_CACHE_NAME, pages);
+    }
+
+    public boolean isEnabled() {
+        return applicationProperties.getResponseCache().isEnabled();
+    }
+
+    /**
+     * Geração atual do game; deve ser lida antes de montar a resposta a ser guardada
+     */
+    public long gameGeneration(Long id) {
+        return gameGenerations.get(stripe(id));
+    }
+
+    /**
+     * Geração atual das páginas; deve ser lida antes de montar a página a ser guardada
+     */
+    public long pageGeneration() {
+        return pageGeneration.get();
+    }
+
+    public static String pageKey(String genre, int page, int size) {
+        return (genre != null ? genre : "") + '|' + page + '|' + size;
+    }
+
+    /**
+     * Resposta guardada do game; descartada se a versão esperada (quando
+     * conhecida) não for a versão guardada
+     */
+    public CachedResponse getGame(Long id, LocalDateTime expectedUpdatedAt) {
+        if (!isEnabled()) {
+            return null;
+        }
+        CachedResponse cached = games.getIfPresent(id);
+        if (cached != null && expectedUpdatedAt != null && !expectedUpdatedAt.equals(cached.getUpdatedAt())) {
+            games.invalidate(id);
+            return null;
+        }
+        return cached;
+    }
+
+    public CachedResponse getPage(String key) {
+        return isEnabled() ? pages.getIfPresent(key) : null;
+    }
+
+    /**
+     * Serializa o game e guarda os bytes se nenhuma invalidação do game ocorreu
+     * desde a geração informada; a resposta serializada é devolvida em ambos os casos
+     */
+    public CachedResponse putGame(GameResponseDTO game, long expectedGeneration) {
+        CachedResponse response = serialize(game, game.getUpdatedAt());
+        int stripe = stripe(game.getId());
+        if (!rebuilding && gameGenerations.get(stripe) == expectedGeneration) {
+            games.put(game.getId(), response);
+            // Invalidação entre a comparação e o put: desfaz o put
+            if (gameGenerations.get(stripe) != expectedGeneration) {
+                games.asMap().remove(game.getId(), response);
+            }
+        }
+        return response;
+    }
+
+    public CachedResponse putPage(String key, Object page, long expectedGeneration) {
+        CachedResponse response = serialize(page, null);
+        if (!rebuilding && pageGeneration.get() == expectedGeneration) {
+            pages.put(key, response);
+            if (pageGeneration.get() != expectedGeneration) {
+                pages.asMap().remove(key, response);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Escreve a resposta direto no output stream, em gzip quando o cliente
+     * aceita; o Content-Type é o tipo JSON negociado com o Accept da requisição
+     */
+    public void write(CachedResponse response, NativeWebRequest webRequest) {
+        HttpServletRequest servletRequest = Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class));
+        HttpServletResponse servletResponse = webRequest.getNativeResponse(HttpServletResponse.class);
+        boolean gzip = response.hasGzip() && acceptsGzip(servletRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = gzip ? response.getGzip() : response.getJson();
+
+        Objects.requireNonNull(servletResponse).setContentType(
+                negotiateContentType(servletRequest.getHeader(HttpHeaders.ACCEPT)).toString());
+        servletResponse.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            servletResponse.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        servletResponse.setContentLength(body.length);
+        try {
+            servletResponse.getOutputStream().write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Avalia o Accept-Encoding com os q-values: gzip (ou x-gzip) com q > 0, ou
+     * ausente e coberto por "*" com q > 0
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals(GZIP) || name.equals("x-" + GZIP)) {
+                gzipQuality = quality;
+            } else if (name.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+        return gzipQuality != null ? gzipQuality > 0 : anyQuality != null && anyQuality > 0;
+    }
+
+    /**
+     * Tipo de maior preferência no Accept compatível com os tipos JSON que o
+     * conversor do Jackson produz (application/json e application/*+json); um
+     * curinga resolve para application/json, que também é o padrão quando o
+     * Accept está ausente ou não é interpretável
+     */
+    static MediaType negotiateContentType(String accept) {
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        // Ordenação estável: a especificidade desempata q-values iguais
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() > 0 && JSON_TYPES.stream().anyMatch(type::isCompatibleWith)) {
+                return type.isConcrete() ? type.removeQualityValue() : MediaType.APPLICATION_JSON;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    public void invalidateGame(Long id) {
+        gameGenerations.incrementAndGet(stripe(id));
+        games.invalidate(id);
+    }
+
+    public void invalidatePages() {
+        pageGeneration.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    public void invalidateAll() {
+        for (int stripe = 0; stripe < GAME_GENERATION_STRIPES; stripe++) {
+            gameGenerations.incrementAndGet(stripe);
+        }
+        pageGeneration.incrementAndGet();
+        games.invalidateAll();
+        pages.invalidateAll();
+    }
+
+    // ---------------------------------------------------------------------
+    // CatalogProjection (invalidação após o commit)
+    // ---------------------------------------------------------------------
+
+    @Override
+    public void onUpsert(Game game) {
+        invalidateGame(game.getId());
+    }
+
+    @Override
+    public void onDelete(Long gameId) {
+        invalidateGame(gameId);
+    }
+
+    @Override
+    public void onChangesApplied() {
+        invalidatePages();
+    }
+
+    @Override
+    public void onRebuildStarted() {
+        rebuilding = true;
+        invalidateAll();
+    }
+
+    @Override
+    public void onRebuildCompleted() {
+        rebuilding = false;
+    }
+
+    // ---------------------------------------------------------------------
+    // Internos
+    // ---------------------------------------------------------------------
+
+    private static int stripe(Long id) {
+        return Math.floorMod(id, GAME_GENERATION_STRIPES);
+    }
+
+    private CachedResponse serialize(Object body, LocalDateTime updatedAt) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar resposta", e);
+        }
+        byte[] gzip = json.length >= applicationProperties.getResponseCache().getGzipMinBytes() ? gzip(json) : null;
+        return new CachedResponse(json, gzip, updatedAt);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
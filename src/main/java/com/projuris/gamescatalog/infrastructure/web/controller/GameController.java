@@ -1,9 +1,22 @@
 package com.projuris.gamescatalog.infrastructure.web.controller;
 
+import com.projuris.gamescatalog.application.dto.CursorPageResponseDTO;
+import com.projuris.gamescatalog.application.dto.FacetsDTO;
+import com.projuris.gamescatalog.application.dto.GameDeltaDTO;
 import com.projuris.gamescatalog.application.dto.GameRequestDTO;
 import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.dto.GameSuggestionDTO;
+import com.projuris.gamescatalog.application.dto.ImportReportDTO;
+import com.projuris.gamescatalog.application.dto.MerkleBucketDTO;
+import com.projuris.gamescatalog.application.dto.MerkleNodeDTO;
 import com.projuris.gamescatalog.application.dto.PageResponseDTO;
+import com.projuris.gamescatalog.application.port.GameSuggestPort;
 import com.projuris.gamescatalog.application.usecase.*;
+import com.projuris.gamescatalog.domain.model.GameFilter;
+import com.projuris.gamescatalog.infrastructure.changefeed.GameChangeFeed;
+import com.projuris.gamescatalog.infrastructure.projection.CatalogVersionTracker;
+import com.projuris.gamescatalog.infrastructure.web.cache.CachedResponse;
+import com.projuris.gamescatalog.infrastructure.web.cache.ResponseBytesCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,15 +24,37 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controller REST para gerenciamento de games
@@ -40,6 +75,22 @@ public class GameController {
     private final UpdateGameUseCase updateGameUseCase;
     private final DeleteGameUseCase deleteGameUseCase;
     private final ListGamesByGenreUseCase listGamesByGenreUseCase;
+    private final CreateGamesBatchUseCase createGamesBatchUseCase;
+    private final ExportGamesUseCase exportGamesUseCase;
+    private final ImportGamesUseCase importGamesUseCase;
+    private final SearchGamesUseCase searchGamesUseCase;
+    private final SuggestGamesUseCase suggestGamesUseCase;
+    private final GetFacetsUseCase getFacetsUseCase;
+    private final FilterGamesUseCase filterGamesUseCase;
+    private final GetCatalogDeltaUseCase getCatalogDeltaUseCase;
+    private final GetCatalogMerkleUseCase getCatalogMerkleUseCase;
+    private final CatalogVersionTracker catalogVersionTracker;
+    private final ResponseBytesCache responseBytesCache;
+    private final GameChangeFeed gameChangeFeed;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_BATCH_SIZE = 10000;
+    private static final int MAX_DELTA_SIZE = 1000;
 
     @Operation(summary = "Criar um novo game", description = "Cria um novo game no catálogo com os dados fornecidos")
     @ApiResponses(value = {
@@ -61,18 +112,225 @@ public class GameController {
         }
     }
 
+    @Operation(summary = "Criar games em lote", description = "Cria vários games em uma única transação, com inserts em lote. Máximo de " + MAX_BATCH_SIZE + " games por requisição")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Games criados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<GameResponseDTO>> createBatch(
+            @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE, message = "O lote deve ter entre 1 e " + MAX_BATCH_SIZE + " games") List<@Valid GameRequestDTO> requests) {
+        log.info("POST /api/games/batch - Criando lote de {} games", requests.size());
+        try {
+            List<GameResponseDTO> response = createGamesBatchUseCase.execute(requests);
+            log.info("POST /api/games/batch - Lote criado com sucesso: {} games", response.size());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (Exception e) {
+            log.error("POST /api/games/batch - Erro ao criar lote de {} games", requests.size(), e);
+            throw e;
+        }
+    }
+
+    @Operation(summary = "Importar games (NDJSON)", description = "Importa games a partir de um corpo NDJSON (um game por linha), lido em streaming e gravado em blocos. Retorna um relatório com os erros por linha")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação processada", content = @Content(schema = @Schema(implementation = ImportReportDTO.class)))
+    })
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportReportDTO> importGames(InputStream body) throws IOException {
+        log.info("POST /api/games/import - Iniciando importação NDJSON");
+        try {
+            ImportReportDTO report = importGamesUseCase.execute(body);
+            log.info("POST /api/games/import - Importação concluída: importados={}, falhas={}",
+                    report.getImported(), report.getFailed());
+            return ResponseEntity.ok(report);
+        } catch (Exception e) {
+            log.error("POST /api/games/import - Erro ao importar games", e);
+            throw e;
+        }
+    }
+
+    @Operation(summary = "Buscar games por texto", description = "Busca textual em título e descrição (sem diferenciar acentos e maiúsculas), ordenada por relevância (BM25)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Termo de busca ou paginação inválidos")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<PageResponseDTO<GameResponseDTO>> search(
+            @Parameter(description = "Termos de busca", required = true, example = "aventura") @RequestParam String q,
+            @Parameter(description = "Número da página (inicia em 0)", example = "0") @RequestParam(defaultValue = "0") @Min(value = 0, message = "Page deve ser maior ou igual a 0") int page,
+            @Parameter(description = "Tamanho da página (máximo 100)", example = "20") @RequestParam(defaultValue = "20") @Min(value = 1, message = "Size deve ser maior ou igual a 1") @Max(value = 100, message = "Size deve ser menor ou igual a 100") int size) {
+        log.info("GET /api/games/search - Buscando games: q={}, page={}, size={}", q, page, size);
+        try {
+            PageResponseDTO<GameResponseDTO> response = searchGamesUseCase.execute(q, page, size);
+            log.info("GET /api/games/search - Retornando {} games de {} encontrados", response.getContent().size(),
+                    response.getTotalElements());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("GET /api/games/search - Erro ao buscar games: q={}", q, e);
+            throw e;
+        }
+    }
+
+    @Operation(summary = "Sugerir títulos (autocomplete)", description = "Sugere games cujo título começa com o prefixo informado (sem diferenciar acentos e maiúsculas), ordenados pelo critério de popularidade configurado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugestões retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Prefixo ou limite inválidos")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<GameSuggestionDTO>> suggest(
+            @Parameter(description = "Prefixo do título", required = true, example = "the wit") @RequestParam String prefix,
+            @Parameter(description = "Quantidade máxima de sugestões (máximo " + GameSuggestPort.MAX_LIMIT + ")", example = "10") @RequestParam(defaultValue = "10") @Min(value = 1, message = "Limit deve ser maior ou igual a 1") @Max(value = GameSuggestPort.MAX_LIMIT, message = "Limit deve ser menor ou igual a " + GameSuggestPort.MAX_LIMIT) int limit) {
+        log.debug("GET /api/games/suggest - Sugerindo títulos: prefix={}, limit={}", prefix, limit);
+        try {
+            List<GameSuggestionDTO> response = suggestGamesUseCase.execute(prefix, limit);
+            log.debug("GET /api/games/suggest - Retornando {} sugestões", response.size());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("GET /api/games/suggest - Erro ao sugerir títulos: prefix={}", prefix, e);
+            throw e;
+        }
+    }
+
+    @Operation(summary = "Contar facetas", description = "Retorna as contagens por gênero, desenvolvedora, publicadora, ano de lançamento e faixa de preço dos games que atendem aos filtros")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Facetas calculadas com sucesso", content = @Content(schema = @Schema(implementation = FacetsDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Filtros inválidos")
+    })
+    @GetMapping("/facets")
+    public ResponseEntity<FacetsDTO> facets(
+            @Parameter(description = "Filtro por gênero do game") @RequestParam(required = false) String genre,
+            @Parameter(description = "Filtro por desenvolvedora") @RequestParam(required = false) String developer,
+            @Parameter(description = "Ano de lançamento mínimo (inclusivo)", example = "2015") @RequestParam(required = false) Integer yearFrom,
+            @Parameter(description = "Ano de lançamento máximo (inclusivo)", example = "2020") @RequestParam(required = false) Integer yearTo) {
+        GameFilter filter = new GameFilter(genre, developer, null, yearFrom, yearTo, null, null);
+        log.debug("GET /api/games/facets - Contando facetas: filter={}", filter);
+        try {
+            FacetsDTO response = getFacetsUseCase.execute(filter);
+            log.debug("GET /api/games/facets - Facetas calculadas: total={}", response.getTotal());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("GET /api/games/facets - Erro ao contar facetas: filter={}", filter, e);
+            throw e;
+        }
+    }
+
+    @Operation(summary = "Sincronização incremental", description = "Retorna, em ordem de versão do catálogo, os games criados ou atualizados e os IDs deletados (tombstones) depois da versão informada. Continue com since=nextSince enquanto hasMore for true; resyncRequired indica que a versão está fora da janela de retenção e o catálogo deve ser recarregado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Delta calculado com sucesso", content = @Content(schema = @Schema(implementation = GameDeltaDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Versão ou tamanho de página inválidos")
+    })
+    @GetMapping("/delta")
+    public ResponseEntity<GameDeltaDTO> delta(
+            @Parameter(description = "Versão do catálogo já sincronizada (0 para tudo)", required = true, example = "0") @RequestParam @Min(value = 0, message = "Since deve ser maior ou igual a 0") long since,
+            @Parameter(description = "Mudanças por página (máximo " + MAX_DELTA_SIZE + ")", example = "500") @RequestParam(defaultValue = "500") @Min(value = 1, message = "Size deve ser maior ou igual a 1") @Max(value = MAX_DELTA_SIZE, message = "Size deve ser menor ou igual a " + MAX_DELTA_SIZE) int size) {
+        log.debug("GET /api/games/delta - Calculando delta: since={}, size={}", since, size);
+        try {
+            GameDeltaDTO response = getCatalogDeltaUseCase.execute(since, size);
+            log.debug("GET /api/games/delta - Retornando {} alterados e {} deletados, nextSince={}",
+                    response.getChanged().size(), response.getDeleted().size(), response.getNextSince());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("GET /api/games/delta - Erro ao calcular delta: since={}", since, e);
+            throw e;
+        }
+    }
+
+    @Operation(summary = "Raiz da árvore de Merkle", description = "Retorna a raiz da árvore de Merkle do catálogo (games agrupados em buckets por faixa de ID) com os hashes dos filhos. Uma réplica com a mesma raiz tem o mesmo conteúdo; caso contrário desce pelos nós com hash divergente até os buckets")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Raiz calculada com sucesso", content = @Content(schema = @Schema(implementation = MerkleNodeDTO.class)))
+    })
+    @GetMapping("/merkle")
+    public ResponseEntity<MerkleNodeDTO> merkleRoot() {
+        return merkleNode(0, 0);
+    }
+
+    @Operation(summary = "Nó da árvore de Merkle", description = "Retorna o hash de um nó (nível 0 = raiz, nível depth = buckets), a faixa de IDs coberta e os hashes dos filhos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Nó calculado com sucesso", content = @Content(schema = @Schema(implementation = MerkleNodeDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Nível ou índice fora da árvore")
+    })
+    @GetMapping("/merkle/nodes/{level}/{index}")
+    public ResponseEntity<MerkleNodeDTO> merkleNode(
+            @Parameter(description = "Nível do nó (0 = raiz)", required = true, example = "1") @PathVariable int level,
+            @Parameter(description = "Índice do nó no nível", required = true, example = "0") @PathVariable long index) {
+        log.debug("GET /api/games/merkle/nodes/{}/{} - Consultando nó", level, index);
+        MerkleNodeDTO response = getCatalogMerkleUseCase.node(level, index);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Bucket da árvore de Merkle", description = "Retorna o hash de conteúdo de cada game da faixa de IDs do bucket, para buscar apenas os games divergentes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bucket calculado com sucesso", content = @Content(schema = @Schema(implementation = MerkleBucketDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bucket inválido")
+    })
+    @GetMapping("/merkle/buckets/{bucket}")
+    public ResponseEntity<MerkleBucketDTO> merkleBucket(
+            @Parameter(description = "Índice do bucket (ID / bucketSize)", required = true, example = "0") @PathVariable @Min(value = 0, message = "Bucket deve ser maior ou igual a 0") long bucket) {
+        log.debug("GET /api/games/merkle/buckets/{} - Consultando bucket", bucket);
+        MerkleBucketDTO response = getCatalogMerkleUseCase.bucket(bucket);
+        log.debug("GET /api/games/merkle/buckets/{} - Retornando {} games", bucket, response.getEntries().size());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Stream de mudanças do catálogo", description = "Server-Sent Events com as criações, atualizações e deleções confirmadas. O id de cada evento é '<epoch>-<sequência>', com sequência monotônica na instância; ao reconectar com Last-Event-ID as mudanças posteriores ainda em memória são reenviadas. Um evento 'reset' indica que o id informado não está mais disponível (ou é de antes de um reinício) e o catálogo deve ser recarregado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream aberto")
+    })
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(
+            @Parameter(description = "Id do último evento recebido, para retomar o stream") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("GET /api/games/changes/stream - Abrindo stream de mudanças: lastEventId={}", lastEventId);
+        return gameChangeFeed.subscribe(lastEventId);
+    }
+
     @Operation(summary = "Buscar game por ID", description = "Retorna um game específico baseado no ID fornecido")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Game encontrado", content = @Content(schema = @Schema(implementation = GameResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Game não modificado desde a versão informada em If-None-Match/If-Modified-Since"),
             @ApiResponse(responseCode = "404", description = "Game não encontrado")
     })
     @GetMapping("/{id}")
     public ResponseEntity<GameResponseDTO> getById(
-            @Parameter(description = "ID do game a ser buscado", required = true) @PathVariable Long id) {
+            @Parameter(description = "ID do game a ser buscado", required = true) @PathVariable Long id,
+            NativeWebRequest webRequest) {
         log.info("GET /api/games/{} - Buscando game por ID", id);
         try {
+            // Com o modelo de leitura disponível o 304 é respondido sem executar o use case
+            Optional<LocalDateTime> knownUpdatedAt = catalogVersionTracker.findUpdatedAt(id);
+            if (knownUpdatedAt.isPresent() && isNotModified(webRequest, id, knownUpdatedAt.get())) {
+                log.debug("GET /api/games/{} - Não modificado", id);
+                return null;
+            }
+            CachedResponse cached = responseBytesCache.getGame(id, knownUpdatedAt.orElse(null));
+            if (cached != null) {
+                if (knownUpdatedAt.isEmpty() && isNotModified(webRequest, id, cached.getUpdatedAt())) {
+                    log.debug("GET /api/games/{} - Não modificado", id);
+                    return null;
+                }
+                log.debug("GET /api/games/{} - Resposta servida do cache de bytes", id);
+                responseBytesCache.write(cached, webRequest);
+                return null;
+            }
+            long generation = responseBytesCache.gameGeneration(id);
             GameResponseDTO response = getGameUseCase.execute(id);
+            if (knownUpdatedAt.isEmpty() && isNotModified(webRequest, id, response.getUpdatedAt())) {
+                log.debug("GET /api/games/{} - Não modificado", id);
+                return null;
+            }
+            if (knownUpdatedAt.isPresent() && !knownUpdatedAt.get().equals(response.getUpdatedAt())) {
+                // gameById em versão diferente da do modelo de leitura: recarrega do repositório
+                log.debug("GET /api/games/{} - Cache divergente do modelo de leitura, recarregando", id);
+                response = getGameUseCase.reload(id);
+                if (!knownUpdatedAt.get().equals(response.getUpdatedAt())) {
+                    // Modelo de leitura ainda sem a última escrita: os validadores seguem o corpo servido
+                    writeValidators(webRequest, id, response.getUpdatedAt());
+                }
+            }
             log.debug("GET /api/games/{} - Game encontrado: title={}", id, response.getTitle());
+            if (responseBytesCache.isEnabled()) {
+                responseBytesCache.write(responseBytesCache.putGame(response, generation), webRequest);
+                return null;
+            }
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("GET /api/games/{} - Erro ao buscar game", id, e);
@@ -80,33 +338,142 @@ public class GameController {
         }
     }
 
-    @Operation(summary = "Listar games", description = "Lista games com paginação. Pode ser filtrado por gênero através do parâmetro 'genre'")
+    @Operation(summary = "Listar games", description = "Lista games com paginação. Pode ser filtrado por gênero, desenvolvedora, publicadora, intervalo de anos e de preço; combinações sem critério indexado (genre, developer ou intervalo de anos limitado) são rejeitadas")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de games retornada com sucesso", content = @Content(schema = @Schema(implementation = PageResponseDTO.class)))
+            @ApiResponse(responseCode = "200", description = "Lista de games retornada com sucesso", content = @Content(schema = @Schema(implementation = PageResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Catálogo não modificado desde a versão informada em If-None-Match/If-Modified-Since"),
+            @ApiResponse(responseCode = "400", description = "Filtro inválido ou que exigiria varredura completa")
     })
     @GetMapping
     public ResponseEntity<PageResponseDTO<GameResponseDTO>> listAll(
             @Parameter(description = "Filtro por gênero do game") @RequestParam(required = false) String genre,
+            @Parameter(description = "Filtro por desenvolvedora") @RequestParam(required = false) String developer,
+            @Parameter(description = "Filtro por publicadora (exige genre, developer ou intervalo de anos)") @RequestParam(required = false) String publisher,
+            @Parameter(description = "Ano de lançamento mínimo (inclusivo)", example = "2015") @RequestParam(required = false) Integer yearFrom,
+            @Parameter(description = "Ano de lançamento máximo (inclusivo)", example = "2020") @RequestParam(required = false) Integer yearTo,
+            @Parameter(description = "Preço mínimo (inclusivo; exige genre, developer ou intervalo de anos)", example = "50.0") @RequestParam(required = false) @Min(value = 0, message = "priceMin deve ser maior ou igual a 0") Double priceMin,
+            @Parameter(description = "Preço máximo (inclusivo; exige genre, developer ou intervalo de anos)", example = "150.0") @RequestParam(required = false) @Min(value = 0, message = "priceMax deve ser maior ou igual a 0") Double priceMax,
             @Parameter(description = "Número da página (inicia em 0)", example = "0") @RequestParam(defaultValue = "0") @Min(value = 0, message = "Page deve ser maior ou igual a 0") int page,
-            @Parameter(description = "Tamanho da página (máximo 100)", example = "20") @RequestParam(defaultValue = "20") @Min(value = 1, message = "Size deve ser maior ou igual a 1") @Max(value = 100, message = "Size deve ser menor ou igual a 100") int size) {
+            @Parameter(description = "Tamanho da página (máximo 100)", example = "20") @RequestParam(defaultValue = "20") @Min(value = 1, message = "Size deve ser maior ou igual a 1") @Max(value = 100, message = "Size deve ser menor ou igual a 100") int size,
+            NativeWebRequest webRequest) {
+        if (isListNotModified(webRequest)) {
+            log.debug("GET /api/games - Catálogo não modificado");
+            return null;
+        }
+        GameFilter filter = new GameFilter(blankToNull(genre), blankToNull(developer), blankToNull(publisher),
+                yearFrom, yearTo, priceMin, priceMax);
         try {
-            if (genre != null && !genre.isEmpty()) {
-                PageResponseDTO<GameResponseDTO> response = listGamesByGenreUseCase.execute(genre, page, size);
+            if (filter.getDeveloper() != null || filter.getPublisher() != null || filter.hasYearRange()
+                    || filter.hasPriceRange()) {
+                PageResponseDTO<GameResponseDTO> response = filterGamesUseCase.execute(filter, page, size);
+                log.info("GET /api/games - Filtro {} page={} size={} - Encontrados {} games na página", filter, page,
+                        size, response.getContent().size());
+                return ResponseEntity.ok(response);
+            }
+
+            String cacheKey = ResponseBytesCache.pageKey(filter.getGenre(), page, size);
+            CachedResponse cached = responseBytesCache.getPage(cacheKey);
+            if (cached != null) {
+                log.debug("GET /api/games?genre={}&page={}&size={} - Página servida do cache de bytes", genre, page,
+                        size);
+                responseBytesCache.write(cached, webRequest);
+                return null;
+            }
+            long generation = responseBytesCache.pageGeneration();
+            PageResponseDTO<GameResponseDTO> response;
+            if (filter.getGenre() != null) {
+                response = listGamesByGenreUseCase.execute(genre, page, size);
                 log.info("GET /api/games?genre={}&page={}&size={} - Encontrados {} games na página",
                         genre, page, size, response.getContent().size());
-                return ResponseEntity.ok(response);
             } else {
-                PageResponseDTO<GameResponseDTO> response = listGamesUseCase.execute(page, size);
+                response = listGamesUseCase.execute(page, size);
                 log.info("GET /api/games?page={}&size={} - Encontrados {} games na página",
                         page, size, response.getContent().size());
-                return ResponseEntity.ok(response);
             }
+            if (responseBytesCache.isEnabled()) {
+                responseBytesCache.write(responseBytesCache.putPage(cacheKey, response, generation), webRequest);
+                return null;
+            }
+            return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("GET /api/games - Erro ao listar games", e);
             throw e;
         }
     }
 
+    @Operation(summary = "Listar games por cursor", description = "Lista games com paginação por cursor (keyset). Use o 'nextCursor' da resposta no parâmetro 'after' para buscar a próxima página; 'after' vazio inicia a listagem")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de games retornada com sucesso", content = @Content(schema = @Schema(implementation = CursorPageResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Catálogo não modificado desde a versão informada em If-None-Match/If-Modified-Since"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPageResponseDTO<GameResponseDTO>> listAfter(
+            @Parameter(description = "Filtro por gênero do game") @RequestParam(required = false) String genre,
+            @Parameter(description = "Cursor opaco retornado em 'nextCursor' (vazio para a primeira página)") @RequestParam String after,
+            @Parameter(description = "Tamanho da página (máximo 100)", example = "20") @RequestParam(defaultValue = "20") @Min(value = 1, message = "Size deve ser maior ou igual a 1") @Max(value = 100, message = "Size deve ser menor ou igual a 100") int size,
+            @Parameter(description = "Inclui o total de elementos (executa COUNT)", example = "false") @RequestParam(defaultValue = "false") boolean withTotal,
+            NativeWebRequest webRequest) {
+        if (isListNotModified(webRequest)) {
+            log.debug("GET /api/games?after={} - Catálogo não modificado", after);
+            return null;
+        }
+        try {
+            CursorPageResponseDTO<GameResponseDTO> response = genre != null && !genre.isEmpty()
+                    ? listGamesByGenreUseCase.executeAfter(genre, after, size, withTotal)
+                    : listGamesUseCase.executeAfter(after, size, withTotal);
+            log.info("GET /api/games?genre={}&after={}&size={} - Encontrados {} games, hasNext={}",
+                    genre, after, size, response.getContent().size(), response.isHasNext());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("GET /api/games - Erro ao listar games por cursor: after={}", after, e);
+            throw e;
+        }
+    }
+
+    @Operation(summary = "Exportar catálogo", description = "Exporta todos os games em NDJSON (um JSON por linha) via streaming, com memória constante independente do tamanho do catálogo. Usa gzip quando o cliente envia 'Accept-Encoding: gzip'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE))
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Filtro por gênero do game") @RequestParam(required = false) String genre,
+            @Parameter(description = "Exporta apenas games alterados após esta data/hora (ISO-8601)", example = "2024-01-15T10:30:00") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String genreFilter = genre != null && !genre.isEmpty() ? genre : null;
+        boolean gzip = ResponseBytesCache.acceptsGzip(acceptEncoding);
+        log.info("GET /api/games/export - Exportando games: genre={}, updatedSince={}, gzip={}",
+                genreFilter, updatedSince, gzip);
+
+        // Sem flush a cada game; o buffer do gerador é descarregado pelo servlet
+        ObjectWriter writer = objectMapper.writerFor(GameResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                long exported = exportGamesUseCase.execute(genreFilter, updatedSince, game -> {
+                    try {
+                        writer.writeValue(generator, game);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                log.info("GET /api/games/export - Exportação concluída: {} games", exported);
+            } catch (UncheckedIOException e) {
+                log.warn("GET /api/games/export - Exportação interrompida: {}", e.getMessage());
+                throw e.getCause();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @Operation(summary = "Atualizar um game", description = "Atualiza os dados de um game existente baseado no ID fornecido")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Game atualizado com sucesso", content = @Content(schema = @Schema(implementation = GameResponseDTO.class))),
@@ -147,4 +514,33 @@ public class GameController {
             throw e;
         }
     }
+
+    /**
+     * Avalia If-None-Match/If-Modified-Since contra a versão do game; também
+     * escreve ETag e Last-Modified na resposta
+     */
+    private static boolean isNotModified(NativeWebRequest webRequest, Long id, LocalDateTime updatedAt) {
+        return webRequest.checkNotModified(CatalogVersionTracker.gameETag(id, updatedAt),
+                CatalogVersionTracker.lastModified(updatedAt));
+    }
+
+    /**
+     * Substitui ETag e Last-Modified já escritos por isNotModified
+     */
+    private static void writeValidators(NativeWebRequest webRequest, Long id, LocalDateTime updatedAt) {
+        HttpServletResponse servletResponse = Objects.requireNonNull(webRequest.getNativeResponse(HttpServletResponse.class));
+        servletResponse.setHeader(HttpHeaders.ETAG, CatalogVersionTracker.gameETag(id, updatedAt));
+        long lastModified = CatalogVersionTracker.lastModified(updatedAt);
+        if (lastModified >= 0) {
+            servletResponse.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+    }
+
+    private boolean isListNotModified(NativeWebRequest webRequest) {
+        return webRequest.checkNotModified(catalogVersionTracker.listETag(), catalogVersionTracker.getLastModified());
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
 }
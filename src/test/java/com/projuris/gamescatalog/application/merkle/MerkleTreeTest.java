@@ -0,0 +1,95 @@
+package com.projuris.gamescatalog.application.merkle;
+
+import com.projuris.gamescatalog.application.dto.MerkleNodeDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.domain.model.Game;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MerkleTreeTest {
+
+    @Test
+    void shouldMatchFullRebuildAfterIncrementalChanges() {
+        MerkleTree incremental = new MerkleTree(4, 2);
+        for (long id = 1; id <= 40; id++) {
+            incremental.upsert(game(id, "Game " + id, 10.0));
+        }
+        incremental.node(0, 0);
+        incremental.upsert(game(7L, "Game 7 editado", 10.0));
+        incremental.remove(12L);
+        for (long id = 21; id <= 40; id++) {
+            incremental.remove(id);
+        }
+
+        MerkleTree rebuilt = new MerkleTree(4, 2);
+        for (long id = 20; id >= 1; id--) {
+            if (id != 12) {
+                rebuilt.upsert(game(id, id == 7 ? "Game 7 editado" : "Game " + id, 10.0));
+            }
+        }
+
+        // A forma depende só do conteúdo: a remoção dos IDs altos reduz a profundidade
+        assertEquals(rebuilt.node(0, 0), incremental.node(0, 0));
+        assertEquals(3, incremental.node(0, 0).getDepth());
+        assertEquals(19, incremental.node(0, 0).getGameCount());
+        assertEquals(rebuilt.bucket(1), incremental.bucket(1));
+    }
+
+    @Test
+    void shouldChangeOnlyTheAncestorsOfTheChangedBucket() {
+        MerkleTree tree = new MerkleTree(4, 2);
+        for (long id = 0; id < 16; id++) {
+            tree.upsert(game(id, "Game " + id, 10.0));
+        }
+        MerkleNodeDTO rootBefore = tree.node(0, 0);
+        MerkleNodeDTO rightBefore = tree.node(1, 1);
+
+        tree.upsert(game(2L, "Game 2", 12.5));
+
+        MerkleNodeDTO rootAfter = tree.node(0, 0);
+        assertNotEquals(rootBefore.getHash(), rootAfter.getHash());
+        assertNotEquals(rootBefore.getChildren().get(0), rootAfter.getChildren().get(0));
+        assertEquals(rootBefore.getChildren().get(1), rootAfter.getChildren().get(1));
+        assertEquals(rightBefore, tree.node(1, 1));
+        assertEquals(0, tree.node(2, 0).getFirstId());
+        assertEquals(3, tree.node(2, 0).getLastId());
+        assertNull(tree.node(2, 0).getChildren());
+    }
+
+    @Test
+    void shouldIgnoreTimestampsAndPriceScaleInGameHash() {
+        Game game = game(1L, "Hades", 89.9);
+        Game same = Game.reconstruct(1L, "Hades", "Desc", "Dev", "Pub", "Action", 2020, 89.90,
+                LocalDateTime.now().minusDays(3), LocalDateTime.now());
+
+        assertEquals(MerkleTree.gameHash(game), MerkleTree.gameHash(same));
+        assertNotEquals(MerkleTree.gameHash(game), MerkleTree.gameHash(game(1L, "Hades", 89.91)));
+        assertNotEquals(MerkleTree.gameHash(game), MerkleTree.gameHash(game(2L, "Hades", 89.9)));
+    }
+
+    @Test
+    void shouldHashEmptyTreesDeterministicallyAndRejectNodesOutsideTheTree() {
+        MerkleTree empty = new MerkleTree(1024, 16);
+        MerkleTree emptied = new MerkleTree(1024, 16);
+        emptied.upsert(game(50_000L, "Game", 10.0));
+        emptied.remove(50_000L);
+
+        assertEquals(empty.node(0, 0), emptied.node(0, 0));
+        assertEquals(0, empty.bucket(3).getEntries().size());
+        assertThrows(InvalidRequestException.class, () -> empty.node(1, 0));
+        assertThrows(InvalidRequestException.class, () -> empty.node(0, 1));
+        assertThrows(InvalidRequestException.class, () -> empty.bucket(-1));
+        assertThrows(InvalidRequestException.class, () -> empty.bucket(Long.MAX_VALUE / 1024 + 1));
+    }
+
+    private static Game game(Long id, String title, Double price) {
+        return Game.reconstruct(id, title, "Desc", "Dev", "Pub", "Action", 2020, price,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
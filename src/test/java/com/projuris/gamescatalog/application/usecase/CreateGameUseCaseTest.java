@@ -5,6 +5,7 @@ import com.projuris.gamescatalog.application.dto.GameResponseDTO;
 import com.projuris.gamescatalog.application.mapper.GameMapper;
 import com.projuris.gamescatalog.domain.model.Game;
 import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.cache.GameByIdCacheWriter;
 import com.projuris.gamescatalog.infrastructure.events.DomainEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,9 @@ class CreateGameUseCaseTest {
     @Mock
     private DomainEventPublisher eventPublisher;
 
+    @Mock
+    private GameByIdCacheWriter gameByIdCacheWriter;
+
     @InjectMocks
     private CreateGameUseCase createGameUseCase;
 
@@ -90,5 +94,6 @@ class CreateGameUseCaseTest {
         verify(gameRepository, times(1)).save(any(Game.class));
         verify(gameMapper, times(1)).toResponseDTO(any(Game.class));
         verify(eventPublisher, times(1)).publishDomainEvents(any(Game.class));
+        verify(gameByIdCacheWriter, times(1)).putAfterCommit(gameResponseDTO);
     }
 }
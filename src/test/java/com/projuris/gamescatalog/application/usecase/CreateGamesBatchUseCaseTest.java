@@ -0,0 +1,72 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.GameRequestDTO;
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.events.DomainEventPublisher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateGamesBatchUseCaseTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameMapper gameMapper;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CreateGamesBatchUseCase createGamesBatchUseCase;
+
+    @Test
+    void shouldCreateGamesInSingleBatch() {
+        List<GameRequestDTO> requests = List.of(
+                new GameRequestDTO("Game 1", "Desc 1", "Dev 1", "Pub 1", "Action", 2020, 50.0),
+                new GameRequestDTO("Game 2", "Desc 2", "Dev 2", "Pub 2", "RPG", 2021, 60.0));
+
+        when(gameRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Game> games = invocation.getArgument(0);
+            List<Game> saved = new ArrayList<>();
+            long id = 1L;
+            for (Game game : games) {
+                saved.add(Game.reconstruct(id++, game.getTitle(), game.getDescription(), game.getDeveloper(),
+                        game.getPublisher(), game.getGenre(), game.getReleaseYear(), game.getPrice(),
+                        game.getCreatedAt(), game.getUpdatedAt()));
+            }
+            return saved;
+        });
+        when(gameMapper.toResponseDTO(any(Game.class))).thenAnswer(invocation -> {
+            Game game = invocation.getArgument(0);
+            return new GameResponseDTO(game.getId(), game.getTitle(), game.getDescription(), game.getDeveloper(),
+                    game.getPublisher(), game.getGenre(), game.getReleaseYear(), game.getPrice(),
+                    game.getCreatedAt(), game.getUpdatedAt());
+        });
+
+        List<GameResponseDTO> result = createGamesBatchUseCase.execute(requests);
+
+        assertEquals(2, result.size());
+        assertEquals(1L, result.get(0).getId());
+        assertEquals("Game 2", result.get(1).getTitle());
+
+        verify(gameRepository, times(1)).saveAll(anyList());
+        verify(gameRepository, never()).save(any());
+        verify(eventPublisher, times(1)).publishDomainEvents(anyCollection());
+        verify(eventPublisher, never()).publishDomainEvents(any(Game.class));
+    }
+}
@@ -59,6 +59,18 @@ class DeleteGameUseCaseTest {
         verify(eventPublisher, times(1)).publishDomainEvents(any(Game.class));
     }
 
+    @Test
+    void shouldPublishEventsOnlyAfterDeleting() {
+        Long gameId = 1L;
+        when(gameRepository.findById(gameId)).thenReturn(Optional.of(game));
+
+        deleteGameUseCase.execute(gameId);
+
+        var inOrder = inOrder(gameRepository, eventPublisher);
+        inOrder.verify(gameRepository).deleteById(gameId);
+        inOrder.verify(eventPublisher).publishDomainEvents(game);
+    }
+
     @Test
     void shouldThrowExceptionWhenGameNotFound() {
         Long gameId = 999L;
@@ -0,0 +1,86 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.dto.PageResponseDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.model.GameFilter;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FilterGamesUseCaseTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameMapper gameMapper;
+
+    @Spy
+    private ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    @InjectMocks
+    private FilterGamesUseCase filterGamesUseCase;
+
+    private GameFilter filter;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        filter = new GameFilter("RPG", null, null, 2015, 2020, 50.0, null);
+        game = Game.reconstruct(1L, "The Witcher 3", "RPG de mundo aberto", "CD Projekt RED", "CD Projekt", "RPG",
+                2015, 99.90, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    void shouldSkipCountWhenFirstPageIsNotFull() {
+        when(gameRepository.findByFilter(filter, 0, 20)).thenReturn(List.of(game));
+        when(gameMapper.toResponseDTO(game)).thenReturn(new GameResponseDTO());
+
+        PageResponseDTO<GameResponseDTO> result = filterGamesUseCase.execute(filter, 0, 20);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(1L, result.getTotalElements());
+        assertTrue(result.isLast());
+        verify(gameRepository, never()).countByFilter(any());
+    }
+
+    @Test
+    void shouldCountWhenPageIsFull() {
+        when(gameRepository.findByFilter(filter, 1, 1)).thenReturn(List.of(game));
+        when(gameRepository.countByFilter(filter)).thenReturn(3L);
+        when(gameMapper.toResponseDTO(game)).thenReturn(new GameResponseDTO());
+
+        PageResponseDTO<GameResponseDTO> result = filterGamesUseCase.execute(filter, 1, 1);
+
+        assertEquals(3L, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+        assertFalse(result.isLast());
+    }
+
+    @Test
+    void shouldRejectPagesBeyondMaxOffsetWithoutOverflow() {
+        applicationProperties.getFilter().setMaxOffset(100);
+
+        assertThrows(InvalidRequestException.class, () -> filterGamesUseCase.execute(filter, 6, 20));
+        // page * size estouraria int e ficaria negativo
+        assertThrows(InvalidRequestException.class,
+                () -> filterGamesUseCase.execute(filter, Integer.MAX_VALUE, 100));
+        verifyNoInteractions(gameRepository);
+    }
+}
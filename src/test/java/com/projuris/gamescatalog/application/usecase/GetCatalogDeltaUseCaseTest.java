@@ -0,0 +1,95 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.GameDeltaDTO;
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.application.port.GameDeltaPort;
+import com.projuris.gamescatalog.application.port.GameTombstone;
+import com.projuris.gamescatalog.application.port.VersionedGame;
+import com.projuris.gamescatalog.domain.model.Game;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCatalogDeltaUseCaseTest {
+
+    @Mock
+    private GameDeltaPort gameDeltaPort;
+
+    @Mock
+    private GameMapper gameMapper;
+
+    @InjectMocks
+    private GetCatalogDeltaUseCase getCatalogDeltaUseCase;
+
+    @Test
+    void shouldMergeChangesAndTombstonesInVersionOrderAndPaginate() {
+        when(gameDeltaPort.currentVersion()).thenReturn(20L);
+        when(gameDeltaPort.findGamesChangedAfter(10, 20, 4)).thenReturn(List.of(versioned(1L, 11), versioned(2L, 13),
+                versioned(3L, 15)));
+        when(gameDeltaPort.findTombstonesAfter(10, 20, 4)).thenReturn(List.of(tombstone(9L, 12),
+                tombstone(8L, 16)));
+        when(gameMapper.toResponseDTO(any(Game.class))).thenReturn(new GameResponseDTO());
+
+        GameDeltaDTO delta = getCatalogDeltaUseCase.execute(10, 3);
+
+        assertEquals(List.of(11L, 13L), delta.getChanged().stream().map(entry -> entry.getVersion()).toList());
+        assertEquals(List.of(9L), delta.getDeleted().stream().map(tombstone -> tombstone.getId()).toList());
+        assertTrue(delta.isHasMore());
+        assertEquals(13, delta.getNextSince());
+        assertEquals(20, delta.getCurrentVersion());
+        assertFalse(delta.isResyncRequired());
+    }
+
+    @Test
+    void shouldAdvanceToCurrentVersionWhenNothingIsLeft() {
+        when(gameDeltaPort.currentVersion()).thenReturn(20L);
+        when(gameDeltaPort.findGamesChangedAfter(10, 20, 101)).thenReturn(List.of(versioned(1L, 11)));
+        when(gameDeltaPort.findTombstonesAfter(10, 20, 101)).thenReturn(List.of());
+        when(gameMapper.toResponseDTO(any(Game.class))).thenReturn(new GameResponseDTO());
+
+        GameDeltaDTO delta = getCatalogDeltaUseCase.execute(10, 100);
+
+        assertEquals(1, delta.getChanged().size());
+        assertFalse(delta.isHasMore());
+        assertEquals(20, delta.getNextSince());
+    }
+
+    @Test
+    void shouldRequireResyncWhenTombstonesWerePurged() {
+        when(gameDeltaPort.currentVersion()).thenReturn(20L);
+        when(gameDeltaPort.purgedThroughVersion()).thenReturn(15L);
+
+        GameDeltaDTO delta = getCatalogDeltaUseCase.execute(10, 100);
+
+        assertTrue(delta.isResyncRequired());
+        assertTrue(delta.getChanged().isEmpty());
+        verify(gameDeltaPort, never()).findGamesChangedAfter(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void shouldRejectNegativeVersion() {
+        assertThrows(InvalidRequestException.class, () -> getCatalogDeltaUseCase.execute(-1, 100));
+    }
+
+    private static VersionedGame versioned(Long id, long version) {
+        Game game = Game.reconstruct(id, "Game " + id, "Descrição", "Dev", "Pub", "RPG", 2020, 10.0,
+                LocalDateTime.now(), LocalDateTime.now());
+        return new VersionedGame(game, version);
+    }
+
+    private static GameTombstone tombstone(Long id, long version) {
+        return new GameTombstone(id, version, LocalDateTime.now());
+    }
+}
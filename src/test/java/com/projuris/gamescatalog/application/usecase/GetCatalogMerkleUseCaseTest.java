@@ -0,0 +1,84 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.MerkleBucketDTO;
+import com.projuris.gamescatalog.application.dto.MerkleNodeDTO;
+import com.projuris.gamescatalog.application.merkle.MerkleTree;
+import com.projuris.gamescatalog.application.port.CatalogMerklePort;
+import com.projuris.gamescatalog.application.port.GameDeltaPort;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCatalogMerkleUseCaseTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private CatalogMerklePort catalogMerklePort;
+
+    @Mock
+    private GameDeltaPort gameDeltaPort;
+
+    @Test
+    void shouldReadFromMerkleIndexWhenAvailable() {
+        GetCatalogMerkleUseCase useCase = new GetCatalogMerkleUseCase(gameRepository, catalogMerklePort,
+                new ApplicationProperties(), gameDeltaPort);
+        MerkleNodeDTO root = new MerkleNodeDTO(MerkleTree.ALGORITHM, 1024, 16, 0, 0, 0, "abc", 0, 1023, 1, null);
+        when(catalogMerklePort.isAvailable()).thenReturn(true);
+        when(catalogMerklePort.node(0, 0)).thenReturn(root);
+
+        assertEquals(root, useCase.node(0, 0));
+        verify(gameRepository, never()).streamAll(any(), any(), any());
+    }
+
+    @Test
+    void shouldBuildTreeFromRepositoryWhenIndexIsUnavailable() {
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getMerkle().setBucketSize(2);
+        properties.getMerkle().setFanOut(2);
+        GetCatalogMerkleUseCase useCase = new GetCatalogMerkleUseCase(gameRepository, catalogMerklePort, properties,
+                gameDeltaPort);
+        List<Game> games = List.of(
+                Game.reconstruct(1L, "Hades", "Roguelike", "Supergiant", "Supergiant", "Action", 2020, 89.90,
+                        LocalDateTime.now(), LocalDateTime.now()),
+                Game.reconstruct(5L, "Doom", "FPS", "id Software", "Bethesda", "Action", 2016, 59.90,
+                        LocalDateTime.now(), LocalDateTime.now()));
+        when(catalogMerklePort.isAvailable()).thenReturn(false);
+        when(gameDeltaPort.currentVersion()).thenReturn(7L, 7L, 8L);
+        when(gameRepository.streamAll(isNull(), isNull(), any())).thenAnswer(invocation -> {
+            Consumer<Game> consumer = invocation.getArgument(2);
+            games.forEach(consumer);
+            return (long) games.size();
+        });
+
+        MerkleNodeDTO root = useCase.node(0, 0);
+        MerkleBucketDTO bucket = useCase.bucket(2);
+
+        assertEquals(2, root.getDepth());
+        assertEquals(2, root.getGameCount());
+        assertEquals(1, bucket.getEntries().size());
+        assertEquals(5L, bucket.getEntries().get(0).getId());
+        assertEquals(4, bucket.getFirstId());
+        // Mesma versão do catálogo: a descida reutiliza a árvore montada
+        verify(gameRepository, times(1)).streamAll(isNull(), isNull(), any());
+
+        useCase.node(0, 0);
+        verify(gameRepository, times(2)).streamAll(isNull(), isNull(), any());
+        verify(catalogMerklePort, never()).node(anyInt(), anyLong());
+    }
+}
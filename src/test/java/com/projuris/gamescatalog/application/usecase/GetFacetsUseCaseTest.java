@@ -0,0 +1,73 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.FacetsDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.application.port.GameFacetPort;
+import com.projuris.gamescatalog.domain.model.GameAttribute;
+import com.projuris.gamescatalog.domain.model.GameFilter;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetFacetsUseCaseTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameFacetPort gameFacetPort;
+
+    @InjectMocks
+    private GetFacetsUseCase getFacetsUseCase;
+
+    @Test
+    void shouldCountFromFacetIndexWhenAvailable() {
+        GameFilter filter = new GameFilter("RPG", null, null, null, null, null, null);
+        FacetsDTO facets = new FacetsDTO(1, Map.of("RPG", 1L), Map.of(), Map.of(), Map.of(), Map.of());
+        when(gameFacetPort.isAvailable()).thenReturn(true);
+        when(gameFacetPort.count(filter)).thenReturn(facets);
+
+        assertEquals(facets, getFacetsUseCase.execute(filter));
+        verify(gameRepository, never()).streamAll(any(), any(), any());
+    }
+
+    @Test
+    void shouldCountWithGroupedRepositoryQueriesWhenIndexIsUnavailable() {
+        GameFilter filter = new GameFilter("Action", null, null, 2015, null, null, null);
+        when(gameFacetPort.isAvailable()).thenReturn(false);
+        when(gameRepository.countMatching(filter)).thenReturn(2L);
+        when(gameRepository.countMatchingGroupedBy(filter, GameAttribute.GENRE)).thenReturn(Map.of("Action", 2L));
+        when(gameRepository.countMatchingGroupedBy(filter, GameAttribute.DEVELOPER))
+                .thenReturn(Map.of("Supergiant", 1L, "id Software", 1L));
+        when(gameRepository.countMatchingGroupedBy(filter, GameAttribute.PUBLISHER))
+                .thenReturn(Map.of("Supergiant", 1L, "Bethesda", 1L));
+        when(gameRepository.countMatchingGroupedByReleaseYear(filter)).thenReturn(Map.of(2020, 1L, 2016, 1L));
+        when(gameRepository.countMatchingGroupedByPriceRange(eq(filter), any())).thenReturn(Map.of(1, 2L));
+
+        FacetsDTO result = getFacetsUseCase.execute(filter);
+
+        assertEquals(2, result.getTotal());
+        assertEquals(Map.of("Supergiant", 1L, "id Software", 1L), result.getDevelopers());
+        assertEquals(Map.of(2016, 1L, 2020, 1L), result.getReleaseYears());
+        assertEquals(Map.of("50-100", 2L), result.getPriceRanges());
+        verify(gameRepository, never()).streamAll(any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectInvertedYearRange() {
+        assertThrows(InvalidRequestException.class,
+                () -> getFacetsUseCase.execute(new GameFilter(null, null, null, 2020, 2010, null, null)));
+
+        verifyNoInteractions(gameRepository, gameFacetPort);
+    }
+}
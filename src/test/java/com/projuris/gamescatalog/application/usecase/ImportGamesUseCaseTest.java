@@ -0,0 +1,97 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projuris.gamescatalog.application.dto.GameRequestDTO;
+import com.projuris.gamescatalog.application.dto.ImportReportDTO;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportGamesUseCaseTest {
+
+    @Mock
+    private CreateGamesBatchUseCase createGamesBatchUseCase;
+
+    private ImportGamesUseCase importGamesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getBulkImport().setChunkSize(2);
+        importGamesUseCase = new ImportGamesUseCase(createGamesBatchUseCase, new ObjectMapper(), validator,
+                properties);
+    }
+
+    @Test
+    void shouldImportValidLinesInChunksAndReportErrors() throws Exception {
+        String body = String.join("\n",
+                game("Game 1"),
+                game("Game 2"),
+                "{ json quebrado",
+                game(""),
+                "",
+                game("Game 3"));
+
+        ImportReportDTO report = importGamesUseCase.execute(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(5, report.getTotalLines());
+        assertEquals(3, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(3L, report.getErrors().get(0).getLine());
+        assertEquals(4L, report.getErrors().get(1).getLine());
+        assertFalse(report.isErrorsTruncated());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GameRequestDTO>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(createGamesBatchUseCase, times(2)).execute(chunks.capture());
+    }
+
+    @Test
+    void shouldReportWholeChunkWhenCommitFails() throws Exception {
+        when(createGamesBatchUseCase.execute(anyList())).thenThrow(new IllegalStateException("falha no banco"));
+
+        ImportReportDTO report = importGamesUseCase.execute(new ByteArrayInputStream(
+                (game("Game 1") + "\n" + game("Game 2")).getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(0, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(2, report.getErrors().size());
+    }
+
+    @Test
+    void shouldReportOversizedLineWithoutLosingFollowingLines() throws Exception {
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getBulkImport().setMaxLineLength(200);
+        ImportGamesUseCase useCase = new ImportGamesUseCase(createGamesBatchUseCase, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), properties);
+        String body = game("Game 1") + "\r\n" + game("x".repeat(10_000)) + "\r\n" + game("Game 2") + "\n";
+
+        ImportReportDTO report = useCase.execute(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, report.getTotalLines());
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getFailed());
+        assertEquals(2L, report.getErrors().get(0).getLine());
+        assertTrue(report.getErrors().get(0).getMessages().get(0).contains("200"));
+    }
+
+    private String game(String title) {
+        return "{\"title\":\"" + title + "\",\"developer\":\"Dev\",\"genre\":\"RPG\",\"releaseYear\":2020,\"price\":50.0}";
+    }
+}
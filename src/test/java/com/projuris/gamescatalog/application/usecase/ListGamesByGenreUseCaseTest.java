@@ -1,7 +1,11 @@
 package com.projuris.gamescatalog.application.usecase;
 
+import com.projuris.gamescatalog.application.dto.CursorPageResponseDTO;
 import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.dto.PageResponseDTO;
 import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.application.pagination.PageCursor;
+import com.projuris.gamescatalog.application.port.GameQueryPort;
 import com.projuris.gamescatalog.domain.model.Game;
 import com.projuris.gamescatalog.domain.repository.GameRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +31,9 @@ class ListGamesByGenreUseCaseTest {
     @Mock
     private GameMapper gameMapper;
 
+    @Mock
+    private GameQueryPort gameQueryPort;
+
     @InjectMocks
     private ListGamesByGenreUseCase listGamesByGenreUseCase;
 
@@ -81,4 +88,37 @@ class ListGamesByGenreUseCaseTest {
         verify(gameRepository, times(1)).findByGenre(genre);
         verify(gameMapper, never()).toResponseDTO(any());
     }
+
+    @Test
+    void shouldListGamesByGenreWithCursor() {
+        String genre = "RPG";
+        when(gameRepository.findByGenreAfter(genre, 0L, 2)).thenReturn(rpgGames);
+        when(gameMapper.toResponseDTO(rpgGames.get(0))).thenReturn(rpgGameResponseDTOs.get(0));
+
+        CursorPageResponseDTO<GameResponseDTO> result = listGamesByGenreUseCase.executeAfter(genre, null, 1, false);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals("RPG", result.getContent().get(0).getGenre());
+        assertTrue(result.isHasNext());
+        assertEquals(PageCursor.encode(1L), result.getNextCursor());
+        assertNull(result.getTotalElements());
+
+        verify(gameRepository, never()).countByGenre(any());
+    }
+
+    @Test
+    void shouldServePageFromReadModelWhenAvailable() {
+        String genre = "RPG";
+        when(gameQueryPort.isAvailable()).thenReturn(true);
+        when(gameQueryPort.findByGenre(genre, 0, 10)).thenReturn(rpgGameResponseDTOs);
+        when(gameRepository.countByGenre(genre)).thenReturn(2L);
+
+        PageResponseDTO<GameResponseDTO> result = listGamesByGenreUseCase.execute(genre, 0, 10);
+
+        assertEquals(2, result.getContent().size());
+        assertEquals(2L, result.getTotalElements());
+
+        verify(gameRepository, never()).findByGenre(anyString(), anyInt(), anyInt());
+        verify(gameMapper, never()).toResponseDTO(any());
+    }
 }
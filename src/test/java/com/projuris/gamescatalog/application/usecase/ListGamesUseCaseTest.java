@@ -1,7 +1,11 @@
 package com.projuris.gamescatalog.application.usecase;
 
+import com.projuris.gamescatalog.application.dto.CursorPageResponseDTO;
 import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
 import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.application.pagination.PageCursor;
+import com.projuris.gamescatalog.application.port.GameQueryPort;
 import com.projuris.gamescatalog.domain.model.Game;
 import com.projuris.gamescatalog.domain.repository.GameRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +31,9 @@ class ListGamesUseCaseTest {
     @Mock
     private GameMapper gameMapper;
 
+    @Mock
+    private GameQueryPort gameQueryPort;
+
     @InjectMocks
     private ListGamesUseCase listGamesUseCase;
 
@@ -77,4 +84,56 @@ class ListGamesUseCaseTest {
         verify(gameRepository, times(1)).findAll();
         verify(gameMapper, never()).toResponseDTO(any());
     }
+
+    @Test
+    void shouldListFirstCursorPageWithoutCount() {
+        when(gameRepository.findAllAfter(0L, 2)).thenReturn(games);
+        when(gameMapper.toResponseDTO(games.get(0))).thenReturn(gameResponseDTOs.get(0));
+
+        CursorPageResponseDTO<GameResponseDTO> result = listGamesUseCase.executeAfter("", 1, false);
+
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(PageCursor.encode(1L), result.getNextCursor());
+        assertNull(result.getTotalElements());
+
+        verify(gameRepository, never()).count();
+    }
+
+    @Test
+    void shouldListLastCursorPageWithTotal() {
+        when(gameRepository.findAllAfter(1L, 21)).thenReturn(List.of(games.get(1)));
+        when(gameRepository.count()).thenReturn(2L);
+        when(gameMapper.toResponseDTO(games.get(1))).thenReturn(gameResponseDTOs.get(1));
+
+        CursorPageResponseDTO<GameResponseDTO> result = listGamesUseCase.executeAfter(PageCursor.encode(1L), 20,
+                true);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(2L, result.getTotalElements());
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() {
+        assertThrows(InvalidRequestException.class, () -> listGamesUseCase.executeAfter("invalido", 20, false));
+
+        verify(gameRepository, never()).findAllAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void shouldServeCursorPageFromReadModelWhenAvailable() {
+        when(gameQueryPort.isAvailable()).thenReturn(true);
+        when(gameQueryPort.findAllAfter(0L, 2)).thenReturn(gameResponseDTOs);
+
+        CursorPageResponseDTO<GameResponseDTO> result = listGamesUseCase.executeAfter(null, 1, false);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals("Game 1", result.getContent().get(0).getTitle());
+        assertTrue(result.isHasNext());
+
+        verify(gameRepository, never()).findAllAfter(anyLong(), anyInt());
+        verify(gameMapper, never()).toResponseDTO(any());
+    }
 }
@@ -0,0 +1,113 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.dto.PageResponseDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.application.port.GameSearchPort;
+import com.projuris.gamescatalog.application.port.SearchHits;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchGamesUseCaseTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameMapper gameMapper;
+
+    @Mock
+    private GameSearchPort gameSearchPort;
+
+    @InjectMocks
+    private SearchGamesUseCase searchGamesUseCase;
+
+    private Game hades;
+    private Game celeste;
+
+    @BeforeEach
+    void setUp() {
+        hades = Game.reconstruct(1L, "Hades", "Roguelike de ação", "Supergiant", "Supergiant", "Action", 2020,
+                89.90, LocalDateTime.now(), LocalDateTime.now());
+        celeste = Game.reconstruct(2L, "Celeste", "Plataforma de ação", "Maddy Makes Games", null, "Platformer",
+                2018, 36.99, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    void shouldKeepRelevanceOrderWhenSearchingIndex() {
+        when(gameSearchPort.isAvailable()).thenReturn(true);
+        when(gameSearchPort.search("acao", 0L, 20)).thenReturn(new SearchHits(List.of(2L, 1L), 2));
+        when(gameRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(hades, celeste));
+        when(gameMapper.toResponseDTO(any(Game.class))).thenAnswer(invocation -> {
+            Game game = invocation.getArgument(0);
+            GameResponseDTO dto = new GameResponseDTO();
+            dto.setId(game.getId());
+            dto.setTitle(game.getTitle());
+            return dto;
+        });
+
+        PageResponseDTO<GameResponseDTO> result = searchGamesUseCase.execute("acao", 0, 20);
+
+        assertEquals(2L, result.getTotalElements());
+        assertEquals("Celeste", result.getContent().get(0).getTitle());
+        assertEquals("Hades", result.getContent().get(1).getTitle());
+        verify(gameRepository, never()).searchByText(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void shouldFallBackToRepositoryWhenIndexIsUnavailable() {
+        when(gameSearchPort.isAvailable()).thenReturn(false);
+        when(gameRepository.searchByText("hades", 0, 20)).thenReturn(List.of(hades));
+        when(gameRepository.countByText("hades")).thenReturn(1L);
+        when(gameMapper.toResponseDTO(hades)).thenReturn(new GameResponseDTO());
+
+        PageResponseDTO<GameResponseDTO> result = searchGamesUseCase.execute(" hades ", 0, 20);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(1L, result.getTotalElements());
+        verify(gameSearchPort, never()).search(anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    void shouldComputeOffsetOfDeepPagesWithoutOverflow() {
+        when(gameSearchPort.isAvailable()).thenReturn(true);
+        when(gameSearchPort.search("acao", (long) Integer.MAX_VALUE * 100, 100)).thenReturn(new SearchHits(List.of(), 2));
+
+        PageResponseDTO<GameResponseDTO> result = searchGamesUseCase.execute("acao", Integer.MAX_VALUE, 100);
+
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(2L, result.getTotalElements());
+    }
+
+    @Test
+    void shouldNotQueryRepositoryPageBeyondResultsWhenIndexIsUnavailable() {
+        when(gameSearchPort.isAvailable()).thenReturn(false);
+        when(gameRepository.countByText("hades")).thenReturn(1L);
+
+        PageResponseDTO<GameResponseDTO> result = searchGamesUseCase.execute("hades", Integer.MAX_VALUE, 100);
+
+        assertTrue(result.getContent().isEmpty());
+        verify(gameRepository, never()).searchByText(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void shouldRejectBlankQuery() {
+        assertThrows(InvalidRequestException.class, () -> searchGamesUseCase.execute("  ", 0, 20));
+
+        verifyNoInteractions(gameRepository, gameSearchPort);
+    }
+}
@@ -0,0 +1,69 @@
+package com.projuris.gamescatalog.application.usecase;
+
+import com.projuris.gamescatalog.application.dto.GameSuggestionDTO;
+import com.projuris.gamescatalog.application.exception.InvalidRequestException;
+import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.application.port.GameSuggestPort;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestGamesUseCaseTest {
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private GameMapper gameMapper;
+
+    @Mock
+    private GameSuggestPort gameSuggestPort;
+
+    @InjectMocks
+    private SuggestGamesUseCase suggestGamesUseCase;
+
+    @Test
+    void shouldSuggestFromPrefixStructureWhenAvailable() {
+        List<GameSuggestionDTO> suggestions = List.of(new GameSuggestionDTO(1L, "Hades", "Action", 2020));
+        when(gameSuggestPort.isAvailable()).thenReturn(true);
+        when(gameSuggestPort.suggest("had", 10)).thenReturn(suggestions);
+
+        List<GameSuggestionDTO> result = suggestGamesUseCase.execute("had", 10);
+
+        assertEquals(suggestions, result);
+        verify(gameRepository, never()).findByTitlePrefix(anyString(), anyInt());
+    }
+
+    @Test
+    void shouldFallBackToRepositoryWhenUnavailable() {
+        Game hades = Game.reconstruct(1L, "Hades", "Roguelike", "Supergiant", "Supergiant", "Action", 2020, 89.90,
+                LocalDateTime.now(), LocalDateTime.now());
+        GameSuggestionDTO suggestion = new GameSuggestionDTO(1L, "Hades", "Action", 2020);
+        when(gameSuggestPort.isAvailable()).thenReturn(false);
+        when(gameRepository.findByTitlePrefix("had", 5)).thenReturn(List.of(hades));
+        when(gameMapper.toSuggestionDTO(hades)).thenReturn(suggestion);
+
+        List<GameSuggestionDTO> result = suggestGamesUseCase.execute("had ", 5);
+
+        assertEquals(List.of(suggestion), result);
+        verify(gameSuggestPort, never()).suggest(anyString(), anyInt());
+    }
+
+    @Test
+    void shouldRejectBlankPrefix() {
+        assertThrows(InvalidRequestException.class, () -> suggestGamesUseCase.execute("", 10));
+
+        verifyNoInteractions(gameRepository, gameSuggestPort);
+    }
+}
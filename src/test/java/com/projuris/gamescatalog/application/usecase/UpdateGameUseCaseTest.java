@@ -3,12 +3,14 @@ package com.projuris.gamescatalog.application.usecase;
 import com.projuris.gamescatalog.application.dto.GameRequestDTO;
 import com.projuris.gamescatalog.application.dto.GameResponseDTO;
 import com.projuris.gamescatalog.application.mapper.GameMapper;
+import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
 import com.projuris.gamescatalog.domain.model.Game;
 import com.projuris.gamescatalog.domain.repository.GameRepository;
 import com.projuris.gamescatalog.infrastructure.events.DomainEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -94,6 +96,25 @@ class UpdateGameUseCaseTest {
         verify(eventPublisher, times(1)).publishDomainEvents(any(Game.class));
     }
 
+    @Test
+    void shouldPublishUpdatedEventWithPreviousGenre() {
+        gameRequestDTO.setGenre("Action");
+        // O save devolve um Game reconstruído da entidade, sem os eventos do agregado alterado
+        Game saved = Game.reconstruct(1L, "The Witcher 3: Wild Hunt", "RPG", "CD Projekt RED", "CD Projekt",
+                "Action", 2015, 129.90, LocalDateTime.now(), LocalDateTime.now());
+        when(gameRepository.findById(1L)).thenReturn(Optional.of(game));
+        when(gameRepository.save(any(Game.class))).thenReturn(saved);
+        when(gameMapper.toResponseDTO(saved)).thenReturn(gameResponseDTO);
+
+        updateGameUseCase.execute(1L, gameRequestDTO);
+
+        ArgumentCaptor<Game> published = ArgumentCaptor.forClass(Game.class);
+        verify(eventPublisher).publishDomainEvents(published.capture());
+        GameUpdatedEvent event = (GameUpdatedEvent) published.getValue().getDomainEvents().get(0);
+        assertEquals("RPG", event.getPreviousGenre());
+        assertEquals("Action", event.getGenre());
+    }
+
     @Test
     void shouldThrowExceptionWhenGameNotFound() {
         when(gameRepository.findById(999L)).thenReturn(Optional.empty());
@@ -0,0 +1,114 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.dto.PageResponseDTO;
+import com.projuris.gamescatalog.application.usecase.GetGameUseCase;
+import com.projuris.gamescatalog.application.usecase.ListGamesByGenreUseCase;
+import com.projuris.gamescatalog.application.usecase.ListGamesUseCase;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.config.CacheConfig;
+import com.projuris.gamescatalog.infrastructure.web.cache.ResponseBytesCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CacheWarmerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final GetGameUseCase getGameUseCase = mock(GetGameUseCase.class);
+    private final ListGamesByGenreUseCase listGamesByGenreUseCase = mock(ListGamesByGenreUseCase.class);
+    private final ListGamesUseCase listGamesUseCase = mock(ListGamesUseCase.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ApplicationProperties applicationProperties;
+    private CaffeineCacheManager cacheManager;
+    private ResponseBytesCache responseBytesCache;
+    private CacheWarmer cacheWarmer;
+
+    @BeforeEach
+    void setUp() {
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getCacheWarmup().setSnapshotFile(tempDir.resolve("hot-keys.json").toString());
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheConfig.GAME_BY_ID_CACHE, Caffeine.newBuilder().maximumSize(100).build());
+        cacheManager.registerCustomCache(CacheConfig.GAMES_BY_GENRE_CACHE,
+                Caffeine.newBuilder().maximumSize(100).build());
+        responseBytesCache = new ResponseBytesCache(applicationProperties, objectMapper, meterRegistry);
+        cacheWarmer = new CacheWarmer(applicationProperties, cacheManager, responseBytesCache, objectMapper,
+                getGameUseCase, listGamesByGenreUseCase, listGamesUseCase, meterRegistry);
+    }
+
+    @Test
+    void shouldSnapshotHotKeysAndWarmThemOnStartup() throws Exception {
+        cacheWarmer.warmUp();
+        cacheManager.getCache(CacheConfig.GAME_BY_ID_CACHE).put(1L, "game-1");
+        cacheManager.getCache(CacheConfig.GAME_BY_ID_CACHE).put(2L, "game-2");
+        cacheManager.getCache(CacheConfig.GAMES_BY_GENRE_CACHE).put("RPG", List.of());
+        responseBytesCache.putPage(ResponseBytesCache.pageKey("RPG", 0, 20), page(), responseBytesCache.pageGeneration());
+
+        assertTrue(cacheWarmer.writeSnapshot());
+        assertTrue(Files.exists(tempDir.resolve("hot-keys.json")));
+
+        when(listGamesByGenreUseCase.execute("RPG", 0, 20)).thenReturn(page());
+        CacheWarmer restarted = new CacheWarmer(applicationProperties, new CaffeineCacheManager(),
+                responseBytesCache, new ObjectMapper().findAndRegisterModules(), getGameUseCase,
+                listGamesByGenreUseCase, listGamesUseCase, new SimpleMeterRegistry());
+        responseBytesCache.invalidateAll();
+        restarted.warmUp();
+
+        verify(getGameUseCase).execute(1L);
+        verify(getGameUseCase).execute(2L);
+        verify(listGamesByGenreUseCase).execute("RPG");
+        verify(listGamesByGenreUseCase).execute("RPG", 0, 20);
+        assertNotNull(responseBytesCache.getPage(ResponseBytesCache.pageKey("RPG", 0, 20)));
+        assertEquals(4, restarted.getProcessed());
+        assertEquals(1.0, restarted.getProgress());
+        assertTrue(restarted.isCompleted());
+    }
+
+    @Test
+    void shouldStopWarmUpWhenTimeBudgetIsExhausted() throws Exception {
+        Files.writeString(tempDir.resolve("hot-keys.json"), "{\"gameIds\":[1,2,3],\"genres\":[],\"pages\":[]}");
+        applicationProperties.getCacheWarmup().setTimeBudget(Duration.ZERO);
+
+        cacheWarmer.warmUp();
+
+        verify(getGameUseCase, never()).execute(anyLong());
+        assertEquals(0, cacheWarmer.getProcessed());
+        assertTrue(cacheWarmer.isCompleted());
+        assertFalse(cacheWarmer.isRunning());
+    }
+
+    @Test
+    void shouldKeepPreviousSnapshotWhenCachesAreEmpty() {
+        cacheWarmer.warmUp();
+
+        assertFalse(cacheWarmer.writeSnapshot());
+        assertFalse(Files.exists(tempDir.resolve("hot-keys.json")));
+    }
+
+    private static PageResponseDTO<GameResponseDTO> page() {
+        return new PageResponseDTO<>(List.of(), 0, 20, 0, 0, true, true);
+    }
+}
@@ -0,0 +1,81 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CoalescingCaffeineCacheTest {
+
+    private final Counter coalesced = Counter.builder("games.cache.coalesced").register(new SimpleMeterRegistry());
+
+    @Test
+    void shouldLoadOnceForConcurrentMissesOnSameKey() throws Exception {
+        CoalescingCaffeineCache cache = new CoalescingCaffeineCache("gameById",
+                Caffeine.newBuilder().build(), true, coalesced);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int waiters = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(waiters + 1);
+        try {
+            Future<String> first = executor.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "game-1";
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+
+            CountDownLatch started = new CountDownLatch(waiters);
+            List<Future<String>> others = new ArrayList<>();
+            for (int i = 0; i < waiters; i++) {
+                others.add(executor.submit(() -> {
+                    started.countDown();
+                    return cache.get(1L, () -> {
+                        loads.incrementAndGet();
+                        return "outra carga";
+                    });
+                }));
+            }
+            // Espera os demais bloquearem na carga em andamento
+            started.await(5, TimeUnit.SECONDS);
+            Thread.sleep(200);
+            release.countDown();
+
+            assertEquals("game-1", first.get(5, TimeUnit.SECONDS));
+            for (Future<String> other : others) {
+                assertEquals("game-1", other.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(waiters, (int) coalesced.count());
+    }
+
+    @Test
+    void shouldNotTriggerLoaderOnLookup() {
+        CoalescingCaffeineCache cache = new CoalescingCaffeineCache("gameById",
+                Caffeine.newBuilder().build(key -> "carregado"), true, coalesced);
+
+        assertNull(cache.get(1L));
+        assertEquals("valor", cache.get(1L, () -> "valor"));
+        assertEquals("valor", cache.get(1L).get());
+        assertEquals(0, (int) coalesced.count());
+    }
+}
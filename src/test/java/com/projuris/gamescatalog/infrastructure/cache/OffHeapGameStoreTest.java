@@ -0,0 +1,95 @@
+package com.projuris.gamescatalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapGameStoreTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRoundTripGameThroughOffHeapRecord() {
+        OffHeapGameStore store = new OffHeapGameStore(1024 * 1024, 64 * 1024, Duration.ofMinutes(30), meterRegistry);
+        GameResponseDTO game = game(7L, "Ação Épica");
+        game.setDescription(null);
+
+        assertTrue(store.put(7L, game, store.generation()));
+
+        assertEquals(game, store.get(7L));
+        assertNull(store.get(8L));
+        assertEquals(1, store.hitCount());
+        assertEquals(1, store.missCount());
+    }
+
+    @Test
+    void shouldRecycleOldestSegmentWhenFull() {
+        OffHeapGameStore store = new OffHeapGameStore(2 * 512, 512, Duration.ofMinutes(30), meterRegistry);
+        int games = 40;
+        for (long id = 1; id <= games; id++) {
+            store.put(id, game(id, "Game " + id), store.generation());
+        }
+
+        assertNull(store.get(1L));
+        assertNotNull(store.get(games));
+        assertTrue(store.evictionCount() > 0);
+        assertEquals(games - store.evictionCount(), store.size());
+        assertTrue(store.usedBytes() <= store.capacityBytes());
+    }
+
+    @Test
+    void shouldDiscardPutStartedBeforeEviction() {
+        OffHeapGameStore store = new OffHeapGameStore(1024 * 1024, 64 * 1024, Duration.ofMinutes(30), meterRegistry);
+        long generation = store.generation();
+
+        store.evict(3L);
+
+        assertFalse(store.put(3L, game(3L, "Antigo"), generation));
+        assertNull(store.get(3L));
+    }
+
+    @Test
+    void shouldServeL1MissFromOffHeapTierBeforeLoading() {
+        OffHeapGameStore store = new OffHeapGameStore(1024 * 1024, 64 * 1024, Duration.ofMinutes(30), meterRegistry);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> l1 = Caffeine.newBuilder().build();
+        OffHeapTieredCache cache = new OffHeapTieredCache("gameById", l1, true,
+                Counter.builder("games.cache.coalesced").register(meterRegistry), store);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return game(1L, "Carregado");
+        });
+        l1.invalidateAll();
+        GameResponseDTO fromL2 = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return game(1L, "Outra carga");
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals("Carregado", fromL2.getTitle());
+        assertNotNull(l1.getIfPresent(1L));
+
+        cache.evict(1L);
+        assertNull(cache.get(1L));
+        assertEquals(0, store.size());
+    }
+
+    private static GameResponseDTO game(long id, String title) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123_456_789);
+        return new GameResponseDTO(id, title, "Descrição", "Dev", "Pub", "RPG", 2020, 59.9,
+                createdAt, createdAt.plusDays(1));
+    }
+}
@@ -0,0 +1,73 @@
+package com.projuris.gamescatalog.infrastructure.changefeed;
+
+import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.events.DomainEventBus;
+import com.projuris.gamescatalog.infrastructure.events.RelayedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class GameChangeFeedTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // Tarefas de envio guardadas sem executar: simula um cliente que não consome
+    private final List<Runnable> sends = new ArrayList<>();
+    private GameChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getChangeFeed().setReplaySize(100);
+        properties.getChangeFeed().setClientBufferSize(2);
+        feed = new GameChangeFeed(mock(DomainEventBus.class), sends::add, properties, registry);
+    }
+
+    @Test
+    void shouldNotCountReplayTowardsClientBuffer() {
+        publish(5);
+        feed.subscribe(feed.eventId(0));
+
+        // Replay de 5 mudanças pendente; o limite de 2 vale apenas para as mudanças em tempo real
+        publish(2);
+        assertEquals(0.0, overflows());
+
+        publish(1);
+        assertEquals(1.0, overflows());
+    }
+
+    @Test
+    void shouldSkipOutboxRedeliveriesAlreadySequenced() {
+        Object created = new GameCreatedEvent(Game.reconstruct(1L, "Hades", "Desc", "Dev", "Pub", "Action", 2020,
+                10.0, LocalDateTime.now(), LocalDateTime.now()));
+
+        assertEquals(1, feed.publish(List.of(new RelayedEvent(created, 7L))));
+        // Entrega não confirmada a tempo: a mesma linha volta junto com uma nova
+        assertEquals(2, feed.publish(List.of(new RelayedEvent(created, 7L), new RelayedEvent(created, 8L))));
+
+        assertEquals(2, feed.currentSequence());
+        assertEquals(1.0, registry.get("games.changefeed.duplicates").counter().count());
+    }
+
+    private void publish(int count) {
+        List<Object> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long id = feed.currentSequence() + i + 1;
+            events.add(new GameCreatedEvent(Game.reconstruct(id, "Game " + id, "Desc", "Dev", "Pub", "Action",
+                    2020, 10.0, LocalDateTime.now(), LocalDateTime.now())));
+        }
+        feed.publish(events);
+    }
+
+    private double overflows() {
+        return registry.get("games.changefeed.overflows").counter().count();
+    }
+}
@@ -0,0 +1,148 @@
+package com.projuris.gamescatalog.infrastructure.config;
+
+import com.projuris.gamescatalog.GamesCatalogApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark HTTP de throughput e latência com threads de plataforma e virtuais
+ * Sobe a aplicação em cada modo (Tomcat real, porta aleatória) e dispara
+ * consultas filtradas por desenvolvedora, que vão ao banco, a partir de
+ * benchmark.clients clientes simultâneos. O modo virtual só roda em Java 21+
+ * (mvn test -Pbenchmark,java21). Não roda no build padrão:
+ * mvn test -Pbenchmark [-Dbenchmark.rows=1000000] [-Dbenchmark.clients=1000]
+ */
+@Tag("benchmark")
+@Slf4j
+class ThreadingBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1000);
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final List<String> DEVELOPERS = List.of("Valve", "Capcom", "Ubisoft", "Square Enix",
+            "Bethesda Game Studios", "FromSoftware", "Naughty Dog", "Rockstar Games");
+
+    @Test
+    void compareThroughputAndLatencyOfThreadModes() throws Exception {
+        report("plataforma", run(false));
+        if (Runtime.version().feature() >= 21) {
+            report("virtual", run(true));
+        } else {
+            log.warn("Threads - modo virtual ignorado: requer Java 21 (atual: {})", Runtime.version());
+        }
+    }
+
+    private Result run(boolean virtual) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(GamesCatalogApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "app.threads.virtual=" + virtual,
+                        "app.seed.count=" + ROWS,
+                        "app.seed.batch-size=5000",
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + (virtual ? "virtual" : "platform"),
+                        "server.tomcat.max-connections=" + (CLIENTS * 2),
+                        "server.tomcat.accept-count=" + CLIENTS,
+                        "logging.level.com.projuris=WARN")
+                .run();
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+            try {
+                load(clients, client, baseUrl);
+                long start = System.nanoTime();
+                Result result = load(clients, client, baseUrl);
+                result.elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+                return result;
+            } finally {
+                clients.shutdownNow();
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private Result load(ExecutorService clients, HttpClient client, String baseUrl) throws Exception {
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            futures.add(clients.submit(() -> {
+                long[] latencies = new long[REQUESTS_PER_CLIENT];
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                    String developer = DEVELOPERS.get(random.nextInt(DEVELOPERS.size()));
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/games?developer="
+                                    + developer.replace(" ", "%20") + "&page=" + random.nextInt(10) + "&size=20"))
+                            .timeout(Duration.ofSeconds(60))
+                            .GET()
+                            .build();
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - start;
+                }
+                return latencies;
+            }));
+        }
+        long[] all = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        for (int c = 0; c < CLIENTS; c++) {
+            System.arraycopy(futures.get(c).get(), 0, all, c * REQUESTS_PER_CLIENT, REQUESTS_PER_CLIENT);
+        }
+        Arrays.sort(all);
+        return new Result(all, errors.get());
+    }
+
+    private static void report(String mode, Result result) {
+        log.warn(String.format("%nThreads %s - %d requisições de %d clientes: %.0f req/s, p50=%.1f ms, "
+                        + "p99=%.1f ms, p99.9=%.1f ms, erros=%d%n",
+                mode, result.latencies.length, CLIENTS, result.latencies.length / result.elapsedSeconds,
+                percentile(result.latencies, 0.50), percentile(result.latencies, 0.99),
+                percentile(result.latencies, 0.999), result.errors));
+        assertEquals(0, result.errors);
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        return sortedNanos[(int) Math.min(sortedNanos.length - 1, sortedNanos.length * percentile)] / 1_000_000.0;
+    }
+
+    private static final class Result {
+
+        private final long[] latencies;
+        private final long errors;
+        private double elapsedSeconds;
+
+        private Result(long[] latencies, long errors) {
+            this.latencies = latencies;
+            this.errors = errors;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.projuris.gamescatalog.infrastructure.events;
+
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DomainEventBusTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DomainEventBus bus;
+
+    @AfterEach
+    void tearDown() {
+        bus.shutdown();
+    }
+
+    @Test
+    void shouldDeliverEventsInOrderFilteredByType() throws Exception {
+        bus = newBus(16, ApplicationProperties.EventBusBackpressure.BLOCK);
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(100);
+        bus.subscribe("numbers", Integer.class, batch -> {
+            received.addAll(batch);
+            batch.forEach(event -> done.countDown());
+        });
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(bus.publish(i));
+            bus.publish("ignorado-" + i);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 100).boxed().toList(), received);
+        assertEquals(200.0, registry.get("games.events.bus.published").counter().count());
+    }
+
+    @Test
+    void shouldUnwrapRelayedEventsOnlyForTypedHandlers() throws Exception {
+        bus = newBus(16, ApplicationProperties.EventBusBackpressure.BLOCK);
+        List<Integer> typed = new CopyOnWriteArrayList<>();
+        List<Object> all = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        bus.subscribe("numbers", Integer.class, batch -> {
+            typed.addAll(batch);
+            done.countDown();
+        });
+        bus.subscribe("all", Object.class, batch -> {
+            all.addAll(batch);
+            done.countDown();
+        });
+
+        bus.publish(new RelayedEvent(7, 42L));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(7), typed);
+        assertEquals(List.of(new RelayedEvent(7, 42L)), all);
+    }
+
+    @Test
+    void shouldDeliverBacklogAsSingleBatch() throws Exception {
+        bus = newBus(64, ApplicationProperties.EventBusBackpressure.BLOCK);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        bus.subscribe("numbers", Integer.class, batch -> {
+            batchSizes.add(batch.size());
+            blocked.countDown();
+            await(release);
+        });
+
+        bus.publish(0);
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 10; i++) {
+            bus.publish(i);
+        }
+        assertEquals(10.0, registry.get("games.events.bus.lag").tag("handler", "numbers").gauge().value());
+        release.countDown();
+
+        waitUntil(() -> bus.depth() == 0);
+        assertEquals(List.of(1, 10), batchSizes);
+    }
+
+    @Test
+    void shouldDropWhenRingIsFull() throws Exception {
+        bus = newBus(4, ApplicationProperties.EventBusBackpressure.DROP);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        bus.subscribe("numbers", Integer.class, batch -> {
+            blocked.countDown();
+            await(release);
+        });
+
+        bus.publish(0);
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(bus.publish(i));
+        }
+        assertFalse(bus.publish(5));
+        assertEquals(1.0, registry.get("games.events.bus.dropped").counter().count());
+        release.countDown();
+    }
+
+    @Test
+    void shouldKeepConsumingAfterHandlerFailure() throws Exception {
+        bus = newBus(16, ApplicationProperties.EventBusBackpressure.BLOCK);
+        CountDownLatch second = new CountDownLatch(1);
+        bus.subscribe("failing", Integer.class, batch -> {
+            if (batch.contains(1)) {
+                throw new IllegalStateException("falha");
+            }
+            second.countDown();
+        });
+
+        bus.publish(1);
+        waitUntil(() -> bus.depth() == 0);
+        bus.publish(2);
+
+        assertTrue(second.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, registry.get("games.events.bus.handler.errors").tag("handler", "failing").counter()
+                .count());
+    }
+
+    private DomainEventBus newBus(int ringSize, ApplicationProperties.EventBusBackpressure backpressure) {
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getEventBus().setRingSize(ringSize);
+        properties.getEventBus().setBackpressure(backpressure);
+        properties.getEventBus().setBackpressureTimeout(Duration.ofMillis(100));
+        return new DomainEventBus(properties, registry, new SimpleAsyncTaskExecutor("event-bus-test-"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
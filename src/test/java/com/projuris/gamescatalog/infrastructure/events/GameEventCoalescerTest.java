@@ -0,0 +1,197 @@
+package com.projuris.gamescatalog.infrastructure.events;
+
+import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
+import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
+import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
+import com.projuris.gamescatalog.domain.events.GamesBatchCreatedEvent;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameEventCoalescerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DomainEventBus bus;
+    private GameEventCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        bus = mock(DomainEventBus.class);
+        ApplicationProperties properties = new ApplicationProperties();
+        // Janela longa: os testes entregam com flush()
+        properties.getEventCoalescing().setWindow(Duration.ofHours(1));
+        properties.getEventCoalescing().setMaxPending(3);
+        coalescer = new GameEventCoalescer(bus, properties, registry);
+    }
+
+    @Test
+    void shouldMergeCreateAndUpdatesIntoSingleCreate() {
+        coalescer.submit(new GameCreatedEvent(game(1L, "Hades", "Action")));
+        coalescer.submit(new GameUpdatedEvent(game(1L, "Hades II", "Action"), "Action"));
+        coalescer.submit(new GameUpdatedEvent(game(1L, "Hades II", "Roguelike"), "Action"));
+        verify(bus, never()).publish(any());
+
+        coalescer.flush();
+
+        GameCreatedEvent created = assertInstanceOf(GameCreatedEvent.class, published(1).get(0));
+        assertEquals("Hades II", created.getTitle());
+        assertEquals("Roguelike", created.getGenre());
+        assertEquals("Supergiant", created.getDeveloper());
+        assertEquals(3.0, registry.get("games.events.coalescer.merge.ratio").gauge().value());
+    }
+
+    @Test
+    void shouldRelayMergedOutboxEventsWithLatestRowId() {
+        coalescer.submit(new GameCreatedEvent(game(1L, "Hades", "Action")), 10L);
+        coalescer.submit(new GameUpdatedEvent(game(1L, "Hades II", "Action"), "Action"), 12L);
+        coalescer.flush();
+
+        RelayedEvent relayed = assertInstanceOf(RelayedEvent.class, published(1).get(0));
+        assertEquals(12L, relayed.outboxId());
+        assertEquals("Hades II", assertInstanceOf(GameCreatedEvent.class, relayed.event()).getTitle());
+    }
+
+    @Test
+    void shouldKeepFirstPreviousGenreWhenMergingUpdates() {
+        coalescer.submit(new GameUpdatedEvent(game(1L, "Hades", "Roguelike"), "Action"));
+        coalescer.submit(new GameUpdatedEvent(game(1L, "Hades", "RPG"), "Roguelike"));
+        coalescer.flush();
+
+        GameUpdatedEvent updated = assertInstanceOf(GameUpdatedEvent.class, published(1).get(0));
+        assertEquals("Action", updated.getPreviousGenre());
+        assertEquals("RPG", updated.getGenre());
+    }
+
+    @Test
+    void shouldCollapseUpdateAndDeleteIntoDeleteAndCancelCreateAndDelete() {
+        coalescer.submit(new GameUpdatedEvent(game(1L, "Hades", "Action"), "Action"));
+        coalescer.submit(new GameDeletedEvent(game(1L, "Hades", "Action")));
+        coalescer.submit(new GameCreatedEvent(game(2L, "Celeste", "Platformer")));
+        coalescer.submit(new GameDeletedEvent(game(2L, "Celeste", "Platformer")));
+        coalescer.flush();
+
+        List<Object> events = published(1);
+        GameDeletedEvent deleted = assertInstanceOf(GameDeletedEvent.class, events.get(0));
+        assertEquals(1L, deleted.getGameId());
+    }
+
+    @Test
+    void shouldPassBatchEventsThroughAndFlushWhenPendingIsFull() {
+        GamesBatchCreatedEvent batch = new GamesBatchCreatedEvent(List.of(
+                new GameCreatedEvent(game(10L, "Hades", "Action"))));
+        coalescer.submit(batch);
+        verify(bus).publish(batch);
+
+        coalescer.submit(new GameCreatedEvent(game(1L, "Hades", "Action")));
+        coalescer.submit(new GameCreatedEvent(game(2L, "Celeste", "Platformer")));
+        coalescer.submit(new GameCreatedEvent(game(3L, "Inside", "Puzzle")));
+
+        verify(bus, times(4)).publish(any());
+    }
+
+    @Test
+    void shouldConfirmDeliveryOfMergedEventsOnlyAfterFlush() {
+        when(bus.publish(any(GameCreatedEvent.class))).thenReturn(true);
+        when(bus.publish(any(GameUpdatedEvent.class))).thenReturn(false);
+
+        CompletableFuture<Boolean> cancelled = coalescer.submit(new GameCreatedEvent(game(3L, "Celeste", "Platformer")));
+        coalescer.submit(new GameDeletedEvent(game(3L, "Celeste", "Platformer")));
+        // Criação + deleção se anulam: nada a entregar
+        assertTrue(cancelled.join());
+        CompletableFuture<Boolean> created = coalescer.submit(new GameCreatedEvent(game(1L, "Hades", "Action")));
+        CompletableFuture<Boolean> updated = coalescer.submit(new GameUpdatedEvent(game(1L, "Hades II", "Action"), "Action"));
+        CompletableFuture<Boolean> dropped = coalescer.submit(new GameUpdatedEvent(game(2L, "Inside", "Puzzle"), "Puzzle"));
+        assertFalse(created.isDone());
+        assertFalse(dropped.isDone());
+
+        coalescer.flush();
+
+        assertTrue(created.join());
+        assertTrue(updated.join());
+        assertFalse(dropped.join());
+    }
+
+    @Test
+    void shouldKeepPerGameOrderAcrossConcurrentFlushes() throws Exception {
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getEventCoalescing().setWindow(Duration.ofHours(1));
+        properties.getEventCoalescing().setMaxPending(1000);
+        Map<Long, List<Integer>> versions = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            GameUpdatedEvent event = invocation.getArgument(0);
+            // Entrega lenta: abre a janela para um segundo flush ultrapassar o primeiro
+            Thread.sleep(0, 200_000);
+            versions.computeIfAbsent(event.getGameId(), id -> new CopyOnWriteArrayList<>())
+                    .add(Integer.parseInt(event.getTitle()));
+            return true;
+        }).when(bus).publish(any());
+        GameEventCoalescer concurrent = new GameEventCoalescer(bus, properties, registry);
+
+        AtomicBoolean producing = new AtomicBoolean(true);
+        ExecutorService flushers = Executors.newFixedThreadPool(3);
+        try {
+            for (int i = 0; i < 3; i++) {
+                flushers.submit(() -> {
+                    while (producing.get()) {
+                        concurrent.flush();
+                    }
+                });
+            }
+            for (int version = 0; version < 5000; version++) {
+                long gameId = version % 4;
+                concurrent.submit(new GameUpdatedEvent(game(gameId, Integer.toString(version), "Action"), "Action"));
+            }
+        } finally {
+            producing.set(false);
+            flushers.shutdown();
+            assertTrue(flushers.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        concurrent.flush();
+
+        assertEquals(4, versions.size());
+        versions.forEach((gameId, published) -> {
+            for (int i = 1; i < published.size(); i++) {
+                assertTrue(published.get(i - 1) < published.get(i), "game " + gameId + ": " + published);
+            }
+            assertEquals(4996 + gameId.intValue(), published.get(published.size() - 1));
+        });
+    }
+
+    private List<Object> published(int count) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(bus, times(count)).publish(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static Game game(Long id, String title, String genre) {
+        return Game.reconstruct(id, title, "Descrição", "Supergiant", "Supergiant", genre, 2020, 89.90,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,59 @@
+package com.projuris.gamescatalog.infrastructure.events;
+
+import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
+import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
+import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
+import com.projuris.gamescatalog.domain.events.GamesBatchCreatedEvent;
+import com.projuris.gamescatalog.domain.model.Game;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OutboxEventCodecTest {
+
+    @Test
+    void shouldRoundTripDomainEvents() {
+        Game game = game(7L);
+        GameCreatedEvent created = new GameCreatedEvent(game);
+
+        GameCreatedEvent decodedCreated = assertInstanceOf(GameCreatedEvent.class,
+                OutboxEventCodec.decode(OutboxEventCodec.encode(created)));
+        assertEquals(created.getOccurredAt(), decodedCreated.getOccurredAt());
+        GameUpdatedEvent updated = assertInstanceOf(GameUpdatedEvent.class,
+                OutboxEventCodec.decode(OutboxEventCodec.encode(new GameUpdatedEvent(game, "RPG"))));
+        assertEquals("RPG", updated.getPreviousGenre());
+        assertInstanceOf(GameDeletedEvent.class,
+                OutboxEventCodec.decode(OutboxEventCodec.encode(new GameDeletedEvent(game))));
+
+        List<GameCreatedEvent> events = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            events.add(new GameCreatedEvent(game(id)));
+        }
+        GamesBatchCreatedEvent batch = assertInstanceOf(GamesBatchCreatedEvent.class,
+                OutboxEventCodec.decode(OutboxEventCodec.encode(new GamesBatchCreatedEvent(events))));
+        assertEquals(300, batch.size());
+        assertEquals(300L, batch.getEvents().get(299).getGameId());
+    }
+
+    @Test
+    void shouldRejectClassesOutsideTheEventAllowList() {
+        HashMap<String, String> map = new HashMap<>();
+        map.put("gameId", "7");
+
+        assertThrows(IllegalStateException.class, () -> OutboxEventCodec.decode(OutboxEventCodec.encode(map)));
+        assertThrows(IllegalStateException.class,
+                () -> OutboxEventCodec.decode(OutboxEventCodec.encode(new ArrayList<>(List.of("a")))));
+    }
+
+    private static Game game(Long id) {
+        return Game.reconstruct(id, "Hades", "Roguelike", "Supergiant", "Supergiant", "Action", 2020, 89.90,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,153 @@
+package com.projuris.gamescatalog.infrastructure.events;
+
+import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
+import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import com.projuris.gamescatalog.infrastructure.persistence.entity.OutboxEventEntity;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private JpaOutboxEventRepository repository;
+    private GameEventCoalescer coalescer;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(JpaOutboxEventRepository.class);
+        coalescer = mock(GameEventCoalescer.class);
+        when(coalescer.submit(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+        ApplicationProperties properties = new ApplicationProperties();
+        properties.getOutbox().setBatchSize(2);
+        properties.getOutbox().setDeliveryTimeout(Duration.ofMillis(50));
+        relay = new OutboxRelay(repository, coalescer, mock(PlatformTransactionManager.class), properties,
+                new SyncTaskExecutor(), registry);
+    }
+
+    @Test
+    void shouldRelayClaimedEventsInOrderAndDeleteThemOnceDelivered() {
+        Game game = game(7L);
+        when(repository.claimOldest(any(), eq(2))).thenReturn(List.of(
+                row(1L, new GameCreatedEvent(game)),
+                row(2L, new GameDeletedEvent(game))));
+
+        assertEquals(2, relay.drain());
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Long> ids = ArgumentCaptor.forClass(Long.class);
+        InOrder inOrder = inOrder(repository, coalescer);
+        inOrder.verify(repository).updateClaim(eq(List.of(1L, 2L)), notNull());
+        inOrder.verify(coalescer, times(2)).submit(events.capture(), ids.capture());
+        // Lote cheio: entregue sem esperar a janela de consolidação
+        inOrder.verify(coalescer).flush();
+        inOrder.verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertInstanceOf(GameCreatedEvent.class, events.getAllValues().get(0));
+        GameDeletedEvent deleted = assertInstanceOf(GameDeletedEvent.class, events.getAllValues().get(1));
+        assertEquals(7L, deleted.getGameId());
+        assertEquals(List.of(1L, 2L), ids.getAllValues());
+        verify(repository, never()).updateClaim(any(), isNull());
+        assertEquals(2.0, registry.get("games.outbox.relayed").counter().count());
+    }
+
+    @Test
+    void shouldDiscardUndecodableEventsWithoutBlockingTheBatch() {
+        OutboxEventEntity corrupt = new OutboxEventEntity(1L, "GameCreatedEvent", 7L, new byte[]{1, 2, 3}, null, null);
+        when(repository.claimOldest(any(), eq(2))).thenReturn(List.of(corrupt, row(2L, new GameDeletedEvent(game(7L)))));
+
+        assertEquals(2, relay.drain());
+
+        verify(coalescer, times(1)).submit(any(GameDeletedEvent.class), eq(2L));
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertEquals(1.0, registry.get("games.outbox.failed").counter().count());
+    }
+
+    @Test
+    void shouldKeepEventsFromFirstUnconfirmedDeliveryForRetry() {
+        Game game = game(7L);
+        GameCreatedEvent created = new GameCreatedEvent(game);
+        GameDeletedEvent deleted = new GameDeletedEvent(game);
+        when(repository.claimOldest(any(), eq(2))).thenReturn(List.of(row(1L, created), row(2L, deleted)));
+        // O barramento descarta o primeiro e aceita o segundo
+        when(coalescer.submit(any(GameCreatedEvent.class), any()))
+                .thenReturn(CompletableFuture.completedFuture(false));
+
+        assertEquals(0, relay.drain());
+
+        verify(repository, never()).deleteAllByIdInBatch(any());
+        verify(repository).updateClaim(List.of(1L, 2L), null);
+        assertEquals(2.0, registry.get("games.outbox.retried").counter().count());
+    }
+
+    @Test
+    void shouldReleaseEventsWhoseDeliveryIsNotConfirmedInTime() {
+        Game game = game(7L);
+        when(repository.claimOldest(any(), eq(2))).thenReturn(List.of(
+                row(1L, new GameCreatedEvent(game)),
+                row(2L, new GameDeletedEvent(game))));
+        // Segundo evento ainda na janela do coalescer quando o prazo acaba
+        when(coalescer.submit(any(GameDeletedEvent.class), any())).thenReturn(new CompletableFuture<>());
+
+        assertEquals(1, relay.drain());
+
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+        verify(repository).updateClaim(List.of(2L), null);
+    }
+
+    @Test
+    void shouldReturnZeroWhenOutboxIsEmpty() {
+        when(repository.claimOldest(any(), eq(2))).thenReturn(List.of());
+
+        assertEquals(0, relay.drain());
+        verify(repository, never()).deleteAllByIdInBatch(any());
+        verify(coalescer, never()).flush();
+    }
+
+    @Test
+    void shouldReportSampledPendingCountWithoutQueryingOnEveryScrape() {
+        when(repository.count()).thenReturn(3L);
+
+        relay.samplePending();
+        relay.samplePending();
+
+        assertEquals(3.0, registry.get("games.outbox.pending").gauge().value());
+        assertEquals(3.0, registry.get("games.outbox.pending").gauge().value());
+        verify(repository, times(1)).count();
+    }
+
+    private static OutboxEventEntity row(Long id, Object event) {
+        return new OutboxEventEntity(id, event.getClass().getSimpleName(), GameEventCoalescer.gameId(event),
+                OutboxEventCodec.encode(event), LocalDateTime.now(), null);
+    }
+
+    private static Game game(Long id) {
+        return Game.reconstruct(id, "Hades", "Roguelike", "Supergiant", "Supergiant", "Action", 2020, 89.90,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,89 @@
+package com.projuris.gamescatalog.infrastructure.events.handler;
+
+import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
+import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.projection.CatalogProjection;
+import com.projuris.gamescatalog.infrastructure.projection.CatalogVersionTracker;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogProjectionEventHandlerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final TitleProjection projection = new TitleProjection();
+    private final CatalogProjectionEventHandler handler = new CatalogProjectionEventHandler(gameRepository,
+            List.of(projection), mock(CatalogVersionTracker.class));
+
+    @Test
+    void shouldReloadGamesChangedWhileTheRebuildStreams() {
+        Game first = game(1L, "Original");
+        Game second = game(2L, "Removido");
+        Game firstUpdated = game(1L, "Atualizado");
+        when(gameRepository.findById(1L)).thenReturn(Optional.of(firstUpdated));
+        when(gameRepository.findById(2L)).thenReturn(Optional.empty());
+        when(gameRepository.streamAll(any(), any(), any())).thenAnswer(invocation -> {
+            Consumer<Game> consumer = invocation.getArgument(2);
+            // Linhas lidas antes dos commits, aplicadas depois dos respectivos eventos
+            handler.handleGameUpdated(new GameUpdatedEvent(firstUpdated, "RPG"));
+            handler.handleGameDeleted(new GameDeletedEvent(second));
+            consumer.accept(first);
+            consumer.accept(second);
+            return 2L;
+        });
+
+        handler.rebuild();
+
+        assertTrue(projection.completed);
+        assertEquals(Map.of(1L, "Atualizado"), projection.titles);
+
+        // Após a reconstrução os eventos voltam a ser aplicados diretamente
+        handler.handleGameDeleted(new GameDeletedEvent(firstUpdated));
+        assertEquals(Map.of(), projection.titles);
+    }
+
+    private static Game game(long id, String title) {
+        return Game.reconstruct(id, title, "Desc", "Dev", "Pub", "RPG", 2020, 10.0, BASE, BASE);
+    }
+
+    private static class TitleProjection implements CatalogProjection {
+
+        private final Map<Long, String> titles = new ConcurrentHashMap<>();
+        private boolean completed;
+
+        @Override
+        public void onUpsert(Game game) {
+            titles.put(game.getId(), game.getTitle());
+        }
+
+        @Override
+        public void onDelete(Long gameId) {
+            titles.remove(gameId);
+        }
+
+        @Override
+        public void onRebuildStarted() {
+            titles.clear();
+        }
+
+        @Override
+        public void onRebuildCompleted() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.projuris.gamescatalog.infrastructure.persistence.counter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameCounterReconciliationJobTest {
+
+    private final GameCounterRegistry counterRegistry = mock(GameCounterRegistry.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GameCounterReconciliationJob job = new GameCounterReconciliationJob(counterRegistry, meterRegistry);
+
+    @Test
+    void shouldRetrySeedingInsteadOfReconcilingBeforeSeeding() {
+        job.reconcile();
+
+        verify(counterRegistry).seed();
+        verify(counterRegistry, never()).reconcile();
+    }
+
+    @Test
+    void shouldPublishDriftAndIgnoreSkippedRuns() {
+        when(counterRegistry.isSeeded()).thenReturn(true);
+        when(counterRegistry.reconcile()).thenReturn(3L, GameCounterRegistry.SKIPPED, 0L);
+
+        job.reconcile();
+        assertEquals(3.0, meterRegistry.get("games.counters.drift").counter().count());
+        assertEquals(3.0, meterRegistry.get("games.counters.drift.last").gauge().value());
+
+        job.reconcile();
+        assertEquals(3.0, meterRegistry.get("games.counters.drift.last").gauge().value());
+
+        job.reconcile();
+        assertEquals(3.0, meterRegistry.get("games.counters.drift").counter().count());
+        assertEquals(0.0, meterRegistry.get("games.counters.drift.last").gauge().value());
+    }
+}
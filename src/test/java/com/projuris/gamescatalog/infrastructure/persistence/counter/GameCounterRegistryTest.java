@@ -0,0 +1,107 @@
+package com.projuris.gamescatalog.infrastructure.persistence.counter;
+
+import com.projuris.gamescatalog.infrastructure.persistence.repository.GenreCount;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaGameRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GameCounterRegistryTest {
+
+    private final JpaGameRepository jpaGameRepository = mock(JpaGameRepository.class);
+    private final GameCounterRegistry registry = new GameCounterRegistry(jpaGameRepository);
+
+    @Test
+    void shouldSeedFromDatabaseAndFollowEvents() {
+        when(jpaGameRepository.countGroupByGenre()).thenReturn(counts(Map.of("RPG", 2L, "Action", 1L)));
+
+        registry.seed();
+        registry.increment("RPG");
+        registry.move("RPG", "Puzzle");
+        registry.decrement("Action");
+
+        assertTrue(registry.isSeeded());
+        assertEquals(3, registry.total());
+        assertEquals(2, registry.countByGenre("RPG"));
+        assertEquals(1, registry.countByGenre("Puzzle"));
+        assertEquals(0, registry.countByGenre("Action"));
+    }
+
+    @Test
+    void shouldCorrectOnlyDriftConfirmedByTwoReconciliations() {
+        when(jpaGameRepository.countGroupByGenre()).thenReturn(counts(Map.of("RPG", 2L)));
+        registry.seed();
+
+        // Escrita já confirmada no banco cujo evento ainda não chegou
+        when(jpaGameRepository.countGroupByGenre()).thenReturn(counts(Map.of("RPG", 3L)));
+        assertEquals(0, registry.reconcile());
+        registry.increment("RPG");
+        assertEquals(0, registry.reconcile());
+        assertEquals(3, registry.countByGenre("RPG"));
+
+        // Divergência real (evento perdido): persiste e é corrigida na segunda execução
+        when(jpaGameRepository.countGroupByGenre()).thenReturn(counts(Map.of("RPG", 4L)));
+        assertEquals(0, registry.reconcile());
+        assertEquals(2, registry.reconcile());
+        assertEquals(4, registry.total());
+        assertEquals(4, registry.countByGenre("RPG"));
+    }
+
+    @Test
+    void shouldSkipReconciliationWhenEventsArriveDuringTheQuery() {
+        when(jpaGameRepository.countGroupByGenre()).thenReturn(counts(Map.of("RPG", 1L)));
+        registry.seed();
+
+        when(jpaGameRepository.countGroupByGenre()).thenAnswer(invocation -> {
+            // Evento aplicado entre o GROUP BY e o ajuste
+            registry.increment("RPG");
+            return counts(Map.of("RPG", 1L));
+        });
+
+        assertEquals(GameCounterRegistry.SKIPPED, registry.reconcile());
+        assertEquals(GameCounterRegistry.SKIPPED, registry.reconcile());
+        assertEquals(3, registry.countByGenre("RPG"));
+        assertEquals(3, registry.total());
+    }
+
+    @Test
+    void shouldStayUnseededWhileEveryAttemptIsSkipped() {
+        when(jpaGameRepository.countGroupByGenre()).thenAnswer(invocation -> {
+            registry.increment("RPG");
+            return counts(Map.of("RPG", 1L));
+        });
+
+        assertFalse(registry.seed());
+        assertFalse(registry.isSeeded());
+
+        // Reconciliação seguinte sem eventos concorrentes conclui a semeadura
+        when(jpaGameRepository.countGroupByGenre()).thenReturn(counts(Map.of("RPG", 11L)));
+        assertTrue(registry.seed());
+        assertTrue(registry.isSeeded());
+        assertEquals(11, registry.total());
+        assertEquals(11, registry.countByGenre("RPG"));
+    }
+
+    static List<GenreCount> counts(Map<String, Long> byGenre) {
+        return byGenre.entrySet().stream()
+                .map(entry -> (GenreCount) new GenreCount() {
+                    @Override
+                    public String getGenre() {
+                        return entry.getKey();
+                    }
+
+                    @Override
+                    public long getTotal() {
+                        return entry.getValue();
+                    }
+                })
+                .toList();
+    }
+}
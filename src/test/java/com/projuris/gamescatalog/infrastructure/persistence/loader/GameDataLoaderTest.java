@@ -0,0 +1,66 @@
+package com.projuris.gamescatalog.infrastructure.persistence.loader;
+
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class GameDataLoaderTest {
+
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final ApplicationProperties applicationProperties = new ApplicationProperties();
+    private final GameDataLoader loader = new GameDataLoader(gameRepository, applicationProperties);
+
+    @Test
+    void shouldSkipSeedingWhenCatalogIsNotEmpty() {
+        when(gameRepository.existsAny()).thenReturn(true);
+
+        loader.run();
+
+        verify(gameRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldSkipSeedingWhenDisabled() {
+        applicationProperties.getSeed().setEnabled(false);
+
+        loader.run();
+
+        verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSaveConfiguredCountInBatchesWithUniqueTitles() {
+        applicationProperties.getSeed().setCount(250);
+        applicationProperties.getSeed().setBatchSize(100);
+        applicationProperties.getSeed().setParallelism(2);
+
+        loader.run();
+
+        ArgumentCaptor<List<Game>> batches = ArgumentCaptor.forClass(List.class);
+        verify(gameRepository, times(3)).saveAll(batches.capture());
+        Set<String> titles = new HashSet<>();
+        int saved = 0;
+        for (List<Game> batch : batches.getAllValues()) {
+            saved += batch.size();
+            batch.forEach(game -> titles.add(game.getTitle()));
+        }
+        assertEquals(250, saved);
+        assertEquals(250, titles.size());
+    }
+}
@@ -0,0 +1,63 @@
+package com.projuris.gamescatalog.infrastructure.persistence.loader;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ZipfSamplerTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void shouldFollowZipfRankDistribution() {
+        int size = 10;
+        double exponent = 1.2;
+        ZipfSampler sampler = new ZipfSampler(size, exponent);
+        SplittableRandom random = new SplittableRandom(7);
+        int[] histogram = new int[size];
+        for (int i = 0; i < SAMPLES; i++) {
+            histogram[sampler.sample(random)]++;
+        }
+
+        double normalization = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            normalization += 1.0 / Math.pow(rank, exponent);
+        }
+        for (int rank = 1; rank <= size; rank++) {
+            double expected = 1.0 / Math.pow(rank, exponent) / normalization;
+            assertEquals(expected, histogram[rank - 1] / (double) SAMPLES, 0.01, "rank " + rank);
+        }
+    }
+
+    @Test
+    void shouldBeUniformWithZeroExponent() {
+        ZipfSampler sampler = new ZipfSampler(4, 0.0);
+        SplittableRandom random = new SplittableRandom(11);
+        int[] histogram = new int[4];
+        for (int i = 0; i < SAMPLES; i++) {
+            histogram[sampler.sample(random)]++;
+        }
+
+        for (int count : histogram) {
+            assertEquals(0.25, count / (double) SAMPLES, 0.01);
+        }
+    }
+
+    @Test
+    void shouldProduceSameSequenceForSameSeed() {
+        ZipfSampler sampler = new ZipfSampler(20, 1.0);
+
+        assertArrayEquals(sample(sampler, new SplittableRandom(42)), sample(sampler, new SplittableRandom(42)));
+    }
+
+    private static int[] sample(ZipfSampler sampler, SplittableRandom random) {
+        int[] values = new int[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sampler.sample(random);
+        }
+        return values;
+    }
+}
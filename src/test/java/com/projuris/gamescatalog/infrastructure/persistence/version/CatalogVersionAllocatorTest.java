@@ -0,0 +1,46 @@
+package com.projuris.gamescatalog.infrastructure.persistence.version;
+
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaGameRepository;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaGameTombstoneRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogVersionAllocatorTest {
+
+    @Test
+    void shouldKeepSafeVersionBelowOpenTransactions() {
+        JpaGameRepository games = mock(JpaGameRepository.class);
+        JpaGameTombstoneRepository tombstones = mock(JpaGameTombstoneRepository.class);
+        when(games.findMaxCatalogVersion()).thenReturn(10L);
+        when(tombstones.findMaxCatalogVersion()).thenReturn(12L);
+        CatalogVersionAllocator allocator = new CatalogVersionAllocator(games, tombstones, new SimpleMeterRegistry());
+        allocator.seed();
+        assertEquals(12, allocator.safeVersion());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertEquals(13, allocator.next());
+            assertEquals(14, allocator.next());
+            // Escrita fora de transação (já confirmada) depois da transação aberta
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            assertEquals(15, allocator.next());
+            assertEquals(12, allocator.safeVersion());
+
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            assertEquals(15, allocator.safeVersion());
+        } finally {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.projuris.gamescatalog.infrastructure.readmodel;
+
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogReadModelTest {
+
+    private static final String[] GENRES = { "RPG", "Action", "Puzzle" };
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final CatalogReadModel readModel = new CatalogReadModel(new ApplicationProperties());
+    // Modelo de referência: estado esperado do catálogo
+    private final TreeMap<Long, Game> expected = new TreeMap<>();
+
+    @BeforeEach
+    void setUp() {
+        readModel.onRebuildStarted();
+        readModel.onRebuildCompleted();
+    }
+
+    @Test
+    void shouldPageOverLiveGamesAfterDeletes() {
+        for (long id = 1; id <= 10; id++) {
+            upsert(game(id, GENRES[(int) (id % GENRES.length)], 0));
+        }
+        delete(2L);
+        delete(3L);
+        delete(7L);
+
+        assertEquals(List.of(1L, 4L, 5L), ids(readModel.findAll(0, 3)));
+        assertEquals(List.of(6L, 8L, 9L), ids(readModel.findAll(1, 3)));
+        assertEquals(List.of(10L), ids(readModel.findAll(2, 3)));
+        assertEquals(List.of(4L, 5L), ids(readModel.findAllAfter(1L, 2)));
+        assertEquals(List.of(8L), ids(readModel.findAllAfter(6L, 1)));
+        assertEquals(Optional.empty(), readModel.findUpdatedAt(7L));
+        assertEquals(7, readModel.size());
+    }
+
+    @Test
+    void shouldReviveDeletedSlotWhenGameReappears() {
+        upsert(game(1L, "RPG", 0));
+        upsert(game(2L, "RPG", 0));
+        delete(1L);
+        upsert(game(1L, "Action", 1));
+
+        assertEquals(List.of(1L, 2L), ids(readModel.findAll(0, 10)));
+        assertEquals(List.of(1L), ids(readModel.findByGenre("Action", 0, 10)));
+        assertEquals(List.of(2L), ids(readModel.findByGenre("RPG", 0, 10)));
+        assertEquals(Optional.of(BASE.plusSeconds(1)), readModel.findUpdatedAt(1L));
+    }
+
+    @Test
+    void shouldKeepPagingCorrectAcrossCompaction() {
+        for (long id = 1; id <= 3000; id++) {
+            upsert(game(id, GENRES[(int) (id % GENRES.length)], 0));
+        }
+        // Remove 2 de cada 3: passa do limite e compacta no meio das remoções
+        for (long id = 1; id <= 3000; id++) {
+            if (id % 3 != 0) {
+                delete(id);
+            }
+        }
+        upsert(game(3001L, "RPG", 0));
+
+        assertConsistent();
+        assertEquals(List.of(3L, 6L, 9L), ids(readModel.findAll(0, 3)));
+        assertEquals(List.of(3000L, 3001L), ids(readModel.findAllAfter(2997L, 5)));
+    }
+
+    @Test
+    void shouldMatchReferenceModelAcrossInsertsUpdatesDeletesAndCompactions() {
+        SplittableRandom random = new SplittableRandom(2024);
+        long nextId = 1;
+        for (int step = 0; step < 20_000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || expected.isEmpty()) {
+                upsert(game(nextId++, GENRES[random.nextInt(GENRES.length)], step));
+            } else if (operation < 7) {
+                long id = randomExistingId(random);
+                upsert(game(id, GENRES[random.nextInt(GENRES.length)], step));
+            } else if (operation < 9) {
+                delete(randomExistingId(random));
+            } else {
+                // Inserção fora de ordem de ID (ex: ID removido que reaparece)
+                upsert(game(1 + random.nextLong(nextId), GENRES[random.nextInt(GENRES.length)], step));
+            }
+            if (step % 1000 == 999) {
+                assertConsistent();
+            }
+        }
+        assertTrue(expected.size() > 1000);
+        assertConsistent();
+    }
+
+    private void assertConsistent() {
+        assertEquals(expected.size(), readModel.size());
+        List<Long> all = new ArrayList<>(expected.keySet());
+
+        int pageSize = 97;
+        for (int page = 0; page * pageSize < all.size() + pageSize; page++) {
+            List<Long> expectedPage = all.subList(Math.min(all.size(), page * pageSize),
+                    Math.min(all.size(), (page + 1) * pageSize));
+            assertEquals(expectedPage, ids(readModel.findAll(page, pageSize)), "page " + page);
+        }
+
+        List<Long> cursorWalk = new ArrayList<>();
+        long after = 0;
+        List<GameResponseDTO> chunk;
+        while (!(chunk = readModel.findAllAfter(after, pageSize)).isEmpty()) {
+            cursorWalk.addAll(ids(chunk));
+            after = chunk.get(chunk.size() - 1).getId();
+        }
+        assertEquals(all, cursorWalk);
+
+        for (String genre : GENRES) {
+            List<Long> genreIds = expected.values().stream()
+                    .filter(game -> game.getGenre().equals(genre))
+                    .map(Game::getId)
+                    .toList();
+            assertEquals(genreIds, ids(readModel.findByGenre(genre, 0, Integer.MAX_VALUE)), genre);
+            if (genreIds.size() > 2) {
+                assertEquals(genreIds.subList(2, Math.min(genreIds.size(), 12)),
+                        ids(readModel.findByGenreAfter(genre, genreIds.get(1), 10)), genre);
+            }
+        }
+
+        for (Game game : expected.values()) {
+            assertEquals(Optional.of(game.getUpdatedAt()), readModel.findUpdatedAt(game.getId()));
+        }
+        GameResponseDTO first = readModel.findAll(0, 1).get(0);
+        Game firstExpected = expected.firstEntry().getValue();
+        assertEquals(firstExpected.getTitle(), first.getTitle());
+        assertEquals(firstExpected.getGenre(), first.getGenre());
+    }
+
+    private long randomExistingId(SplittableRandom random) {
+        Long id = expected.ceilingKey(1 + random.nextLong(expected.lastKey()));
+        return id != null ? id : expected.firstKey();
+    }
+
+    private void upsert(Game game) {
+        expected.put(game.getId(), game);
+        readModel.onUpsert(game);
+    }
+
+    private void delete(Long id) {
+        expected.remove(id);
+        readModel.onDelete(id);
+    }
+
+    private static Game game(long id, String genre, int version) {
+        return Game.reconstruct(id, "Game " + id + " v" + version, "Desc", "Dev", "Pub", genre, 2020, 10.0,
+                BASE, BASE.plusSeconds(version));
+    }
+
+    private static List<Long> ids(List<GameResponseDTO> games) {
+        return games.stream().map(GameResponseDTO::getId).toList();
+    }
+}
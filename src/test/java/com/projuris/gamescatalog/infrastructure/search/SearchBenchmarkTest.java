@@ -0,0 +1,72 @@
+package com.projuris.gamescatalog.infrastructure.search;
+
+import com.projuris.gamescatalog.application.port.SearchHits;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaGameRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark do índice de busca em memória contra a busca LIKE no banco
+ * Não roda no build padrão: mvn test -Pbenchmark [-Dbenchmark.rows=1000000]
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "app.seed.count=${benchmark.rows:1000000}",
+        "app.seed.batch-size=5000",
+        "logging.level.com.projuris=WARN"
+})
+@ActiveProfiles("test")
+@Slf4j
+class SearchBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+    private static final List<String> QUERIES = List.of("witcher", "souls", "rpg", "incrível jogo");
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private JpaGameRepository jpaGameRepository;
+
+    @Test
+    void compareIndexWithDatabaseLike() {
+        assertTrue(searchIndex.isAvailable());
+        long rows = jpaGameRepository.count();
+
+        StringBuilder report = new StringBuilder("\nBusca textual - ").append(rows).append(" games\n");
+        report.append(String.format("%-16s %12s %12s %10s%n", "query", "índice (ms)", "LIKE (ms)", "hits"));
+        for (String query : QUERIES) {
+            SearchHits hits = searchIndex.search(query, 0, 20);
+            double indexMs = measure(() -> searchIndex.search(query, 0, 20).getTotalHits());
+            double likeMs = measure(() -> jpaGameRepository.searchByText(query, PageRequest.of(0, 20))
+                    .getTotalElements());
+            report.append(String.format("%-16s %12.3f %12.3f %10d%n", query, indexMs, likeMs, hits.getTotalHits()));
+        }
+        log.warn(report.toString());
+    }
+
+    private static double measure(LongSupplier operation) {
+        long blackhole = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            blackhole += operation.getAsLong();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            blackhole += operation.getAsLong();
+        }
+        double averageMs = (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ITERATIONS;
+        assertTrue(blackhole >= 0);
+        return averageMs;
+    }
+}
@@ -0,0 +1,88 @@
+package com.projuris.gamescatalog.infrastructure.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark de latência do autocomplete (percentis sob carga concorrente)
+ * Não roda no build padrão: mvn test -Pbenchmark [-Dbenchmark.rows=1000000]
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "app.seed.count=${benchmark.rows:1000000}",
+        "app.seed.batch-size=5000",
+        "logging.level.com.projuris=WARN"
+})
+@ActiveProfiles("test")
+@Slf4j
+class SuggestBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 100_000;
+    private static final List<String> PREFIXES = List.of("t", "th", "the", "the w", "the wit", "h", "ha", "had",
+            "sp", "spider", "spider m", "re", "resident evil", "d", "da", "dark s", "f", "fi", "fifa", "elden r");
+
+    @Autowired
+    private TitleSuggester titleSuggester;
+
+    @Test
+    void measureSuggestLatency() throws Exception {
+        assertTrue(titleSuggester.isAvailable());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            run(executor);
+            long start = System.nanoTime();
+            long[] latencies = run(executor);
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            Arrays.sort(latencies);
+            log.warn(String.format("%nAutocomplete - %d consultas em %d threads: %.0f consultas/s, "
+                            + "p50=%.1f us, p99=%.1f us, p99.9=%.1f us%n",
+                    latencies.length, THREADS, latencies.length / elapsedSeconds,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long[] run(ExecutorService executor) throws Exception {
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[REQUESTS_PER_THREAD];
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    String prefix = PREFIXES.get(random.nextInt(PREFIXES.size()));
+                    long start = System.nanoTime();
+                    titleSuggester.suggest(prefix, 10);
+                    latencies[i] = System.nanoTime() - start;
+                }
+                return latencies;
+            }));
+        }
+        long[] all = new long[THREADS * REQUESTS_PER_THREAD];
+        for (int t = 0; t < THREADS; t++) {
+            System.arraycopy(futures.get(t).get(), 0, all, t * REQUESTS_PER_THREAD, REQUESTS_PER_THREAD);
+        }
+        return all;
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        return sortedNanos[(int) Math.min(sortedNanos.length - 1, sortedNanos.length * percentile)] / 1000.0;
+    }
+}
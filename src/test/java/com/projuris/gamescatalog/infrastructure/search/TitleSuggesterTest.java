@@ -0,0 +1,86 @@
+package com.projuris.gamescatalog.infrastructure.search;
+
+import com.projuris.gamescatalog.application.dto.GameSuggestionDTO;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TitleSuggesterTest {
+
+    private final TitleSuggester titleSuggester = new TitleSuggester(new ApplicationProperties());
+
+    @Test
+    void shouldInvalidateMemoizedPrefixOnRenameAndDelete() {
+        titleSuggester.onRebuildStarted();
+        titleSuggester.onUpsert(game(1L, "Hades"));
+        titleSuggester.onUpsert(game(2L, "Halo"));
+        titleSuggester.onRebuildCompleted();
+        assertEquals(List.of(1L, 2L), ids(titleSuggester.suggest("ha", 10)));
+
+        titleSuggester.onUpsert(game(1L, "Doom"));
+        assertEquals(List.of(2L), ids(titleSuggester.suggest("ha", 10)));
+
+        titleSuggester.onDelete(2L);
+        assertEquals(List.of(), ids(titleSuggester.suggest("ha", 10)));
+    }
+
+    @Test
+    void shouldNotMemoizeTopKComputedDuringConcurrentWrites() throws Exception {
+        titleSuggester.onRebuildStarted();
+        titleSuggester.onRebuildCompleted();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 50; round++) {
+                AtomicBoolean running = new AtomicBoolean(true);
+                CountDownLatch started = new CountDownLatch(3);
+                Future<?> writer = executor.submit(() -> {
+                    started.countDown();
+                    for (int i = 0; i < 200; i++) {
+                        titleSuggester.onUpsert(game(1L, i % 2 == 0 ? "Alpha" : "Beta"));
+                        if (i % 3 == 0) {
+                            titleSuggester.onDelete(1L);
+                        }
+                    }
+                    running.set(false);
+                });
+                for (int reader = 0; reader < 2; reader++) {
+                    executor.submit(() -> {
+                        started.countDown();
+                        while (running.get()) {
+                            titleSuggester.suggest("al", 5);
+                        }
+                    });
+                }
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+                writer.get(5, TimeUnit.SECONDS);
+
+                // Após as escritas o top-k memorizado deve refletir o estado final (i = 199: "Beta")
+                assertEquals(List.of(), ids(titleSuggester.suggest("al", 5)), "round " + round);
+                assertEquals(List.of(1L), ids(titleSuggester.suggest("be", 5)), "round " + round);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Game game(Long id, String title) {
+        return Game.reconstruct(id, title, "Desc", "Dev", "Pub", "Action", 2020, 10.0,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static List<Long> ids(List<GameSuggestionDTO> suggestions) {
+        return suggestions.stream().map(GameSuggestionDTO::getId).toList();
+    }
+}
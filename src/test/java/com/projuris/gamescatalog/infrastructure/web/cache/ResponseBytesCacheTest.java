@@ -0,0 +1,82 @@
+package com.projuris.gamescatalog.infrastructure.web.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.infrastructure.config.ApplicationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseBytesCacheTest {
+
+    private final ResponseBytesCache cache = new ResponseBytesCache(new ApplicationProperties(),
+            new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry());
+
+    @Test
+    void shouldDiscardOnlyResponsesOfTheInvalidatedGame() {
+        long firstGeneration = cache.gameGeneration(1L);
+        long secondGeneration = cache.gameGeneration(2L);
+        long pageGeneration = cache.pageGeneration();
+
+        cache.onUpsert(Game.reconstruct(1L, "A", "Desc", "Dev", "Pub",
+                "RPG", 2020, 10.0, null, null));
+        cache.putGame(game(1L), firstGeneration);
+        cache.putGame(game(2L), secondGeneration);
+        cache.putPage("|0|20", List.of(), pageGeneration);
+
+        assertNull(cache.getGame(1L, null));
+        assertNotNull(cache.getGame(2L, null));
+        // Páginas só são descartadas uma vez por evento, em onChangesApplied
+        assertNotNull(cache.getPage("|0|20"));
+        cache.onChangesApplied();
+        assertNull(cache.getPage("|0|20"));
+    }
+
+    @Test
+    void shouldNotStoreResponsesWhileRebuilding() {
+        cache.onRebuildStarted();
+        cache.putGame(game(1L), cache.gameGeneration(1L));
+        assertNull(cache.getGame(1L, null));
+
+        cache.onRebuildCompleted();
+        cache.putGame(game(1L), cache.gameGeneration(1L));
+        assertNotNull(cache.getGame(1L, null));
+    }
+
+    @Test
+    void shouldHonourAcceptEncodingQualityValues() {
+        assertTrue(ResponseBytesCache.acceptsGzip("gzip"));
+        assertTrue(ResponseBytesCache.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(ResponseBytesCache.acceptsGzip("br;q=1.0, *;q=0.1"));
+        assertFalse(ResponseBytesCache.acceptsGzip(null));
+        assertFalse(ResponseBytesCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseBytesCache.acceptsGzip("gzip;q=0.000, *"));
+        assertFalse(ResponseBytesCache.acceptsGzip("*;q=0"));
+        assertFalse(ResponseBytesCache.acceptsGzip("identity, deflate"));
+    }
+
+    @Test
+    void shouldNegotiateJsonContentType() {
+        assertEquals(MediaType.APPLICATION_JSON, ResponseBytesCache.negotiateContentType(null));
+        assertEquals(MediaType.APPLICATION_JSON, ResponseBytesCache.negotiateContentType("*/*"));
+        assertEquals(MediaType.APPLICATION_JSON, ResponseBytesCache.negotiateContentType("text/html, application/*;q=0.8"));
+        assertEquals(MediaType.parseMediaType("application/vnd.games+json"),
+                ResponseBytesCache.negotiateContentType("application/json;q=0.5, application/vnd.games+json"));
+        assertEquals(MediaType.APPLICATION_JSON, ResponseBytesCache.negotiateContentType("application/vnd.games+json;q=0, */*"));
+        assertEquals(MediaType.APPLICATION_JSON, ResponseBytesCache.negotiateContentType("não é um tipo"));
+    }
+
+    private static GameResponseDTO game(long id) {
+        return new GameResponseDTO(id, "Game " + id, "Desc", "Dev", "Pub", "RPG", 2020, 10.0, null, null);
+    }
+}
@@ -1,16 +1,51 @@
 package com.projuris.gamescatalog.infrastructure.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projuris.gamescatalog.application.dto.FacetsDTO;
 import com.projuris.gamescatalog.application.dto.GameRequestDTO;
+import com.projuris.gamescatalog.application.dto.GameResponseDTO;
+import com.projuris.gamescatalog.application.facet.PriceRanges;
+import com.projuris.gamescatalog.application.usecase.CreateGameUseCase;
+import com.projuris.gamescatalog.application.usecase.UpdateGameUseCase;
+import com.projuris.gamescatalog.domain.events.GameCreatedEvent;
+import com.projuris.gamescatalog.domain.events.GameDeletedEvent;
+import com.projuris.gamescatalog.domain.events.GameUpdatedEvent;
+import com.projuris.gamescatalog.domain.model.Game;
+import com.projuris.gamescatalog.domain.model.GameAttribute;
+import com.projuris.gamescatalog.domain.model.GameFilter;
+import com.projuris.gamescatalog.domain.repository.GameRepository;
+import com.projuris.gamescatalog.infrastructure.changefeed.GameChangeFeed;
+import com.projuris.gamescatalog.infrastructure.config.CacheConfig;
+import com.projuris.gamescatalog.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import com.projuris.gamescatalog.infrastructure.web.cache.ResponseBytesCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -26,6 +61,30 @@ class GameControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private GameChangeFeed gameChangeFeed;
+
+    @Autowired
+    private ResponseBytesCache responseBytesCache;
+
+    @Autowired
+    private CreateGameUseCase createGameUseCase;
+
+    @Autowired
+    private UpdateGameUseCase updateGameUseCase;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JpaOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
     @Test
     void shouldCreateGameSuccessfully() throws Exception {
         GameRequestDTO request = new GameRequestDTO(
@@ -63,6 +122,53 @@ class GameControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void shouldCreateGamesInBatch() throws Exception {
+        List<GameRequestDTO> requests = List.of(
+                new GameRequestDTO("Batch Game 1", "Desc 1", "Dev 1", "Pub 1", "Action", 2020, 50.0),
+                new GameRequestDTO("Batch Game 2", "Desc 2", "Dev 2", "Pub 2", "RPG", 2021, 60.0));
+
+        mockMvc.perform(post("/api/games/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[1].title").value("Batch Game 2"));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenBatchHasInvalidGame() throws Exception {
+        List<GameRequestDTO> requests = List.of(
+                new GameRequestDTO("Batch Game 1", "Desc 1", "Dev 1", "Pub 1", "Action", 2020, 50.0),
+                new GameRequestDTO("", "Desc 2", "Dev 2", "Pub 2", "RPG", 2021, 60.0));
+
+        mockMvc.perform(post("/api/games/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldImportGamesFromNdjson() throws Exception {
+        String body = String.join("\n",
+                objectMapper.writeValueAsString(new GameRequestDTO(
+                        "Imported Game 1", "Desc", "Dev", "Pub", "RPG", 2020, 50.0)),
+                objectMapper.writeValueAsString(new GameRequestDTO(
+                        "", "Desc", "Dev", "Pub", "RPG", 2020, 50.0)),
+                objectMapper.writeValueAsString(new GameRequestDTO(
+                        "Imported Game 2", "Desc", "Dev", "Pub", "Action", 2021, 60.0)));
+
+        mockMvc.perform(post("/api/games/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalLines").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2));
+    }
+
     @Test
     void shouldGetGameByIdSuccessfully() throws Exception {
         GameRequestDTO createRequest = new GameRequestDTO(
@@ -95,6 +201,88 @@ class GameControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenGameETagMatches() throws Exception {
+        // Game carregado na inicialização: o 304 vem do modelo de leitura
+        String page = mockMvc.perform(get("/api/games").param("size", "1"))
+                .andReturn().getResponse().getContentAsString();
+        long seededId = objectMapper.readTree(page).get("content").get(0).get("id").asLong();
+
+        MvcResult first = mockMvc.perform(get("/api/games/{id}", seededId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+        assertTrue(etag.startsWith("\"" + seededId + "-"));
+
+        mockMvc.perform(get("/api/games/{id}", seededId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        // Game criado na transação do teste (fora do modelo): o 304 vem após o use case
+        GameRequestDTO request = new GameRequestDTO(
+                "Hades", "Roguelike", "Supergiant", "Supergiant", "Action", 2020, 80.0);
+        String created = mockMvc.perform(post("/api/games")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andReturn().getResponse().getContentAsString();
+        long createdId = objectMapper.readTree(created).get("id").asLong();
+
+        String createdEtag = mockMvc.perform(get("/api/games/{id}", createdId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/games/{id}", createdId).header("If-None-Match", createdEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/games/{id}", createdId).header("If-None-Match", "\"outro\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Hades"));
+    }
+
+    @Test
+    void shouldServeValidatorsMatchingBodyWhenGameByIdIsStale() throws Exception {
+        String page = mockMvc.perform(get("/api/games").param("size", "1"))
+                .andReturn().getResponse().getContentAsString();
+        long seededId = objectMapper.readTree(page).get("content").get(0).get("id").asLong();
+        String etag = mockMvc.perform(get("/api/games/{id}", seededId))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Cópia antiga em gameById (versão diferente da do modelo de leitura)
+        GameResponseDTO stale = objectMapper.readValue(mockMvc.perform(get("/api/games/{id}", seededId))
+                .andReturn().getResponse().getContentAsString(), GameResponseDTO.class);
+        String title = stale.getTitle();
+        stale.setTitle("Versão antiga");
+        stale.setUpdatedAt(stale.getUpdatedAt().minusDays(1));
+        cacheManager.getCache(CacheConfig.GAME_BY_ID_CACHE).put(seededId, stale);
+        responseBytesCache.invalidateGame(seededId);
+
+        mockMvc.perform(get("/api/games/{id}", seededId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$.title").value(title));
+        GameResponseDTO reloaded = cacheManager.getCache(CacheConfig.GAME_BY_ID_CACHE)
+                .get(seededId, GameResponseDTO.class);
+        assertEquals(title, reloaded.getTitle());
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenListETagMatches() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/games").param("page", "0").param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+        assertTrue(etag.startsWith("W/\""));
+
+        mockMvc.perform(get("/api/games").param("page", "0").param("size", "5").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/games").param("after", "").param("size", "5")
+                        .header("If-Modified-Since", first.getResponse().getHeader("Last-Modified")))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void shouldListAllGames() throws Exception {
         GameRequestDTO game1 = new GameRequestDTO(
@@ -120,6 +308,193 @@ class GameControllerIntegrationTest {
                 .andExpect(jsonPath("$.totalElements").exists());
     }
 
+    @Test
+    void shouldListGamesByCursor() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/games").param("after", "").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+        long lastId = objectMapper.readTree(firstPage).get("content").get(4).get("id").asLong();
+
+        mockMvc.perform(get("/api/games")
+                .param("after", nextCursor)
+                .param("size", "5")
+                .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(greaterThan((int) lastId)))
+                .andExpect(jsonPath("$.totalElements").exists());
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/api/games").param("after", "cursor-invalido"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldSearchGamesIgnoringAccents() throws Exception {
+        // As descrições geradas pelo GameDataLoader contêm "incrível"
+        mockMvc.perform(get("/api/games/search").param("q", "INCRIVEL").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.totalElements").value(greaterThan(0)));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenSearchQueryIsBlank() throws Exception {
+        mockMvc.perform(get("/api/games/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldSuggestTitlesByPrefix() throws Exception {
+        String page = mockMvc.perform(get("/api/games").param("size", "1"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String title = objectMapper.readTree(page).get("content").get(0).get("title").asText();
+        String prefix = title.substring(0, 3).toUpperCase();
+
+        String response = mockMvc.perform(get("/api/games/suggest").param("prefix", prefix).param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(greaterThan(0)))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        objectMapper.readTree(response).forEach(suggestion -> assertTrue(
+                suggestion.get("title").asText().toUpperCase().startsWith(prefix)));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenSuggestLimitIsTooLarge() throws Exception {
+        mockMvc.perform(get("/api/games/suggest").param("prefix", "the").param("limit", "500"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldCountFacetsForFilter() throws Exception {
+        String all = mockMvc.perform(get("/api/games/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(greaterThan(0)))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String genre = objectMapper.readTree(all).get("genres").fieldNames().next();
+        long genreCount = objectMapper.readTree(all).get("genres").get(genre).asLong();
+
+        mockMvc.perform(get("/api/games/facets").param("genre", genre))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(genreCount))
+                .andExpect(jsonPath("$.genres.length()").value(1));
+    }
+
+    @Test
+    void shouldMatchFacetIndexWithGroupedRepositoryCounts() throws Exception {
+        GameFilter filter = new GameFilter(null, null, null, 2000, null, null, null);
+        FacetsDTO indexed = objectMapper.readValue(mockMvc.perform(get("/api/games/facets").param("yearFrom", "2000"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), FacetsDTO.class);
+
+        assertEquals(indexed.getTotal(), gameRepository.countMatching(filter));
+        assertEquals(indexed.getGenres(), gameRepository.countMatchingGroupedBy(filter, GameAttribute.GENRE));
+        assertEquals(indexed.getPublishers(),
+                gameRepository.countMatchingGroupedBy(filter, GameAttribute.PUBLISHER));
+        assertEquals(indexed.getReleaseYears(), gameRepository.countMatchingGroupedByReleaseYear(filter));
+        Map<Integer, Long> priceRanges = gameRepository.countMatchingGroupedByPriceRange(filter,
+                PriceRanges.upperBounds());
+        for (int range = 0; range < PriceRanges.count(); range++) {
+            assertEquals(indexed.getPriceRanges().get(PriceRanges.label(range)), priceRanges.get(range));
+        }
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenFacetYearRangeIsInverted() throws Exception {
+        mockMvc.perform(get("/api/games/facets").param("yearFrom", "2020").param("yearTo", "2010"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldFilterGamesByDeveloperAndPriceRange() throws Exception {
+        GameRequestDTO cheap = new GameRequestDTO(
+                "Filtro Barato", "Desc", "Estúdio Filtro", "Pub Filtro", "Puzzle", 2019, 19.90);
+        GameRequestDTO expensive = new GameRequestDTO(
+                "Filtro Caro", "Desc", "Estúdio Filtro", "Pub Filtro", "Puzzle", 2021, 149.90);
+        mockMvc.perform(post("/api/games/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(cheap, expensive))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/games")
+                .param("developer", "Estúdio Filtro")
+                .param("priceMin", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Filtro Caro"));
+
+        mockMvc.perform(get("/api/games")
+                .param("genre", "Puzzle")
+                .param("yearFrom", "2018")
+                .param("yearTo", "2020")
+                .param("publisher", "Pub Filtro"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Filtro Barato"));
+    }
+
+    @Test
+    void shouldRejectFiltersWithoutIndexedCriteria() throws Exception {
+        mockMvc.perform(get("/api/games").param("publisher", "Pub Filtro"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/games").param("priceMin", "10").param("priceMax", "20"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/games").param("yearFrom", "1990").param("yearTo", "2024"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldExportGamesAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/games/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertTrue(lines.length > 0);
+        assertTrue(objectMapper.readTree(lines[0]).has("id"));
+    }
+
+    @Test
+    void shouldExportOnlyGamesMatchingFilters() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/games/export")
+                .param("genre", "RPG")
+                .param("updatedSince", "2000-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        for (String line : result.getResponse().getContentAsString().split("\n")) {
+            if (!line.isBlank()) {
+                assertEquals("RPG", objectMapper.readTree(line).get("genre").asText());
+            }
+        }
+    }
+
     @Test
     void shouldUpdateGameSuccessfully() throws Exception {
         GameRequestDTO createRequest = new GameRequestDTO(
@@ -147,6 +522,208 @@ class GameControllerIntegrationTest {
                 .andExpect(jsonPath("$.genre").value("RPG"));
     }
 
+    @Test
+    // O cache de bytes é invalidado após o commit
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldServeCachedResponseBytesAndInvalidateOnUpdate() throws Exception {
+        GameRequestDTO createRequest = new GameRequestDTO(
+                "Cached Game", "Desc", "Dev 1", "Pub 1", "Action", 2020, 50.0);
+        long gameId = createGame(createRequest);
+        try {
+            mockMvc.perform(get("/api/games/{id}", gameId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.title").value("Cached Game"));
+            mockMvc.perform(get("/api/games/{id}", gameId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Vary", "Accept-Encoding"))
+                    .andExpect(jsonPath("$.title").value("Cached Game"));
+
+            GameRequestDTO updateRequest = new GameRequestDTO(
+                    "Cached Game v2", "Desc", "Dev 1", "Pub 1", "Action", 2020, 50.0);
+            mockMvc.perform(put("/api/games/{id}", gameId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(updateRequest)))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/games/{id}", gameId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.title").value("Cached Game v2"));
+        } finally {
+            mockMvc.perform(delete("/api/games/{id}", gameId));
+        }
+        awaitOutboxDrained();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldEvictGameByIdAgainAfterCommit() throws Exception {
+        Cache gameById = cacheManager.getCache(CacheConfig.GAME_BY_ID_CACHE);
+        long gameId = createGame(new GameRequestDTO("Commit A", "Desc", "Dev", "Pub", "Puzzle", 2020, 10.0));
+        try {
+            GameResponseDTO committed = gameById.get(gameId, GameResponseDTO.class);
+            transactionTemplate.executeWithoutResult(status -> {
+                updateGameUseCase.execute(gameId,
+                        new GameRequestDTO("Commit B", "Desc", "Dev", "Pub", "Puzzle", 2020, 10.0));
+                // Leitura concorrente antes do commit recarrega a versão ainda confirmada
+                gameById.put(gameId, committed);
+            });
+
+            assertNull(gameById.get(gameId));
+            mockMvc.perform(get("/api/games/{id}", gameId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.title").value("Commit B"));
+        } finally {
+            mockMvc.perform(delete("/api/games/{id}", gameId));
+        }
+        awaitOutboxDrained();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldEvictListingsAgainAfterCreateCommits() throws Exception {
+        Cache gamesByGenre = cacheManager.getCache(CacheConfig.GAMES_BY_GENRE_CACHE);
+        GameResponseDTO created = transactionTemplate.execute(status -> {
+            GameResponseDTO response = createGameUseCase.execute(
+                    new GameRequestDTO("Commit C", "Desc", "Dev", "Pub", "Puzzle", 2020, 10.0));
+            // Leitura concorrente antes do commit recarrega a listagem sem o game novo
+            gamesByGenre.put("Puzzle", List.of());
+            return response;
+        });
+        try {
+            assertNull(gamesByGenre.get("Puzzle"));
+        } finally {
+            mockMvc.perform(delete("/api/games/{id}", created.getId()));
+        }
+        awaitOutboxDrained();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldWriteCreatedGameToGameByIdOnlyAfterCommit() throws Exception {
+        Cache gameById = cacheManager.getCache(CacheConfig.GAME_BY_ID_CACHE);
+        GameResponseDTO rolledBack = transactionTemplate.execute(status -> {
+            GameResponseDTO response = createGameUseCase.execute(
+                    new GameRequestDTO("Rollback A", "Desc", "Dev", "Pub", "Puzzle", 2020, 10.0));
+            status.setRollbackOnly();
+            return response;
+        });
+        assertNull(gameById.get(rolledBack.getId()));
+
+        GameResponseDTO committed = transactionTemplate.execute(status -> createGameUseCase.execute(
+                new GameRequestDTO("Rollback B", "Desc", "Dev", "Pub", "Puzzle", 2020, 10.0)));
+        try {
+            assertEquals("Rollback B", gameById.get(committed.getId(), GameResponseDTO.class).getTitle());
+        } finally {
+            mockMvc.perform(delete("/api/games/{id}", committed.getId()));
+        }
+        awaitOutboxDrained();
+    }
+
+    @Test
+    void shouldInvalidateOnlyTouchedKeysOnWrite() throws Exception {
+        Cache gameById = cacheManager.getCache(CacheConfig.GAME_BY_ID_CACHE);
+        Cache gamesByGenre = cacheManager.getCache(CacheConfig.GAMES_BY_GENRE_CACHE);
+
+        long first = createGame(new GameRequestDTO("Key A", "Desc", "Dev", "Pub", "Puzzle", 2020, 10.0));
+        long second = createGame(new GameRequestDTO("Key B", "Desc", "Dev", "Pub", "Racing", 2020, 10.0));
+        // A gravação da criação em gameById só ocorre após o commit: carrega pela API
+        mockMvc.perform(get("/api/games/{id}", first)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/games/{id}", second)).andExpect(status().isOk());
+        assertNotNull(gameById.get(first));
+        assertNotNull(gameById.get(second));
+        gamesByGenre.put("Puzzle", List.of());
+        gamesByGenre.put("Racing", List.of());
+        gamesByGenre.put("Strategy", List.of());
+
+        mockMvc.perform(put("/api/games/{id}", second)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new GameRequestDTO("Key B", "Desc", "Dev", "Pub", "Strategy", 2020, 12.0))))
+                .andExpect(status().isOk());
+
+        assertNotNull(gameById.get(first));
+        assertNull(gameById.get(second));
+        assertNotNull(gamesByGenre.get("Puzzle"));
+        assertNull(gamesByGenre.get("Racing"));
+        assertNull(gamesByGenre.get("Strategy"));
+    }
+
+    @Test
+    void shouldExposeWeightedCacheStats() throws Exception {
+        long id = createGame(new GameRequestDTO("Stats", "Desc", "Dev", "Pub", "Puzzle", 2020, 10.0));
+        mockMvc.perform(get("/api/games/{id}", id)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/cachestats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.gameById.estimatedSize").value(greaterThan(0)))
+                .andExpect(jsonPath("$.gameById.weightedSize").value(greaterThan(0)))
+                .andExpect(jsonPath("$.gameById.maximumWeight").value(32L * 1024 * 1024))
+                .andExpect(jsonPath("$.gameById.hitCount").value(greaterThan(0)))
+                .andExpect(jsonPath("$.games.maximumWeight").value(64L * 1024 * 1024))
+                .andExpect(jsonPath("$.gamesByGenre").exists())
+                .andExpect(jsonPath("$.responseBytesGames").exists())
+                .andExpect(jsonPath("$.responseBytesPages").exists());
+    }
+
+    @Test
+    void shouldIncludeCacheWarmupInReadinessGroup() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components.cacheWarmup.status").value("UP"));
+    }
+
+    @Test
+    void shouldAnswerDeepSearchPageWithoutBreakingLaterSearches() throws Exception {
+        // Os títulos da carga são sorteados; "jogo" está na descrição de todos os games gerados
+        String first = mockMvc.perform(get("/api/games/search").param("q", "jogo").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isNotEmpty())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        mockMvc.perform(get("/api/games/search").param("q", "jogo")
+                        .param("page", String.valueOf(Integer.MAX_VALUE)).param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty());
+
+        mockMvc.perform(get("/api/games/search").param("q", "jogo").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(first, true));
+    }
+
+    @Test
+    void shouldNotGzipWhenQualityIsZero() throws Exception {
+        byte[] plain = mockMvc.perform(get("/api/games").param("page", "0").param("size", "20"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        MvcResult refused = mockMvc.perform(get("/api/games").param("page", "0").param("size", "20")
+                        .header("Accept-Encoding", "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+        assertArrayEquals(plain, refused.getResponse().getContentAsByteArray());
+    }
+
+    @Test
+    void shouldServeGzippedPageWhenAccepted() throws Exception {
+        byte[] plain = mockMvc.perform(get("/api/games").param("page", "0").param("size", "20"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        MvcResult gzipped = mockMvc.perform(get("/api/games").param("page", "0").param("size", "20")
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray()))) {
+            assertArrayEquals(plain, in.readAllBytes());
+        }
+    }
+
     @Test
     void shouldReturnNotFoundWhenUpdatingNonExistentGame() throws Exception {
         GameRequestDTO updateRequest = new GameRequestDTO(
@@ -245,4 +822,175 @@ class GameControllerIntegrationTest {
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void shouldResumeChangeStreamFromLastEventId() throws Exception {
+        Game game = Game.reconstruct(42L, "Hades", "Roguelike", "Supergiant", "Supergiant", "Action", 2020, 89.90,
+                LocalDateTime.now(), LocalDateTime.now());
+        // Os eventos só chegam ao barramento após o commit; aqui são publicados direto no feed. As três
+        // sequências são consecutivas mesmo que um evento de outro teste chegue ao feed ao mesmo tempo
+        long base = gameChangeFeed.publish(List.of(new GameCreatedEvent(game), new GameUpdatedEvent(game, "Action"),
+                new GameDeletedEvent(game))) - 3;
+
+        MvcResult result = mockMvc.perform(get("/api/games/changes/stream")
+                .header("Last-Event-ID", gameChangeFeed.eventId(base + 1)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // O id e os dados de um evento SSE são escritos separadamente: aguarda os dados do último
+        String body = awaitStreamContent(result, "\"type\":\"DELETED\"");
+        assertFalse(body.contains("id:" + gameChangeFeed.eventId(base + 1) + "\n"));
+        assertTrue(body.contains("id:" + gameChangeFeed.eventId(base + 2) + "\n"));
+        assertTrue(body.contains("id:" + gameChangeFeed.eventId(base + 3) + "\n"));
+        assertTrue(body.contains("\"type\":\"UPDATED\""));
+    }
+
+    @Test
+    void shouldSendResetWhenLastEventIdIsNotInReplayBuffer() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/games/changes/stream")
+                .header("Last-Event-ID", gameChangeFeed.eventId(gameChangeFeed.currentSequence() + 1000)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        awaitStreamContent(result, "event:reset");
+    }
+
+    @Test
+    void shouldSendResetWhenLastEventIdIsFromAnotherEpoch() throws Exception {
+        // Mesma sequência, emitida por uma instância anterior ao reinício
+        MvcResult result = mockMvc.perform(get("/api/games/changes/stream")
+                .header("Last-Event-ID", "0-" + gameChangeFeed.currentSequence()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitStreamContent(result, "event:reset");
+        assertTrue(body.contains("id:" + gameChangeFeed.eventId(gameChangeFeed.currentSequence())));
+    }
+
+    @Test
+    void shouldPaginateDeltaInVersionOrder() throws Exception {
+        String body = mockMvc.perform(get("/api/games/delta").param("since", "0").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(5))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.resyncRequired").value(false))
+                .andReturn().getResponse().getContentAsString();
+        var delta = objectMapper.readTree(body);
+        long lastVersion = delta.get("changed").get(4).get("version").asLong();
+        assertEquals(lastVersion, delta.get("nextSince").asLong());
+        assertTrue(delta.get("changed").get(0).get("version").asLong() < lastVersion);
+
+        mockMvc.perform(get("/api/games/delta").param("since", String.valueOf(lastVersion)).param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].version").value(greaterThan((int) lastVersion)));
+    }
+
+    @Test
+    void shouldNotExposeDeltaVersionsOfUncommittedWrites() throws Exception {
+        long current = objectMapper.readTree(mockMvc.perform(get("/api/games/delta").param("since", "0")
+                        .param("size", "1"))
+                .andReturn().getResponse().getContentAsString()).get("currentVersion").asLong();
+
+        // A transação do teste fica aberta: a escrita (e o tombstone) ainda não podem ser sincronizados
+        long id = createGame(new GameRequestDTO("Delta Game", "Descrição", "Dev", "Pub", "RPG", 2020, 10.0));
+        mockMvc.perform(delete("/api/games/" + id)).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/games/delta").param("since", String.valueOf(current)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").isEmpty())
+                .andExpect(jsonPath("$.deleted").isEmpty())
+                .andExpect(jsonPath("$.nextSince").value(current));
+    }
+
+    @Test
+    void shouldRequireResyncWhenDeltaVersionIsAhead() throws Exception {
+        mockMvc.perform(get("/api/games/delta").param("since", String.valueOf(Long.MAX_VALUE / 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resyncRequired").value(true));
+
+        mockMvc.perform(get("/api/games/delta").param("since", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldExposeMerkleTreeDownToTheGameHashes() throws Exception {
+        String body = mockMvc.perform(get("/api/games/merkle"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.algorithm").value("SHA-256"))
+                .andExpect(jsonPath("$.level").value(0))
+                .andExpect(jsonPath("$.gameCount").value(greaterThan(0)))
+                .andReturn().getResponse().getContentAsString();
+        var root = objectMapper.readTree(body);
+        int depth = root.get("depth").asInt();
+        long bucketSize = root.get("bucketSize").asLong();
+
+        // Desce pelo primeiro nó com games até o bucket e confere o hash da folha
+        var node = root;
+        long index = 0;
+        for (int level = 1; level <= depth; level++) {
+            int child = 0;
+            while (objectMapper.readTree(mockMvc.perform(get("/api/games/merkle/nodes/" + level + "/"
+                            + (index * root.get("fanOut").asLong() + child)))
+                    .andReturn().getResponse().getContentAsString()).get("gameCount").asLong() == 0) {
+                child++;
+            }
+            index = index * root.get("fanOut").asLong() + child;
+            node = objectMapper.readTree(mockMvc.perform(get("/api/games/merkle/nodes/" + level + "/" + index))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+        }
+        String bucket = mockMvc.perform(get("/api/games/merkle/buckets/" + index))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstId").value(index * bucketSize))
+                .andExpect(jsonPath("$.hash").value(node.get("hash").asText()))
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(node.get("gameCount").asInt(), objectMapper.readTree(bucket).get("entries").size());
+    }
+
+    @Test
+    void shouldReturnBadRequestForMerkleNodeOutsideTheTree() throws Exception {
+        mockMvc.perform(get("/api/games/merkle/nodes/99/0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/games/merkle/buckets/-1")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRemoveOutboxRowsOnceRelayed() throws Exception {
+        long gameId = createGame(new GameRequestDTO("Outbox A", "Desc", "Dev", "Pub", "Puzzle", 2020, 10.0));
+        try {
+            awaitOutboxDrained();
+        } finally {
+            mockMvc.perform(delete("/api/games/{id}", gameId));
+        }
+        awaitOutboxDrained();
+    }
+
+    // Testes que confirmam escritas aguardam a entrega: eventos atrasados chegariam ao feed nos testes seguintes
+    private void awaitOutboxDrained() throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (outboxEventRepository.count() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    private static String awaitStreamContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            body = result.getResponse().getContentAsString();
+        }
+        assertTrue(body.contains(expected), body);
+        return body;
+    }
+
+    private long createGame(GameRequestDTO request) throws Exception {
+        String body = mockMvc.perform(post("/api/games")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
 }